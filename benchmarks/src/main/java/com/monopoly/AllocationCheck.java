@@ -0,0 +1,74 @@
+/**
+ * Check that a headless turn allocates nothing
+ *
+ * @author Dale Urquhart
+ * @since 2026-10-19
+ */
+
+package com.monopoly;
+
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.profile.GCProfiler;
+
+/**
+ * Runs RulesBenchmark.steadyTurn with the GC profiler and fails unless a warm headless turn allocates nothing, so a
+ * change that brings garbage back into the turn loop (a message built for nobody, a list per call, a boxed choice)
+ * is caught before simulations start collecting again
+ * JMH's own bookkeeping shows up as a small fraction of a byte per turn, so anything under LIMIT counts as nothing;
+ * a single object every few hundred turns is over it
+ *
+ * Usage: java -cp ../../../../benchmarks/target/benchmarks.jar com.monopoly.AllocationCheck
+ *        Exits 1 if a turn allocates, run from main/src/main/java
+ */
+public final class AllocationCheck {
+
+    /**
+     * Bytes per turn below which a turn allocates nothing
+     */
+    private static final double LIMIT = 0.05;
+
+    /**
+     * Name of the GC profiler's allocation per operation result
+     */
+    private static final String NORM = "gc.alloc.rate.norm";
+
+    /**
+     * Not instantiated
+     */
+    private AllocationCheck() {
+    }
+
+    /**
+     * Main method for the check
+     * @param args unused
+     */
+    public static void main(String[] args) {
+        RunResult run;
+        try {
+            run = new Runner(new OptionsBuilder()
+                .include(RulesBenchmark.class.getName() + ".steadyTurn$")
+                .addProfiler(GCProfiler.class)
+                .build()).runSingle();
+        } catch (RunnerException e) {
+            System.err.println("Allocation check could not be run. Full message:\n" + e);
+            System.exit(2);
+            return;
+        }
+
+        Result<?> norm = run.getSecondaryResults().get(NORM);
+        if(norm == null) {
+            System.err.println("The GC profiler reported no allocation, is the JVM's allocation counting off?");
+            System.exit(2);
+        }
+        double bytes = Double.isNaN(norm.getScore()) ? 0 : norm.getScore();
+        System.out.printf("Headless turn: %.1f ns, %.4f bytes allocated%n", run.getPrimaryResult().getScore(), bytes);
+        if(bytes >= LIMIT) {
+            System.err.printf("A headless turn allocates %.4f bytes, expected none (under %.2f)%n", bytes, LIMIT);
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+/**
+ * Launcher of the benchmarks
+ *
+ * @author Dale Urquhart
+ * @since 2026-10-19
+ */
+
+package com.monopoly;
+
+import java.io.IOException;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks with JMH's usual command line, always with the GC profiler attached, so every result comes with
+ * the bytes allocated per operation (gc.alloc.rate.norm) next to its time
+ * The game reads its csv files relative to the working directory, so run it from main/src/main/java like the app
+ *
+ * Usage: java -jar ../../../../benchmarks/target/benchmarks.jar [JMH options] [benchmark regex]
+ *        e.g. -l to list them, RulesBenchmark.headlessTurn, or -rf json -rff baseline.json to keep a baseline
+ */
+public final class Benchmarks {
+
+    /**
+     * Not instantiated
+     */
+    private Benchmarks() {
+    }
+
+    /**
+     * Main method for the benchmarks
+     * @param args JMH command line options
+     */
+    public static void main(String[] args) {
+        try {
+            CommandLineOptions options = new CommandLineOptions(args);
+            Runner runner = new Runner(new OptionsBuilder().parent(options).addProfiler(GCProfiler.class).build());
+            if(options.shouldHelp()) {
+                options.showHelp();
+            } else if(options.shouldList()) {
+                runner.list();
+            } else if(options.shouldListWithParams()) {
+                runner.listWithParams(options);
+            } else {
+                runner.run();
+            }
+        } catch (CommandLineOptionException e) {
+            System.err.println("Bad benchmark options. Full message:\n" + e.getMessage());
+        } catch (IOException e) {
+            System.err.println("Benchmark options could not be shown. Full message:\n" + e);
+        } catch (RunnerException e) {
+            System.err.println("Benchmarks could not be run. Full message:\n" + e);
+        }
+    }
+}
@@ -0,0 +1,278 @@
+/**
+ * Benchmarks of the rules hot paths
+ *
+ * @author Dale Urquhart
+ * @since 2026-10-19
+ */
+
+package com.monopoly;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Times the engine's per-landing and per-turn work on a fixed board: rents, set checks, card draws and their effects,
+ * doubles, a whole headless turn, and building the board from its csv
+ * The board is the same on every run: one player owns the dark blues with two houses on Boardwalk, another three
+ * railroads, another the Electric Company, and the fourth owns nothing and does the renting
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RulesBenchmark {
+
+    /**
+     * Seed of the board's dice and cards
+     */
+    private static final long SEED = 42;
+
+    /**
+     * Turn cap of the games played by the headless turn benchmark
+     */
+    private static final int MAX_TURNS = 1000;
+
+    /**
+     * Rules of the steady game: players start rich enough to buy and build everything
+     */
+    private static final GameRules RICH = new GameRules(50, 200, 10_000_000, 0.1);
+
+    /**
+     * Turns between putting the steady game's balances back to where they started, long before rent could bankrupt
+     * a player or a winner's balance overflow
+     */
+    private static final int REBALANCE = 1024;
+
+    /**
+     * Board every benchmark but the turn and the map reads
+     */
+    private Game game;
+
+    /**
+     * Controller of the board
+     */
+    private GameController controller;
+
+    /**
+     * Developed street of a complete set
+     */
+    private Property street;
+
+    /**
+     * Railroad of an owner of three
+     */
+    private Railroad railroad;
+
+    /**
+     * Utility of an owner of one
+     */
+    private Utility utility;
+
+    /**
+     * Player paying rent
+     */
+    private Player renter;
+
+    /**
+     * First chance space
+     */
+    private CardManager chance;
+
+    /**
+     * Game at its first turn, copied whenever the turn benchmark's game ends
+     */
+    private Game start;
+
+    /**
+     * Game the turn benchmark plays
+     */
+    private Game playing;
+
+    /**
+     * Controller of the game the turn benchmark plays
+     */
+    private GameController playingController;
+
+    /**
+     * Games the turn benchmark started
+     */
+    private long games;
+
+    /**
+     * Game whose map is rebuilt
+     */
+    private Game rebuilt;
+
+    /**
+     * Game the steady turn benchmark plays, one that never ends
+     */
+    private Game steady;
+
+    /**
+     * Controller of the steady game
+     */
+    private GameController steadyController;
+
+    /**
+     * Turns the steady game played
+     */
+    private long steadyTurns;
+
+    /**
+     * Sets up the board and the games
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        game = Game.headless(new Random(SEED), GameRules.STANDARD, 4);
+        controller = new GameController(game);
+        Player sets = game.getPlayer(0), railroads = game.getPlayer(1), utilities = game.getPlayer(2);
+        renter = game.getPlayer(3);
+
+        sets.buy((Property) game.getSpace(37));
+        sets.buy((Property) game.getSpace(39));
+        street = (Property) game.getSpace(39);
+        street.buyDevelopment();
+        street.buyDevelopment();
+        for(int space : new int[] {5, 15, 25}) {
+            railroads.buy((Property) game.getSpace(space));
+        }
+        railroad = (Railroad) game.getSpace(25);
+        utilities.buy((Property) game.getSpace(12));
+        utility = (Utility) game.getSpace(12);
+        renter.setRoll(7);
+        chance = (CardManager) game.getSpace(7);
+
+        start = Game.headless(new Random(SEED), GameRules.STANDARD, 4);
+        playing = start.copy(new Random(SEED));
+        playingController = new GameController(playing);
+        rebuilt = new Game(new Random(SEED));
+        steady = Game.headless(new Random(SEED), RICH, 4);
+        steadyController = new GameController(steady);
+    }
+
+    /**
+     * Rent of a developed street
+     * @return the rent
+     */
+    @Benchmark
+    public int propertyGetRent() {
+        return street.getRent();
+    }
+
+    /**
+     * Rent of a railroad, counting the owner's railroads
+     * @return the rent
+     */
+    @Benchmark
+    public int railroadGetRent() {
+        return railroad.getRent();
+    }
+
+    /**
+     * Rent of a utility, counting the owner's utilities
+     * @return the rent
+     */
+    @Benchmark
+    public int utilityGetRent() {
+        return utility.getRent(renter);
+    }
+
+    /**
+     * Whether the owner of a street owns its whole set
+     * @return true, the dark blues are complete
+     */
+    @Benchmark
+    public boolean ownsSetFor() {
+        return street.getOwner().ownsSetFor(street);
+    }
+
+    /**
+     * Draws a chance card, reshuffling when the deck runs out
+     * @return the card
+     */
+    @Benchmark
+    public Card cardDraw() {
+        return chance.draw(game);
+    }
+
+    /**
+     * Draws a chance card and plays it for the current player, who is put back on the chance space afterwards
+     * @return the card
+     */
+    @Benchmark
+    public Card cardHandle() {
+        Player p = game.getCurrentPlayer();
+        Card card = chance.draw(game);
+        CardManager.handle(card, game, controller);
+        if(p.inJail()) {
+            game.getJail().removePlayer(p);
+        }
+        p.setLocation(chance);
+        return card;
+    }
+
+    /**
+     * Checks a roll that is not doubles
+     * @return 0, no doubles
+     */
+    @Benchmark
+    public int handleDoubles() {
+        game.getDice().setD1(3);
+        game.getDice().setD2(4);
+        return game.handleDoubles();
+    }
+
+    /**
+     * Plays one headless turn of a game between greedy bots, starting a new game once one ends
+     * Starting a game copies the board, so this allocates about one game's worth every few hundred turns
+     */
+    @Benchmark
+    public void headlessTurn() {
+        if(playing.getPlayerCount() < 2 || playing.getTurnsPlayed() >= MAX_TURNS) {
+            playing = start.copy(new Random(SEED + ++games));
+            playingController = new GameController(playing);
+        }
+        playing.playTurn(playingController);
+    }
+
+    /**
+     * Plays one headless turn of a game that never ends, so no game is ever started in the measurement
+     * Once warm, the whole roll, move, landing and next player path allocates nothing: AllocationCheck holds it to that
+     */
+    @Benchmark
+    public void steadyTurn() {
+        steady.playTurn(steadyController);
+        if(++steadyTurns % REBALANCE == 0) {
+            for(int i = 0; i < steady.getPlayers().size(); i++) {
+                Player p = steady.getPlayers().get(i);
+                // Topped up by the bank, as if from passing Go
+                steady.getBanker().pay(p, RICH.getStartingBalance() - p.getBalance(), Ledger.GO);
+            }
+        }
+    }
+
+    /**
+     * Builds the board from properties.csv
+     * @return the board
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public BoardSpace[] buildMap() {
+        return rebuilt.buildMap();
+    }
+}
@@ -0,0 +1,146 @@
+/**
+ * Benchmarks of starting a game
+ *
+ * @author Dale Urquhart
+ * @since 2026-10-19
+ */
+
+package com.monopoly;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javafx.scene.layout.GridPane;
+
+/**
+ * Times a cold start: each fork is a fresh JVM that runs the step once, so class loading, the csv reads and the first
+ * image decodes (and with them starting the JavaFX toolkit) are all paid, as they are when the app starts
+ * Every step of getting to the first board is timed alone (the game with its decks and board, the tiles, dice and
+ * center images, the pieces), and firstBoard times them together, the time to first board. With one shot per fork
+ * the percentiles JMH reports are over forks, so they stay comparable between releases
+ * Images are decoded by the software pipeline, which needs no display; pass -jvmArgsAppend to time another
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(value = 20, jvmArgsAppend = "-Dprism.order=sw")
+@State(Scope.Thread)
+public class StartupBenchmark {
+
+    /**
+     * Seed of the games built
+     */
+    private static final long SEED = 42;
+
+    /**
+     * Game built, for the steps that build on one
+     */
+    private Game game;
+
+    /**
+     * Pane the board is laid out on
+     */
+    private GridPane pane;
+
+    /**
+     * Builds a game and a pane before each shot, so the steps after them time only themselves
+     */
+    @Setup(Level.Iteration)
+    public void setUp() {
+        game = new Game(new Random(SEED));
+        pane = new GridPane();
+    }
+
+    /**
+     * Builds a game: its decks from cards.csv and its board from properties.csv
+     * @return the game
+     */
+    @Benchmark
+    public Game gameConstruction() {
+        return new Game(new Random(SEED));
+    }
+
+    /**
+     * Builds the decks from cards.csv
+     * @return the decks
+     */
+    @Benchmark
+    public Object buildDecks() {
+        return game.buildDecks();
+    }
+
+    /**
+     * Builds the board from properties.csv
+     * @return the board
+     */
+    @Benchmark
+    public BoardSpace[] buildMap() {
+        return game.buildMap();
+    }
+
+    /**
+     * Decodes and lays out the 40 tile images
+     * @return the pane
+     */
+    @Benchmark
+    public GridPane buildTiles() {
+        new BoardBuilder().buildTiles(game, pane);
+        return pane;
+    }
+
+    /**
+     * Decodes and lays out the dice
+     * @return the dice's pane
+     */
+    @Benchmark
+    public GridPane buildDice() {
+        return new BoardBuilder().buildDice(game, pane);
+    }
+
+    /**
+     * Decodes and lays out the center of the board
+     * @return the center
+     */
+    @Benchmark
+    public Object buildCenter() {
+        return new BoardBuilder().buildCenter(game, pane);
+    }
+
+    /**
+     * Decodes the 8 pieces players choose from
+     * @return the builder holding them
+     */
+    @Benchmark
+    public PlayerBuilder loadPieces() {
+        return new PlayerBuilder(pane);
+    }
+
+    /**
+     * Builds everything the first board needs, in the order the app does
+     * @return the pane
+     */
+    @Benchmark
+    public GridPane firstBoard() {
+        Game first = new Game(new Random(SEED));
+        GridPane main = new GridPane();
+        BoardBuilder bb = new BoardBuilder();
+        bb.buildTiles(first, main);
+        bb.buildCenter(first, main);
+        bb.buildDice(first, main);
+        new PlayerBuilder(new GridPane());
+        return main;
+    }
+}
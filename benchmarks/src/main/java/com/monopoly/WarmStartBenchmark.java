@@ -0,0 +1,30 @@
+/**
+ * Benchmarks of starting another game
+ *
+ * @author Dale Urquhart
+ * @since 2026-10-19
+ */
+
+package com.monopoly;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Times the steps of StartupBenchmark warm: each fork runs every step 20 times before 50 timed shots, so what is left
+ * is the cost of the reads and decodes themselves, as when a second game is started in the same app
+ * The gap to the cold times is what class loading, the JIT and the toolkit cost the first board
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 20)
+@Measurement(iterations = 50)
+@Fork(value = 3, jvmArgsAppend = "-Dprism.order=sw")
+public class WarmStartBenchmark extends StartupBenchmark {
+}
@@ -5,6 +5,8 @@
 
 package com.monopoly;
 
+import java.io.IOException;
+
 import javafx.application.Application;
 import javafx.scene.Scene;
 import javafx.stage.Stage;
@@ -14,36 +16,60 @@ import javafx.stage.Stage;
  */
 public class App extends Application {
 
+    /**
+     * Endpoint serving the game's metrics, null unless started with --metrics PORT
+     */
+    private static MetricsServer metrics;
+
     /**
      * Start method for the Monopoly GUI, ground zero
      */
     @Override
     public void start(Stage stage) {
         Game game = new Game();
-        System.out.println("Game built");
+        Log.info("Game built");
         GameView view = new GameView();
-        System.out.println("GameView built");
+        Log.info("GameView built");
         GameController controller = new GameController(game, view);
-        System.out.println("GameController built");
+        Log.info("GameController built");
 
         Scene scene = view.getScene();
         stage.setScene(scene);
         stage.setMaximized(true);
         stage.show();
 
-        System.out.println("Starting game");
+        Log.info("Starting game");
         try{
             controller.startGame(); 
         } catch(Exception e) {
-            System.err.println("Error:\n"+e);
+            Log.error("Error:\n%s", e);
+        }
+    }
+
+    /**
+     * Stops serving metrics once the window is closed
+     */
+    @Override
+    public void stop() {
+        if(metrics != null) {
+            metrics.stop();
         }
     }
 
     /**
      * Main method launching GUI
-     * @param args cmd line inputs
+     * @param args cmd line inputs, --metrics PORT to serve the game's metrics (dialog waits, turn latencies)
      */
     public static void main(String[] args) {
+        if(args.length == 2 && args[0].equals("--metrics")) {
+            try {
+                metrics = new MetricsServer(Metrics.DEFAULT, Integer.parseInt(args[1]));
+                metrics.start();
+                Log.info("Serving metrics at http://localhost:%d%s", metrics.getPort(), MetricsServer.PATH);
+            } catch (IOException e) {
+                Log.error("Metrics could not be served on port %s. Full message:\n%s", args[1], e);
+            }
+        }
         launch();
     }
 }
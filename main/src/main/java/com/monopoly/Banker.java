@@ -7,27 +7,49 @@
  package com.monopoly;
 
  /**
-  * Banker object that follows the Singleton pattern to ensure only one instance exists.
+  * Banker object, one per game so that games played side by side never share a balance
+  * The bank never runs out: its balance starts at nothing and goes negative by what it has paid out
   */
  public final class Banker extends Entity {
- 
+
+    /**
+     * Rules of the game the banker pays out by
+     */
+    private final GameRules rules;
+
     /**
-     * Private static instance of the Banker class keeps the same banker easily accessable accross project  
-     */ 
-    private static final Banker INSTANCE = new Banker();
+     * Constructor for the banker of a game
+     * @param rules rules of the game
+     */
+    Banker(GameRules rules) {
+        super("Banker", 0);
+        this.rules = rules;
+    }
 
     /**
-     * Private constructor to prevent instantiation from other classes
+     * Copy constructor for a copied game
+     * @param other banker to copy
      */
-    private Banker() {
-        super("Banker", Integer.MAX_VALUE);
+    Banker(Banker other) {
+        super(other);
+        rules = other.rules;
     }
 
     /**
-     * Returns the single instance of the Banker class.
-    * @return The singleton instance of Banker.
-    */
-    public static Banker getInstance() {
-        return INSTANCE;
+     * The bank can pay any amount
+     * @param adjustment the amount to check
+     * @return always true
+     */
+    @Override
+    boolean canAfford(int adjustment) {
+        return true;
+    }
+
+    /**
+     * Gets the rules of the game
+     * @return the game's rules
+     */
+    GameRules getRules() {
+        return rules;
     }
 }
\ No newline at end of file
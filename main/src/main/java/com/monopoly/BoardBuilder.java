@@ -79,9 +79,10 @@ class BoardBuilder {
                 else if (row == 0 && col < 10) col++;
             } 
         } catch (FileNotFoundException e) {
-            System.out.println("Aint no thang");
+            Log.error("Board tile not found in BoardBuilder. Full message:\n%s", e);
         } catch (Exception e) {
-            System.out.println("Bad code idiot");
+            Log.error("Board tiles could not be built. Full message:\n%s", e);
+            game.dumpTurns(e);
             throw(e);
         }
     }
@@ -112,7 +113,7 @@ class BoardBuilder {
             dicePane.setAlignment(Pos.CENTER); 
             game.setDice(new Dice(dicePane)); 
         } catch(FileNotFoundException e) {
-            System.err.println("Dice piece not found in BoardBuilder. Full message:\n"+e);
+            Log.error("Dice piece not found in BoardBuilder. Full message:\n%s", e);
         }
         return dicePane;
     }
@@ -137,7 +138,7 @@ class BoardBuilder {
             // Add to main grid
             pane.add(center, 1, 1, 9, 9);
         } catch(FileNotFoundException e) {
-            System.err.println("Game piece not found in BoardBuilder. Full message:\n"+e);
+            Log.error("Game piece not found in BoardBuilder. Full message:\n%s", e);
         } 
         return center;
     }
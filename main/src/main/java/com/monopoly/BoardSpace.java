@@ -8,6 +8,7 @@
 package com.monopoly;
 
 import java.util.ArrayList;
+import java.util.List;
 
 import javafx.geometry.Pos;
 import javafx.scene.image.ImageView;
@@ -18,9 +19,9 @@ import javafx.scene.layout.StackPane;
  */
 abstract public class BoardSpace { 
     /**
-     * ImageView of the BoardSpace
+     * ImageView of the BoardSpace, only created once the space is drawn
      */
-    private final StackPane tileStack;
+    private StackPane tileStack;
 
     /**
      * Name of the space
@@ -37,18 +38,40 @@ abstract public class BoardSpace {
      */
     private final ArrayList<Player> occupants;
 
+    /**
+     * Number of times a player has moved onto the space
+     */
+    private int visits;
+
     /**
      * All-args constructor
      * @param name name of the sapce
      * @param id id of the space
      */
     BoardSpace(String name, int id) {
-        this.tileStack = new StackPane();
         this.name = name;
         this.id = id;
         this.occupants = new ArrayList<>();
     }
 
+    /**
+     * Copy constructor for a copied game, occupants are only drawn so the copy starts without them
+     * @param other space to copy
+     */
+    BoardSpace(BoardSpace other) {
+        name = other.name;
+        id = other.id;
+        visits = other.visits;
+        occupants = new ArrayList<>();
+    }
+
+    /**
+     * Copies the space into a copied game
+     * @param game the copied game, its banker, players and spaces before this one are already copied
+     * @return the copy of the space
+     */
+    abstract BoardSpace copy(Game game);
+
     /**
      * Getter for the name of the space
      * @return the name of the space
@@ -65,7 +88,14 @@ abstract public class BoardSpace {
         return id;
     } 
 
+    /**
+     * Getter for the stack the space's tile and pieces are drawn on
+     * @return the tile stack of the space
+     */
     StackPane getStack() {
+        if(tileStack == null) {
+            tileStack = new StackPane();
+        }
         return tileStack;
     }
 
@@ -74,7 +104,7 @@ abstract public class BoardSpace {
      * @param location_img image of the tile
      */
     void setTile(ImageView img) {
-        tileStack.getChildren().add(img); 
+        getStack().getChildren().add(img); 
     }
     
     /**
@@ -84,18 +114,45 @@ abstract public class BoardSpace {
     void addOccupant(Player p) { 
         int index = p.getID();
         ImageView img = p.getPiece(); 
-        Pos alignment = (index==0 ? Pos.TOP_LEFT : (index==1 ? Pos.TOP_RIGHT : (index==2 ? Pos.BOTTOM_LEFT : Pos.BOTTOM_RIGHT))); 
-        StackPane.setAlignment(img, alignment); 
-        tileStack.getChildren().add(img);  
+        if(img != null) {
+            Pos alignment = (index==0 ? Pos.TOP_LEFT : (index==1 ? Pos.TOP_RIGHT : (index==2 ? Pos.BOTTOM_LEFT : Pos.BOTTOM_RIGHT))); 
+            StackPane.setAlignment(img, alignment); 
+            getStack().getChildren().add(img);  
+        }
         occupants.add(p);  
     }
 
+    /**
+     * Gets the players on the space
+     * @return the occupants, not to be changed
+     */
+    List<Player> getOccupants() {
+        return occupants;
+    }
+
+    /**
+     * Counts a player moving onto the space
+     */
+    void addVisit() {
+        visits++;
+    }
+
+    /**
+     * Gets the number of times a player has moved onto the space
+     * @return number of visits
+     */
+    int getVisits() {
+        return visits;
+    }
+
     /**
      * Removes an occupant
      * @param p Player occupant to be removed
      */
     void removeOccupant(Player p) {
-        tileStack.getChildren().remove(p.getPiece());  
+        if(p.getPiece() != null) {
+            getStack().getChildren().remove(p.getPiece());  
+        }
         occupants.remove(p); 
     } 
 
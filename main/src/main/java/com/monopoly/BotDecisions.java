@@ -0,0 +1,170 @@
+/**
+ * Decisions made by fixed rules
+ *
+ * @author Dale Urquhart
+ * @since 2026-10-19
+ */
+
+package com.monopoly;
+
+import java.util.List;
+
+/**
+ * Rule-based bot, never waits on anything so bot-only games run at CPU speed
+ * Keeps a cash reserve, bids up to a share of the list price, and either leaves jail at once, sits it out, or does
+ * what the jail solver values highest
+ */
+final class BotDecisions implements DecisionProvider {
+
+    /**
+     * Amount a bid is raised by
+     */
+    static final int BID_STEP = 10;
+
+    /**
+     * Cash the bot keeps after buying, bidding or unmortgaging
+     */
+    private final int reserve;
+
+    /**
+     * Highest bid as a share of the list price
+     */
+    private final double maxBid;
+
+    /**
+     * Whether the bot leaves jail as soon as it can, or tries for doubles
+     */
+    private final boolean leaveJail;
+
+    /**
+     * Solver making the jail choices, null to follow leaveJail
+     */
+    private final JailSolver jail;
+
+    /**
+     * Constructor for a bot
+     * @param reserve cash kept after buying, bidding or unmortgaging
+     * @param maxBid highest bid as a share of the list price
+     * @param leaveJail true to leave jail as soon as possible, false to try for doubles
+     */
+    BotDecisions(int reserve, double maxBid, boolean leaveJail) {
+        this(reserve, maxBid, leaveJail, null);
+    }
+
+    /**
+     * Constructor for a bot
+     * @param reserve cash kept after buying, bidding or unmortgaging
+     * @param maxBid highest bid as a share of the list price
+     * @param leaveJail true to leave jail as soon as possible, false to try for doubles, when there is no solver
+     * @param jail solver making the jail choices, null to follow leaveJail
+     */
+    BotDecisions(int reserve, double maxBid, boolean leaveJail, JailSolver jail) {
+        this.reserve = reserve;
+        this.maxBid = maxBid;
+        this.leaveJail = leaveJail;
+        this.jail = jail;
+    }
+
+    /**
+     * Bot that buys whatever it can afford, bids up to list price, and leaves jail at once
+     * @return the greedy bot
+     */
+    static BotDecisions greedy() {
+        return new BotDecisions(0, 1.0, true);
+    }
+
+    /**
+     * Bot that keeps $200 back, bids below list price, and sits out jail
+     * @return the cautious bot
+     */
+    static BotDecisions cautious() {
+        return new BotDecisions(200, 0.8, false);
+    }
+
+    /**
+     * Greedy bot that makes its jail choices with the shared jail solver
+     * @return the solving bot
+     */
+    static BotDecisions solver() {
+        return new BotDecisions(0, 1.0, true, JailSolver.DEFAULT);
+    }
+
+    /**
+     * Buys if the reserve is left afterwards, never sells assets to buy
+     */
+    @Override
+    public boolean buyProperty(Game game, Player player, Property property, boolean liquidate) {
+        return !liquidate && player.canAfford(property.getPrice() + reserve);
+    }
+
+    /**
+     * Raises by BID_STEP while under the limit and the reserve is left
+     */
+    @Override
+    public int bid(Game game, Player bidder, Property property, int bid, Entity highestBidder) {
+        int limit = Math.min((int) (property.getPrice() * maxBid), bidder.getBalance() - reserve);
+        return Math.min(bid + BID_STEP, limit);
+    }
+
+    /**
+     * Sells at or above list price
+     */
+    @Override
+    public boolean acceptBid(Game game, Player owner, Property property, int bid, Player bidder) {
+        return bid >= property.getPrice();
+    }
+
+    /**
+     * Asks the solver if there is one, else uses a card, then pays the fine, unless sitting out jail
+     */
+    @Override
+    public int jailChoice(Game game, Player player, List<Integer> choices) {
+        if(jail != null) {
+            return jail.best(game, player, choices);
+        }
+        if(leaveJail && choices.contains(Game.JAIL_CARD)) {
+            return Game.JAIL_CARD;
+        }
+        if(leaveJail && choices.contains(Game.JAIL_PAY)) {
+            return Game.JAIL_PAY;
+        }
+        return Game.JAIL_ROLL;
+    }
+
+    /**
+     * Unmortgages if the reserve is left afterwards
+     */
+    @Override
+    public boolean unmortgage(Game game, Player player, Property property) {
+        return player.canAfford(game.getRules().getUnmortgageCost(property.getMortgageValue()) + reserve);
+    }
+
+    /**
+     * Builds the cheapest development that leaves the reserve
+     */
+    @Override
+    public Property develop(Game game, Player player, List<Property> options) {
+        Property cheapest = null;
+        for(int i = 0; i < options.size(); i++) {
+            Property p = options.get(i);
+            if(cheapest == null || p.getDevelopmentCost() < cheapest.getDevelopmentCost()) cheapest = p;
+        }
+        return player.canAfford(cheapest.getDevelopmentCost() + reserve) ? cheapest : null;
+    }
+
+    /**
+     * Mortgages the cheapest undeveloped property first, sells developments only when nothing is left to mortgage
+     */
+    @Override
+    public Property liquidate(Game game, Player player, List<Property> options, int required) {
+        Property choice = null;
+        for(int i = 0; i < options.size(); i++) {
+            Property p = options.get(i);
+            if(choice == null || (choice.developed() && !p.developed())
+                    || (choice.developed() == p.developed() && p.getPrice() < choice.getPrice())) {
+                choice = p;
+            }
+        }
+        return choice;
+    }
+}
@@ -284,7 +284,7 @@ class Card {
                 String[] values = line.split(",");
                 // Check if the line has exactly 17 columns
                 if (values.length < 17) {
-                    System.err.println("Skipping invalid line (not enough columns): " + line);
+                    Log.warn("Skipping invalid line (not enough columns): %s", line);
                     continue; // Skip to the next line
                 } 
                 try {
@@ -310,9 +310,9 @@ class Card {
                     if(!card.isChance()) {ccDeck.add(card);}
                     
                 } catch (NumberFormatException e) {
-                    System.err.println("Error parsing line: " + line + " - " + e.getMessage());
+                    Log.warn("Error parsing line: %s - %s", line, e.getMessage());
                 } catch (ArrayIndexOutOfBoundsException e) {
-                    System.err.println("Array index error with line: " + line + " - " + e.getMessage());
+                    Log.warn("Array index error with line: %s - %s", line, e.getMessage());
                 }
             }
         }
@@ -338,7 +338,7 @@ class Card {
                 String[] values = line.split(",");
                 // Check if the line has exactly 17 columns
                 if (values.length < 17) {
-                    System.err.println("Skipping invalid line (not enough columns): " + line);
+                    Log.warn("Skipping invalid line (not enough columns): %s", line);
                     continue; // Skip to the next line
                 } 
                 try {
@@ -365,9 +365,9 @@ class Card {
                     if(card.isChance()) {chanceDeck.add(card);}  
                     
                 } catch (NumberFormatException e) {
-                    System.err.println("Error parsing line: " + line + " - " + e.getMessage());
+                    Log.warn("Error parsing line: %s - %s", line, e.getMessage());
                 } catch (ArrayIndexOutOfBoundsException e) {
-                    System.err.println("Array index error with line: " + line + " - " + e.getMessage());
+                    Log.warn("Array index error with line: %s - %s", line, e.getMessage());
                 }
             }
         }   
@@ -8,7 +8,7 @@
 
 package com.monopoly;
 
-import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
 
@@ -21,12 +21,17 @@ final class CardManager extends BoardSpace {
     /**
      * Deck
      */
-    private List<Card> deck;
+    private final List<Card> deck;
+
+    /**
+     * Every card of the deck, used to reshuffle once the deck runs out
+     */
+    private final List<Card> cards;
 
     /**
      * Random connection
      */
-    private final Random rand;
+    private Random rand;
 
     /**
      * Whether or not this is a chance deck 
@@ -38,24 +43,95 @@ final class CardManager extends BoardSpace {
      * @param name Name of the deck (Commmunity Chest / Chance)
      * @param id Location of the deck's spot on the board
      * @param deck Deck to work with
+     * @param rand Random source of the game
      */
-    CardManager(String name, int id, List<Card> deck) {
+    CardManager(String name, int id, List<Card> deck, Random rand) {
         super(name, id);
         this.deck = deck;
-        rand = new Random();
+        this.cards = new ArrayList<>(deck);
+        this.rand = rand;
         chance = deck.get(0).isChance();
     }
 
+    /**
+     * Copy constructor for a copied game, drawing from the copied game's deck
+     * @param other space to copy
+     * @param game the copied game
+     */
+    private CardManager(CardManager other, Game game) {
+        super(other);
+        deck = other.chance ? game.getChanceDeck() : game.getCommunityChestDeck();
+        cards = other.cards;
+        rand = game.getRandom();
+        chance = other.chance;
+    }
+
+    /**
+     * Draws from a different random source, such as a stream shared by paired games
+     * @param rand Random source of the draws
+     */
+    void setRandom(Random rand) {
+        this.rand = rand;
+    }
+
+    /**
+     * Gets whether the space draws from the chance deck
+     * @return true for chance, false for community chest
+     */
+    boolean isChance() {
+        return chance;
+    }
+
+    /**
+     * Gets every card of the deck, drawn or not
+     * @return the deck's cards
+     */
+    List<Card> getCards() {
+        return cards;
+    }
+
+    /**
+     * Gets the railroad a nearest railroad card sends a player to
+     * @param from space the card was drawn on
+     * @return index of the railroad
+     */
+    static int nearestRailroad(int from) {
+        int space = from + 5 - (from % 5);
+        space += space % 10 == 0 ? 5 : 0;
+        space -= space > 40 ? 40 : 0;
+        return space;
+    }
+
+    /**
+     * Gets the utility a nearest utility card sends a player to
+     * @param from space the card was drawn on
+     * @return index of the utility
+     */
+    static int nearestUtility(int from) {
+        return from > 11 && from < 28 ? 28 : 12;
+    }
+
+    /**
+     * Copies the space into a copied game
+     */
+    @Override
+    BoardSpace copy(Game game) {
+        return new CardManager(this, game);
+    }
+
     /**
      * Draws a card from deck, handles all events resulting from the card, retruns the card instance drawn
      */
     Card draw(Game game) {
         if(deck.isEmpty()) {
-            try {deck = chance ? Card.getChanceDeck("cards.csv") : Card.getCCDeck("cards.csv");}
-            catch(IOException e) {System.out.println("Only bad programmers get errors, and Dale Urquhart wrote this code!");}
+            // Card by card, addAll would copy the cards to an array first
+            for(int i = 0; i < cards.size(); i++) {
+                deck.add(cards.get(i));
+            }
         }
 
-        int index = rand.nextInt(deck.size()); 
+        ImportanceSampler sampler = game.getSampler();
+        int index = sampler == null ? rand.nextInt(deck.size()) : sampler.draw(game.getCurrentPlayer(), deck, rand);
         Card drawn = deck.get(index); deck.remove(index);
         return drawn;
     } 
@@ -68,7 +144,8 @@ final class CardManager extends BoardSpace {
         Player p = game.getCurrentPlayer();
         Utility utility;
         Railroad rr;
-        Banker banker = Banker.getInstance(); 
+        Banker banker = game.getBanker(); 
+        GameEvents.card(p, card);
         if(card.isGetOutOfJail())   p.addJailCard();
         if(card.isGoToJail())       game.getJail().addPlayer(p);
         if(card.isAdvanceBy())      {
@@ -84,22 +161,18 @@ final class CardManager extends BoardSpace {
             game.isProperty();
         }
         if(card.isPerPlayer())      {
-            for(Player player : game.getPlayers()) {player.credit(card.getPlayerAmount());}
-            p.debit(card.getPlayerAmount() * game.getPlayerCount());
+            for(int i = 0; i < game.getPlayers().size(); i++) {p.pay(game.getPlayers().get(i), card.getPlayerAmount(), Ledger.CARD);}
         }
         if(card.isPerDevelopment()) {
             total = p.getTotalHouses() * card.getHouseCost() + p.getTotalHotels() * card.getHotelCost();
-            p.debit(total);
-            banker.credit(total);
+            p.pay(banker, total, Ledger.CARD);
         }
         
         if(card.isNearest())        {
             if(card.getNearestType().equals("RR"))           {
                 // If owned charge chance rent, else give option to buy
                 //Find the nearest railroad
-                int space = p.getLocation().getId() + 5 - (p.getLocation().getId() % 5);
-                space += space % 10 == 0 ? 5 : 0;
-                space -= space > 40 ? 40 : 0;
+                int space = nearestRailroad(p.getLocation().getId());
                 //Handle new location
                 p.setLocation(game.getSpace(space));
                 rr = (Railroad) p.getLocation();
@@ -112,7 +185,7 @@ final class CardManager extends BoardSpace {
             else if(card.getNearestType().equals("Utility")) {
                 // If owned charge chance rent, else give option to buy
                 //Find the nearest utility
-                utility = p.getLocation().getId() > 11 && p.getLocation().getId() < 28 ? (Utility) game.getSpace(28) : (Utility) game.getSpace(12);
+                utility = (Utility) game.getSpace(nearestUtility(p.getLocation().getId()));
                 p.setLocation(utility);
                 //Handle new locaiton
                 if(!utility.getOwner().equals(banker) && !utility.getOwner().equals(p)) {utility.chargeChanceRent(p);} 
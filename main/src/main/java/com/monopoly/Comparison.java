@@ -0,0 +1,277 @@
+/**
+ * Paired comparison of two decision strategies
+ *
+ * @author Dale Urquhart
+ * @since 2026-10-19
+ */
+
+package com.monopoly;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Compares strategy A against strategy B by playing each in the first seat against the same opponents
+ * With common random numbers (the default) the two games of a pair share their seed, and every player's dice and
+ * every deck's cards come from their own stream of it, so both games see the same dice and cards and differ only by
+ * the strategies' decisions. Most of the luck cancels out of the difference, which then needs far fewer games to be
+ * significant. With antithetic dice each pair is also played on the mirrored dice (7 minus each die) and the two
+ * halves are averaged, cancelling more of it
+ * Each game scores the first seat as MctsDecisions.evaluate does: 1 for a win, 0 for bankruptcy, otherwise its
+ * share of the net worth at the table
+ *
+ * Usage (from src/main/java, like App): java com.monopoly.Comparison --a STRATEGY --b STRATEGY [--opponents STRATEGY]
+ *                                          [--players P] [--pairs N] [--threads T] [--seed S] [--max-turns M]
+ *                                          [--independent] [--antithetic]
+ * Strategies are described as for Tournament
+ */
+public final class Comparison {
+
+    /**
+     * Strategy A
+     */
+    private final String a;
+
+    /**
+     * Strategy B
+     */
+    private final String b;
+
+    /**
+     * Strategy of every other seat
+     */
+    private final String opponents;
+
+    /**
+     * Number of players per game
+     */
+    private final int players;
+
+    /**
+     * Master seed every pair's seed is derived from
+     */
+    private final long seed;
+
+    /**
+     * Turn cap for a single game
+     */
+    private final int maxTurns;
+
+    /**
+     * Whether the games of a pair share their seed
+     */
+    private final boolean common;
+
+    /**
+     * Whether each pair is also played on mirrored dice
+     */
+    private final boolean antithetic;
+
+    /**
+     * Score of A in each pair
+     */
+    private final double[] scoreA;
+
+    /**
+     * Score of B in each pair
+     */
+    private final double[] scoreB;
+
+    /**
+     * Wins of A in each pair, averaged over the antithetic halves
+     */
+    private final double[] winA;
+
+    /**
+     * Wins of B in each pair, averaged over the antithetic halves
+     */
+    private final double[] winB;
+
+    /**
+     * Constructor for a comparison
+     * @param a strategy A
+     * @param b strategy B
+     * @param opponents strategy of every other seat
+     * @param players number of players per game
+     * @param pairs number of pairs of games
+     * @param seed master seed
+     * @param maxTurns turn cap for a single game
+     * @param common true for the games of a pair to share their seed
+     * @param antithetic true to also play each pair on mirrored dice
+     */
+    Comparison(String a, String b, String opponents, int players, int pairs, long seed, int maxTurns, boolean common, boolean antithetic) {
+        if(players < 2 || players > 4) {
+            throw new IllegalArgumentException("Player count must be between 2 and 4");
+        }
+        Tournament.strategy(a, 0);
+        Tournament.strategy(b, 0);
+        Tournament.strategy(opponents, 0);
+        this.a = a;
+        this.b = b;
+        this.opponents = opponents;
+        this.players = players;
+        this.seed = seed;
+        this.maxTurns = maxTurns;
+        this.common = common;
+        this.antithetic = antithetic;
+        scoreA = new double[pairs];
+        scoreB = new double[pairs];
+        winA = new double[pairs];
+        winB = new double[pairs];
+    }
+
+    /**
+     * Gets the number of games the comparison plays
+     * @return games played
+     */
+    long getGameCount() {
+        return (long) scoreA.length * (antithetic ? 4 : 2);
+    }
+
+    /**
+     * Plays one pair of games, two pairs when antithetic
+     * @param pair index of the pair
+     */
+    void playPair(int pair) {
+        long seedA = Simulator.seedFor(seed, common ? pair : 2L * pair);
+        long seedB = common ? seedA : Simulator.seedFor(seed, 2L * pair + 1);
+        Game gameA = play(a, seedA, false), gameB = play(b, seedB, false);
+        scoreA[pair] = MctsDecisions.evaluate(gameA, 0);
+        scoreB[pair] = MctsDecisions.evaluate(gameB, 0);
+        winA[pair] = won(gameA);
+        winB[pair] = won(gameB);
+        if(antithetic) {
+            gameA = play(a, seedA, true);
+            gameB = play(b, seedB, true);
+            scoreA[pair] = (scoreA[pair] + MctsDecisions.evaluate(gameA, 0)) / 2;
+            scoreB[pair] = (scoreB[pair] + MctsDecisions.evaluate(gameB, 0)) / 2;
+            winA[pair] = (winA[pair] + won(gameA)) / 2;
+            winB[pair] = (winB[pair] + won(gameB)) / 2;
+        }
+    }
+
+    /**
+     * Checks if the first seat won a game outright
+     * @param game the finished game
+     * @return 1 if the first seat is the last player left, else 0
+     */
+    private static double won(Game game) {
+        return game.getPlayerCount() == 1 && game.getPlayer(0).getID() == 0 ? 1 : 0;
+    }
+
+    /**
+     * Plays a single game with a strategy in the first seat
+     * @param strategy strategy of the first seat
+     * @param gameSeed seed of the game's streams
+     * @param mirrored true to roll the mirrored dice
+     * @return the finished game
+     */
+    private Game play(String strategy, long gameSeed, boolean mirrored) {
+        Game game = Game.headless(new Random(gameSeed), GameRules.STANDARD, players);
+        game.useStreams(gameSeed, mirrored);
+        GameController controller = new GameController(game);
+        for(int seat = 0; seat < players; seat++) {
+            game.getPlayer(seat).setDecisions(Tournament.strategy(seat == 0 ? strategy : opponents, Simulator.seedFor(gameSeed, seat)));
+        }
+
+        while(game.getPlayerCount() > 1 && game.getTurnsPlayed() < maxTurns) {
+            game.playTurn(controller);
+        }
+        return game;
+    }
+
+    /**
+     * Plays every pair across the worker threads
+     * @param threads number of worker threads
+     */
+    void run(int threads) {
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            pool.invoke(new GameRangeTask(this::playPair, 0, scoreA.length));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Prints each strategy's results and the difference between them, with the standard error the same number of
+     * independent games would have given
+     * @param seconds wall clock time of the comparison
+     */
+    void report(double seconds) {
+        System.out.printf("Games: %d in %.2fs, %.0f games/s%n", getGameCount(), seconds, getGameCount() / seconds);
+        print("Score", scoreA, scoreB);
+        print("Win rate", winA, winB);
+    }
+
+    /**
+     * Prints one measure of the comparison
+     * @param measure name of the measure
+     * @param x the measure for A, per pair
+     * @param y the measure for B, per pair
+     */
+    private void print(String measure, double[] x, double[] y) {
+        Moments ma = new Moments(), mb = new Moments(), diff = new Moments();
+        for(int i = 0; i < x.length; i++) {
+            ma.add(x[i]);
+            mb.add(y[i]);
+            diff.add(x[i] - y[i]);
+        }
+        double n = x.length;
+        double paired = diff.getStandardDeviation() / Math.sqrt(n);
+        double independent = Math.sqrt((ma.getStandardDeviation() * ma.getStandardDeviation()
+                + mb.getStandardDeviation() * mb.getStandardDeviation()) / n);
+        System.out.printf("%s: %s %.4f, %s %.4f, difference %+.4f +/- %.4f (95%%), z %.2f%n", measure,
+                a, ma.getMean(), b, mb.getMean(), diff.getMean(), 1.96 * paired, paired == 0 ? 0 : diff.getMean() / paired);
+        System.out.printf("  standard error %.4f against %.4f for unpaired games, worth %.1fx as many games%n",
+                paired, independent, paired == 0 ? Double.POSITIVE_INFINITY : (independent * independent) / (paired * paired));
+    }
+
+    /**
+     * Main method for the comparison
+     * @param args cmd line inputs
+     */
+    public static void main(String[] args) {
+        String a = null, b = null;
+        String opponents = "greedy";
+        int players = 4;
+        int pairs = 2000;
+        int threads = Runtime.getRuntime().availableProcessors();
+        long seed = System.nanoTime();
+        int maxTurns = 1000;
+        boolean common = true;
+        boolean antithetic = false;
+
+        for(int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--independent": common = false; continue;
+                case "--antithetic":  antithetic = true; continue;
+                default: break;
+            }
+            if(i + 1 == args.length) {
+                throw new IllegalArgumentException("Missing value for " + args[i]);
+            }
+            switch (args[i]) {
+                case "--a":         a = args[++i]; break;
+                case "--b":         b = args[++i]; break;
+                case "--opponents": opponents = args[++i]; break;
+                case "--players":   players = Integer.parseInt(args[++i]); break;
+                case "--pairs":     pairs = Integer.parseInt(args[++i]); break;
+                case "--threads":   threads = Integer.parseInt(args[++i]); break;
+                case "--seed":      seed = Long.parseLong(args[++i]); break;
+                case "--max-turns": maxTurns = Integer.parseInt(args[++i]); break;
+                default: throw new IllegalArgumentException("Unknown option " + args[i]);
+            }
+        }
+        if(a == null || b == null) {
+            throw new IllegalArgumentException("Both --a and --b are needed");
+        }
+
+        Comparison comparison = new Comparison(a, b, opponents, players, pairs, seed, maxTurns, common, antithetic);
+        System.out.println("Comparing " + a + " against " + b + " over " + pairs + (common ? " paired" : " unpaired")
+                + (antithetic ? " antithetic" : "") + " games on " + threads + " threads, seed " + seed);
+        long start = System.nanoTime();
+        comparison.run(threads);
+        comparison.report((System.nanoTime() - start) / 1e9);
+    }
+}
@@ -0,0 +1,88 @@
+/**
+ * Source of a player's decisions
+ *
+ * @author Dale Urquhart
+ * @since 2026-10-19
+ */
+
+package com.monopoly;
+
+import java.util.List;
+
+/**
+ * Every choice the rules leave to a player, asked by Game and GameController instead of opening dialogs directly
+ * HumanDecisions asks through the GUI, ScriptedDecisions replays written answers, and BotDecisions decides by rule
+ * so bot-only games run at CPU speed
+ */
+interface DecisionProvider {
+
+    /**
+     * Decides whether to buy an unowned property the player landed on
+     * @param game the game being played
+     * @param player player deciding
+     * @param property property for sale
+     * @param liquidate true when the player can only pay by selling off assets first
+     * @return true to buy the property, false to send it to auction
+     */
+    boolean buyProperty(Game game, Player player, Property property, boolean liquidate);
+
+    /**
+     * Decides a player's bid in an auction
+     * @param game the game being played
+     * @param bidder player bidding
+     * @param property property up for auction
+     * @param bid current highest bid
+     * @param highestBidder holder of the current highest bid, the owner when no bid was made
+     * @return the new bid, anything not above the current bid passes
+     */
+    int bid(Game game, Player bidder, Property property, int bid, Entity highestBidder);
+
+    /**
+     * Decides whether a player auctioning their own property accepts the highest bid
+     * @param game the game being played
+     * @param owner player auctioning the property
+     * @param property property auctioned
+     * @param bid highest bid
+     * @param bidder player who made the highest bid
+     * @return true to sell at the bid
+     */
+    boolean acceptBid(Game game, Player owner, Property property, int bid, Player bidder);
+
+    /**
+     * Decides how a jailed player spends their jail turn
+     * @param game the game being played
+     * @param player jailed player
+     * @param choices valid choices from Game.getValidJailChoices()
+     * @return the choice (Game.JAIL_PAY, JAIL_ROLL or JAIL_CARD), 0 to take no action
+     */
+    int jailChoice(Game game, Player player, List<Integer> choices);
+
+    /**
+     * Decides whether to pay off the mortgage of a property coming to the player, instead of only the interest
+     * @param game the game being played
+     * @param player player receiving the property
+     * @param property the mortgaged property
+     * @return true to unmortgage now
+     */
+    boolean unmortgage(Game game, Player player, Property property);
+
+    /**
+     * Decides what to build at the end of the player's turn, asked again after each development until it returns null
+     * @param game the game being played
+     * @param player player building
+     * @param options properties the player may build on now, never empty
+     * @return the property to build on, null to stop building
+     */
+    Property develop(Game game, Player player, List<Property> options);
+
+    /**
+     * Decides how to raise cash the player is short of, asked again until the player can pay or it returns null
+     * A developed property sells a development, an undeveloped one is mortgaged
+     * @param game the game being played
+     * @param player player raising cash
+     * @param options properties the player may sell a development on or mortgage, never empty
+     * @param required amount the player has to pay
+     * @return the property to raise cash on, null to give up
+     */
+    Property liquidate(Game game, Player player, List<Property> options, int required);
+}
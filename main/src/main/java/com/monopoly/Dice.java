@@ -9,6 +9,7 @@ package com.monopoly;
 
 import java.io.FileInputStream;
 import java.io.FileNotFoundException; 
+import java.util.Arrays;
 import java.util.Random;
 
 import javafx.scene.image.Image;
@@ -26,10 +27,30 @@ final class Dice {
     private static final String PATH = "../resources/com/monopoly/";
 
     /**
-     * Random connection
+     * Random connection, null when each player rolls from their own stream
      */
     private final Random rand;
 
+    /**
+     * Seed of the players' streams
+     */
+    private final long seed;
+
+    /**
+     * Stream of each player, by ID, created on their first roll
+     */
+    private Random[] streams;
+
+    /**
+     * Whether every die shows 7 minus what its stream rolled
+     */
+    private final boolean antithetic;
+
+    /**
+     * Sampler tilting the rolls, null for fair dice
+     */
+    private ImportanceSampler sampler;
+
     /**
      * Stores roll 1 value
      */
@@ -63,6 +84,73 @@ final class Dice {
         d1 = (ImageView) d.getChildren().get(0);
         d2 = (ImageView) d.getChildren().get(1);
         rand = new Random(); 
+        seed = 0;
+        antithetic = false;
+    }
+
+    /**
+     * Constructor for Dice with no images, used for headless games
+     * @param rand Random source of the game the dice belong to
+     */
+    Dice(Random rand) {
+        d1 = null;
+        d2 = null;
+        this.rand = rand;
+        seed = 0;
+        antithetic = false;
+    }
+
+    /**
+     * Constructor for Dice with no images where each player rolls from their own stream, used for paired games
+     * Games with the same seed roll the same dice for the same player however differently they play,
+     * so the only difference between them is the players' decisions (common random numbers)
+     * @param seed seed of the players' streams
+     * @param antithetic true to roll 7 minus each die, mirroring the games of the same seed
+     */
+    Dice(long seed, boolean antithetic) {
+        d1 = null;
+        d2 = null;
+        rand = null;
+        this.seed = seed;
+        this.antithetic = antithetic;
+        streams = new Random[4];
+    }
+
+    /**
+     * Gets the random source a player rolls from
+     * @param p player rolling
+     * @return the game's random source, or the player's own stream
+     */
+    private Random source(Player p) {
+        if(rand != null) {
+            return rand;
+        }
+        int id = p.getID();
+        if(id >= streams.length) {
+            streams = Arrays.copyOf(streams, Math.max(id + 1, streams.length * 2));
+        }
+        if(streams[id] == null) {
+            streams[id] = new Random(Simulator.seedFor(seed, id));
+        }
+        return streams[id];
+    }
+
+    /**
+     * Tilts the rolls for importance sampling
+     * @param sampler sampler picking the rolls, null for fair dice
+     */
+    void setSampler(ImportanceSampler sampler) {
+        this.sampler = sampler;
+    }
+
+    /**
+     * Rolls one die
+     * @param source random source to roll from
+     * @return the die, mirrored when antithetic
+     */
+    private int die(Random source) {
+        int rolled = source.nextInt(6) + 1;
+        return antithetic ? 7 - rolled : rolled;
     }
 
     /**
@@ -74,7 +162,7 @@ final class Dice {
             try {
                 dice[i-1] = new Image(new FileInputStream(PATH + i + "_die.png"));
             } catch (FileNotFoundException e) {
-                System.err.println("Image "+i+" note found. \n"+e.toString());
+                Log.error("Image %d not found.\n%s", i, e);
             }
         }
     }
@@ -83,9 +171,17 @@ final class Dice {
      * @return random int. between 2, and 12
      */
     int roll(Player p) {
-        setD1(rand.nextInt(6)+1);
-        setD2(rand.nextInt(6)+1);
+        Random source = source(p);
+        if(sampler != null) {
+            int outcome = sampler.roll(p, source);
+            setD1(outcome / 6 + 1);
+            setD2(outcome % 6 + 1);
+        } else {
+            setD1(die(source));
+            setD2(die(source));
+        }
         p.setRoll(getD1() + getD2());
+        GameEvents.roll(p, getD1(), getD2());
         return getD1()+getD2();
     }
 
@@ -108,7 +204,7 @@ final class Dice {
      */
     void setD1(int rolled) {
         r1 = rolled;
-        d1.setImage(dice[rolled-1]);
+        if(d1 != null) d1.setImage(dice[rolled-1]);
     }
 
     /**
@@ -116,7 +212,7 @@ final class Dice {
      */
     void setD2(int rolled) {
         r2 = rolled;
-        d2.setImage(dice[rolled-1]);
+        if(d2 != null) d2.setImage(dice[rolled-1]);
     }
 
     /**
@@ -0,0 +1,181 @@
+/**
+ * Ratings of tournament strategies
+ *
+ * @author Dale Urquhart
+ * @since 2026-10-19
+ */
+
+package com.monopoly;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Elo ratings of strategies by name, with the games and wins behind them, kept between runs in a small
+ * tab separated file (strategy, rating, games, wins per line)
+ * A game of more than two players counts as a match between every pair at the table, the better placed
+ * player winning it, with each player's change scaled down by the number of opponents
+ */
+final class EloRatings {
+
+    /**
+     * Rating of a strategy never rated before
+     */
+    static final double INITIAL = 1500;
+
+    /**
+     * Header line of the file
+     */
+    private static final String HEADER = "strategy\trating\tgames\twins";
+
+    /**
+     * Largest change to a rating from a single game
+     */
+    private final double k;
+
+    /**
+     * Rating of each strategy
+     */
+    private final Map<String, Double> ratings = new LinkedHashMap<>();
+
+    /**
+     * Games rated for each strategy
+     */
+    private final Map<String, Long> games = new LinkedHashMap<>();
+
+    /**
+     * Games won by each strategy
+     */
+    private final Map<String, Long> wins = new LinkedHashMap<>();
+
+    /**
+     * Constructor for empty ratings
+     * @param k largest change to a rating from a single game
+     */
+    EloRatings(double k) {
+        this.k = k;
+    }
+
+    /**
+     * Reads ratings from a file, a missing file holds no ratings
+     * @param file the file
+     * @param k largest change to a rating from a single game
+     * @return the ratings
+     * @throws IOException If the file can not be read or is not a ratings file
+     */
+    static EloRatings read(File file, double k) throws IOException {
+        EloRatings elo = new EloRatings(k);
+        if(!file.exists()) {
+            return elo;
+        }
+        try (BufferedReader in = new BufferedReader(new FileReader(file))) {
+            String line = in.readLine();
+            if(!HEADER.equals(line)) {
+                throw new IOException(file + " is not a ratings file");
+            }
+            while((line = in.readLine()) != null) {
+                if(line.isEmpty()) continue;
+                String[] values = line.split("\t");
+                if(values.length != 4) {
+                    throw new IOException("Bad line in " + file + ": " + line);
+                }
+                elo.ratings.put(values[0], Double.parseDouble(values[1]));
+                elo.games.put(values[0], Long.parseLong(values[2]));
+                elo.wins.put(values[0], Long.parseLong(values[3]));
+            }
+        } catch (NumberFormatException e) {
+            throw new IOException("Bad number in " + file, e);
+        }
+        return elo;
+    }
+
+    /**
+     * Writes the ratings to a file
+     * Written to a temporary file first, so an interruption mid write leaves the last ratings intact
+     * @param file the file
+     * @throws IOException If the file can not be written
+     */
+    void write(File file) throws IOException {
+        File tmp = new File(file.getPath() + ".tmp");
+        try (BufferedWriter out = new BufferedWriter(new FileWriter(tmp))) {
+            out.write(HEADER);
+            out.newLine();
+            for(String name : ratings.keySet()) {
+                out.write(name + "\t" + ratings.get(name) + "\t" + games.get(name) + "\t" + wins.get(name));
+                out.newLine();
+            }
+        }
+        Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Gets a strategy's rating
+     * @param name name of the strategy
+     * @return the rating, INITIAL if it was never rated
+     */
+    double getRating(String name) {
+        return ratings.getOrDefault(name, INITIAL);
+    }
+
+    /**
+     * Gets the number of games rated for a strategy
+     * @param name name of the strategy
+     * @return games rated
+     */
+    long getGames(String name) {
+        return games.getOrDefault(name, 0L);
+    }
+
+    /**
+     * Gets the number of games a strategy won
+     * @param name name of the strategy
+     * @return games won outright
+     */
+    long getWins(String name) {
+        return wins.getOrDefault(name, 0L);
+    }
+
+    /**
+     * Rates a game
+     * @param names strategy in each seat, each at most once
+     * @param places place of each seat, 0 for the best, equal places for a tie
+     */
+    void update(String[] names, int[] places) {
+        int seats = names.length;
+        double[] change = new double[seats];
+        for(int i = 0; i < seats; i++) {
+            for(int j = i + 1; j < seats; j++) {
+                double expected = 1 / (1 + Math.pow(10, (getRating(names[j]) - getRating(names[i])) / 400));
+                double actual = places[i] < places[j] ? 1 : places[i] == places[j] ? 0.5 : 0;
+                change[i] += k / (seats - 1) * (actual - expected);
+                change[j] -= k / (seats - 1) * (actual - expected);
+            }
+        }
+        for(int i = 0; i < seats; i++) {
+            ratings.put(names[i], getRating(names[i]) + change[i]);
+            games.put(names[i], getGames(names[i]) + 1);
+            wins.put(names[i], getWins(names[i]) + (places[i] == 0 && isAlone(places, i) ? 1 : 0));
+        }
+    }
+
+    /**
+     * Checks that no other seat shares a seat's place
+     * @param places place of each seat
+     * @param seat the seat
+     * @return true if the place is the seat's alone
+     */
+    private static boolean isAlone(int[] places, int seat) {
+        for(int i = 0; i < places.length; i++) {
+            if(i != seat && places[i] == places[seat]) return false;
+        }
+        return true;
+    }
+}
@@ -19,30 +19,57 @@ class Entity {
     private final String name;
 
     /**
-     * Balance
+     * Balance, moved only by the postings of the game's ledger
     */
     private int balance;
 
     /**
-     * Net worth
+     * Value of what the entity owns, net worth less balance
     */
-    private int netWorth;
+    private int assets;
 
     /**
      * Banker's properties
     */
     private final ArrayList<Property> properties; 
 
+    /**
+     * Ledger of the game the entity plays in, null until it joins one
+     */
+    private Ledger ledger;
+
     /**
      * Player super constructor
     */
     Entity(String name, int balance) {
         this.name = name;
         this.balance = balance;
-        netWorth = balance;
         properties = new ArrayList<>();
     } 
 
+    /**
+     * Copy constructor, the copy owns no properties until copyProperties is called, and posts to no ledger until its
+     * game's is set
+     * @param other entity to copy
+     */
+    Entity(Entity other) {
+        name = other.name;
+        balance = other.balance;
+        assets = other.assets;
+        properties = new ArrayList<>(other.properties.size());
+    }
+
+    /**
+     * Owns the copies of another entity's properties, in the same order
+     * @param other entity being copied
+     * @param map copied board holding the copied properties
+     */
+    void copyProperties(Entity other, BoardSpace[] map) {
+        for(Property p : other.getProperties()) {
+            properties.add((Property) map[p.getId()]);
+        }
+    }
+
     /**
      * Gets name
     * @return name
@@ -61,36 +88,52 @@ class Entity {
 
     /**
      * Gets the total assets of the player
-    * @return the total assets
+    * @return the balance plus the value of what the player owns
     */
     int getNetWorth() {
-        return netWorth;
+        return balance + assets;
     } 
     
     /**
-     * Adjusts networth of the player
+     * Adjusts networth of the player, for a change in the value of what they own
     * @param adjustment the adjustment value of the networth 
     */
     void adjustNetWorth(int adjustment) { 
-        netWorth += adjustment; 
+        assets += adjustment; 
     }
 
     /**
-     * Debits the balance
-    * @param adjustment amount to add to balance 
-    */
-    void debit(int adjustment) { 
-        balance -= adjustment;
-        adjustNetWorth(adjustment * -1); 
+     * Pays another entity through the game's ledger
+     * @param to entity paid
+     * @param amount amount paid, negative to be paid by them
+     * @param reason one of the Ledger reasons
+     */
+    void pay(Entity to, int amount, int reason) {
+        ledger.post(this, to, amount, reason);
     }
 
     /**
-     * Credits the balance
-    * @param adjustment to the balance 
-    */
-    void credit(int adjustment) { 
-        balance += adjustment;
-        adjustNetWorth(adjustment); 
+     * Moves the balance, for the ledger posting a payment
+     * @param amount amount added, negative for a payment out
+     */
+    void adjustBalance(int amount) {
+        balance += amount;
+    }
+
+    /**
+     * Posts the entity's payments to a game's ledger from now on
+     * @param ledger the ledger
+     */
+    void setLedger(Ledger ledger) {
+        this.ledger = ledger;
+    }
+
+    /**
+     * Gets the ledger the entity's payments are posted to
+     * @return the ledger, null until the entity joins a game
+     */
+    Ledger getLedger() {
+        return ledger;
     }
 
     /**
@@ -117,8 +160,8 @@ class Entity {
     */
     boolean ownsSetFor(Property check) {
         int count = 0;
-        for(Property p : getProperties()) { 
-            if(p.getType().equals(check.getType())) { 
+        for(int i = 0; i < properties.size(); i++) { 
+            if(properties.get(i).getType().equals(check.getType())) { 
                 count++;
             }
         }
@@ -148,30 +191,27 @@ class Entity {
     * @param bid the amount the player bid for the property  
     */
     void buy(Property p, int bid, Game game) { 
+        GameEvents.trade(this, p, bid);
         //This is all only unmortgaging or paying intrest
         if(p.isMortgaged()) {
             //Can we afford to unmortgage it
-            if(canAfford((int) (bid+p.getMortgageValue()*1.1))) {
-                System.out.print(p.toString() + "\nIs mortgaged, would you like to unmortgage it now, or do so later? ");
-                if (GameView.getBoolInput("Buy", p.getName()+" is mortgaged, would you like to unmortgage it now, or pay it later?", "UnMortgage price: "+(int) (p.getMortgageValue() * 1.1)+"Intreset only price: "+(int) (p.getMortgageValue() * 0.1)+".")) {
+            if(canAfford(bid + game.getRules().getUnmortgageCost(p.getMortgageValue()))) {
+                if (this instanceof Player && game.getDecisions(this).unmortgage(game, (Player) this, p)) {
                     p.unMortgage();
                 } else {
-                    System.out.println("Property remains mortgaged, intrest only payment made. ");
-                    debit((int) (p.getMortgageValue() * 0.1));
+                    //Property remains mortgaged, intrest only payment made
+                    pay(game.getBanker(), game.getRules().getInterest(p.getMortgageValue()), Ledger.INTEREST);
                 }
             }
             //Pay only mandatory intrest
             else {
-                System.out.println("Property remains mortgaged, cannot afford to unmortgaged, only payment made. ");
-                debit((int) (p.getMortgageValue() * 0.1));
+                //Property remains mortgaged, cannot afford to unmortgage
+                pay(game.getBanker(), game.getRules().getInterest(p.getMortgageValue()), Ledger.INTEREST);
             }
         }
 
         //Bid transactioning
-        debit(bid);
-        p.getOwner().credit(bid);
-        p.getOwner().removeProperty(p); //this cannot be the best way to do that...
+        pay(p.getOwner(), bid, Ledger.TRADE);
         p.setOwner(this);
-        addProperty(p);  
     } 
 }
\ No newline at end of file
@@ -11,4 +11,20 @@ final class FreeParking extends BoardSpace {
     FreeParking () {
         super("Free Parking", 20);
     }
+
+    /**
+     * Copy constructor for a copied game
+     * @param other space to copy
+     */
+    private FreeParking(FreeParking other) {
+        super(other);
+    }
+
+    /**
+     * Copies the space into a copied game
+     */
+    @Override
+    BoardSpace copy(Game game) {
+        return new FreeParking(this);
+    }
 }
\ No newline at end of file
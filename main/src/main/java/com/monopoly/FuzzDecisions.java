@@ -0,0 +1,163 @@
+/**
+ * Random decisions for fuzzing, recorded as a trace
+ *
+ * @author Dale Urquhart
+ * @since 2026-10-19
+ */
+
+package com.monopoly;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Answers every decision at random, valid or not, and records each answer as a small int, so a game that breaks can
+ * be replayed from its seed and the trace, and the trace shrunk
+ * A trace entry is read modulo the number of answers the decision has, so any list of ints is a valid trace: yes/no
+ * reads 0 for no, a bid reads 0 up to the bidder's balance, a jail choice reads 0 to 3 (0, and choices the player
+ * does not have, leave them in jail), and building or raising cash reads 0 for none or the option's index plus one
+ * 0 is always the plainest answer, and decisions past the end of a trace read 0, so a shrunk trace is mostly zeros
+ */
+final class FuzzDecisions implements DecisionProvider {
+
+    /**
+     * Number of answers a jail choice has, the invalid 0 included
+     */
+    private static final int JAIL_ANSWERS = 4;
+
+    /**
+     * Random source of the answers, null when replaying a trace
+     */
+    private final Random rand;
+
+    /**
+     * Answers recorded, or the trace replayed
+     */
+    private int[] trace;
+
+    /**
+     * Number of decisions answered
+     */
+    private int answered;
+
+    /**
+     * Constructor for random decisions, recorded as they are made
+     * @param seed seed of the answers
+     */
+    FuzzDecisions(long seed) {
+        rand = new Random(seed);
+        trace = new int[64];
+    }
+
+    /**
+     * Constructor for decisions replayed from a trace
+     * @param trace answers in the order the decisions are asked
+     */
+    FuzzDecisions(int[] trace) {
+        rand = null;
+        this.trace = trace.clone();
+    }
+
+    /**
+     * Answers the next decision, at random or from the trace
+     * @param answers number of answers the decision has
+     * @return the answer, from 0 to answers - 1
+     */
+    private int next(int answers) {
+        int answer;
+        if(rand != null) {
+            answer = rand.nextInt(answers);
+        } else {
+            answer = answered < trace.length ? Math.floorMod(trace[answered], answers) : 0;
+        }
+        if(answered == trace.length) {
+            trace = Arrays.copyOf(trace, Math.max(answered * 2, 64));
+        }
+        // Replayed answers are kept as read, so the trace of a replay is in range
+        trace[answered++] = answer;
+        return answer;
+    }
+
+    /**
+     * Picks an option
+     * @param options options to pick from
+     * @return the option, null for none
+     */
+    private Property option(List<Property> options) {
+        int answer = next(options.size() + 1);
+        return answer == 0 ? null : options.get(answer - 1);
+    }
+
+    /**
+     * Gets the number of decisions answered
+     * @return the decisions answered so far
+     */
+    int getAnswered() {
+        return answered;
+    }
+
+    /**
+     * Gets the trace of the decisions answered
+     * @return the answers so far, in order, each in range for its decision
+     */
+    int[] getTrace() {
+        return Arrays.copyOf(trace, answered);
+    }
+
+    /**
+     * Buys at random
+     */
+    @Override
+    public boolean buyProperty(Game game, Player player, Property property, boolean liquidate) {
+        return next(2) == 1;
+    }
+
+    /**
+     * Bids anything from nothing to the whole balance
+     */
+    @Override
+    public int bid(Game game, Player bidder, Property property, int bid, Entity highestBidder) {
+        return next(Math.max(bidder.getBalance(), 0) + 1);
+    }
+
+    /**
+     * Accepts at random
+     */
+    @Override
+    public boolean acceptBid(Game game, Player owner, Property property, int bid, Player bidder) {
+        return next(2) == 1;
+    }
+
+    /**
+     * Picks any jail choice, those the player does not have and the invalid 0 included
+     */
+    @Override
+    public int jailChoice(Game game, Player player, List<Integer> choices) {
+        return next(JAIL_ANSWERS);
+    }
+
+    /**
+     * Unmortgages at random
+     */
+    @Override
+    public boolean unmortgage(Game game, Player player, Property property) {
+        return next(2) == 1;
+    }
+
+    /**
+     * Builds on any option, or stops
+     */
+    @Override
+    public Property develop(Game game, Player player, List<Property> options) {
+        return option(options);
+    }
+
+    /**
+     * Raises cash on any option, or gives up
+     */
+    @Override
+    public Property liquidate(Game game, Player player, List<Property> options, int required) {
+        return option(options);
+    }
+}
@@ -0,0 +1,416 @@
+/**
+ * Parallel randomized fuzzer for the game rules
+ *
+ * @author Dale Urquhart
+ * @since 2026-10-19
+ */
+
+package com.monopoly;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Plays headless games with random decisions (FuzzDecisions) across every core, checking the game's invariants
+ * (Invariants) after every phase of every turn and once each turn is over, and counts the games that break each one
+ * or throw
+ * For every invariant broken, the lowest game that broke it is shrunk: replayed with fewer players if it still breaks
+ * the same way, then with its trace cut to the decisions made before the break and zeroed, a run of entries at a
+ * time, then entry by entry halved, as long as it still breaks. What is left is printed with the game's seed and a
+ * command that replays it, writing the game's last turns to a file as a crash would
+ * Games are seeded from (master seed, game index) as the simulator's are, and each game's decisions from its seed,
+ * so a run is reproducible whatever the number of threads
+ *
+ * Usage (from src/main/java, like App): java com.monopoly.Fuzzer [--games N] [--players P] [--threads T] [--seed S]
+ *                                          [--max-turns M] [--check-money true]
+ *                                      java com.monopoly.Fuzzer --replay SEED [--players P] [--trace "0 1 0 2"]
+ */
+public final class Fuzzer {
+
+    /**
+     * Number of players per game
+     */
+    private final int players;
+
+    /**
+     * Master seed every game's seed is derived from
+     */
+    private final long seed;
+
+    /**
+     * Turn cap for a single game
+     */
+    private final int maxTurns;
+
+    /**
+     * Whether the game's money is checked too
+     */
+    private final boolean checkMoney;
+
+    /**
+     * Number of games that broke each invariant, indexed by invariant
+     */
+    private final LongAdder[] broken = new LongAdder[Invariants.NAMES.length];
+
+    /**
+     * Lowest game that broke each invariant, -1 for none, indexed by invariant
+     */
+    private final long[] first = new long[Invariants.NAMES.length];
+
+    /**
+     * Number of turns played over every game
+     */
+    private final LongAdder turns = new LongAdder();
+
+    /**
+     * A game played by the fuzzer, with its decisions and invariant check
+     */
+    static final class Run {
+
+        /**
+         * The game, as it was when it broke or ended
+         */
+        final Game game;
+
+        /**
+         * Decisions of the game, holding its trace
+         */
+        final FuzzDecisions decisions;
+
+        /**
+         * Invariant check of the game
+         */
+        final Invariants invariants;
+
+        /**
+         * Exception the game threw, null if it did not
+         */
+        Throwable thrown;
+
+        /**
+         * Constructor for a run
+         * @param game the game
+         * @param decisions decisions of the game
+         * @param invariants invariant check of the game
+         */
+        private Run(Game game, FuzzDecisions decisions, Invariants invariants) {
+            this.game = game;
+            this.decisions = decisions;
+            this.invariants = invariants;
+        }
+    }
+
+    /**
+     * Constructor for a fuzzer
+     * @param players number of players per game
+     * @param seed master seed
+     * @param maxTurns turn cap for a single game
+     * @param checkMoney whether the game's money is checked too
+     */
+    Fuzzer(int players, long seed, int maxTurns, boolean checkMoney) {
+        if(players < 2 || players > 4) {
+            throw new IllegalArgumentException("Games need 2 to 4 players");
+        }
+        this.players = players;
+        this.seed = seed;
+        this.maxTurns = maxTurns;
+        this.checkMoney = checkMoney;
+        for(int i = 0; i < broken.length; i++) {
+            broken[i] = new LongAdder();
+        }
+        Arrays.fill(first, -1);
+    }
+
+    /**
+     * Derives the seed of a game's random decisions from the game's seed
+     * @param gameSeed seed of the game
+     * @return seed of its decisions
+     */
+    static long decisionSeed(long gameSeed) {
+        return Simulator.seedFor(gameSeed, 0);
+    }
+
+    /**
+     * Plays a game until it breaks an invariant, throws, ends or hits the turn cap
+     * @param gameSeed seed of the game's dice and cards
+     * @param seats number of players
+     * @param decisions decisions of every player
+     * @param record whether to record the game's last turns, to write them out if it breaks
+     * @return the game played
+     */
+    Run play(long gameSeed, int seats, FuzzDecisions decisions, boolean record) {
+        Game game = Game.headless(new Random(gameSeed), GameRules.STANDARD, seats);
+        game.setDecisions(decisions);
+        if(!record) {
+            game.setTurnRecorder(TurnRecorder.OFF);
+        }
+        GameController controller = new GameController(game);
+        if(checkMoney) {
+            game.checkMoney();
+        }
+        Run run = new Run(game, decisions, game.checkInvariants());
+
+        try {
+            while(!game.isOver() && !run.invariants.isBroken() && game.getTurnsPlayed() < maxTurns) {
+                game.playTurn(controller);
+                run.invariants.check(game, Invariants.PHASE_TURN);
+            }
+        } catch (RuntimeException e) {
+            run.thrown = e;
+            run.invariants.thrown(game, e);
+        }
+        return run;
+    }
+
+    /**
+     * Plays a game by index with fresh random decisions
+     * @param index index of the game
+     */
+    private void fuzz(int index) {
+        long gameSeed = Simulator.seedFor(seed, index);
+        Run run = play(gameSeed, players, new FuzzDecisions(decisionSeed(gameSeed)), false);
+        turns.add(run.game.getTurnsPlayed());
+        if(run.invariants.isBroken()) {
+            broke(run.invariants.getBroken(), index);
+        }
+    }
+
+    /**
+     * Counts a game breaking an invariant, keeping the lowest such game
+     * @param invariant the invariant
+     * @param index index of the game
+     */
+    private synchronized void broke(int invariant, long index) {
+        broken[invariant].increment();
+        if(first[invariant] < 0 || index < first[invariant]) {
+            first[invariant] = index;
+        }
+    }
+
+    /**
+     * Plays games across the worker threads
+     * @param threads number of worker threads
+     * @param games number of games
+     */
+    void run(int threads, int games) {
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            pool.invoke(new GameRangeTask(this::fuzz, 0, games));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Replays a game and checks it breaks an invariant
+     * @param gameSeed seed of the game
+     * @param seats number of players
+     * @param trace decisions of the game
+     * @param invariant invariant it must break
+     * @return the decisions made up to the break, null if the game did not break it
+     */
+    private int[] breaks(long gameSeed, int seats, int[] trace, int invariant) {
+        Run run = play(gameSeed, seats, new FuzzDecisions(trace), false);
+        return run.invariants.getBroken() == invariant ? trim(run.decisions.getTrace()) : null;
+    }
+
+    /**
+     * Shrinks the trace of a game that breaks an invariant, zeroing runs of entries while it still breaks it, halving
+     * the runs down to single entries, then halving what entries are left
+     * @param gameSeed seed of the game
+     * @param seats number of players
+     * @param trace decisions that break the invariant
+     * @param invariant the invariant
+     * @return the shrunk trace
+     */
+    int[] shrink(long gameSeed, int seats, int[] trace, int invariant) {
+        int[] best = trim(trace);
+        for(int run = Integer.highestOneBit(Math.max(best.length, 1)); run >= 1; run /= 2) {
+            for(int from = 0; from < best.length; from += run) {
+                int to = Math.min(from + run, best.length);
+                boolean zero = true;
+                for(int i = from; i < to && zero; i++) {
+                    zero = best[i] == 0;
+                }
+                if(zero) continue;
+                int[] candidate = best.clone();
+                Arrays.fill(candidate, from, to, 0);
+                int[] kept = breaks(gameSeed, seats, candidate, invariant);
+                if(kept != null) best = kept;
+            }
+        }
+        for(int i = 0; i < best.length; i++) {
+            while(best[i] > 1) {
+                int[] candidate = best.clone();
+                candidate[i] /= 2;
+                int[] kept = breaks(gameSeed, seats, candidate, invariant);
+                if(kept == null || kept.length <= i) {
+                    if(kept != null) best = kept;
+                    break;
+                }
+                best = kept;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Cuts the zeros off the end of a trace, which read the same as no entries
+     * @param trace the trace
+     * @return the trace without trailing zeros
+     */
+    static int[] trim(int[] trace) {
+        int length = trace.length;
+        while(length > 0 && trace[length - 1] == 0) {
+            length--;
+        }
+        return length == trace.length ? trace : Arrays.copyOf(trace, length);
+    }
+
+    /**
+     * Shrinks the lowest game that broke an invariant and prints what is left and how to replay it
+     * @param invariant the invariant
+     */
+    private void reportShrunk(int invariant) {
+        long gameSeed = Simulator.seedFor(seed, first[invariant]);
+        int[] trace = play(gameSeed, players, new FuzzDecisions(decisionSeed(gameSeed)), false).decisions.getTrace();
+        int seats = players;
+        for(int fewer = 2; fewer < players; fewer++) {
+            if(breaks(gameSeed, fewer, trace, invariant) != null) {
+                seats = fewer;
+                break;
+            }
+        }
+        int[] shrunk = shrink(gameSeed, seats, trace, invariant);
+        Run run = play(gameSeed, seats, new FuzzDecisions(shrunk), false);
+        int nonZero = 0;
+        for(int answer : shrunk) {
+            if(answer != 0) nonZero++;
+        }
+        System.out.printf("  shrunk from %d players and %d decisions to %d players and %d decisions (%d not 0)%n",
+            players, trace.length, seats, shrunk.length, nonZero);
+        System.out.println("  " + run.invariants.describe());
+        System.out.println("  replay: java com.monopoly.Fuzzer --replay " + gameSeed + " --players " + seats
+            + " --trace \"" + format(shrunk) + "\"" + (checkMoney ? " --check-money true" : ""));
+    }
+
+    /**
+     * Prints the games played and each invariant broken, shrinking the lowest game that broke it
+     * @param games number of games played
+     * @param seconds wall clock time of the run
+     */
+    void report(int games, double seconds) {
+        System.out.printf("Games: %d in %.2fs, %.0f games/s, %d turns, %.0f turns/s%n",
+            games, seconds, games / seconds, turns.sum(), turns.sum() / seconds);
+        boolean clean = true;
+        for(int invariant = 0; invariant < broken.length; invariant++) {
+            if(first[invariant] < 0) continue;
+            clean = false;
+            System.out.printf("Broken: %s in %d games, first game %d (seed %d)%n", Invariants.NAMES[invariant],
+                broken[invariant].sum(), first[invariant], Simulator.seedFor(seed, first[invariant]));
+            reportShrunk(invariant);
+        }
+        if(clean) {
+            System.out.println("No invariant broken");
+        }
+    }
+
+    /**
+     * Replays a game, printing the invariant it breaks and writing its last turns to a file if it breaks one
+     * @param gameSeed seed of the game
+     * @param seats number of players
+     * @param trace decisions of the game
+     */
+    void replay(long gameSeed, int seats, int[] trace) {
+        Run run = play(gameSeed, seats, new FuzzDecisions(trace), true);
+        System.out.println("Played " + run.game.getTurnsPlayed() + " turns, " + run.decisions.getAnswered() + " decisions");
+        if(!run.invariants.isBroken()) {
+            System.out.println("No invariant broken");
+            return;
+        }
+        System.out.println(run.invariants.describe());
+        if(run.thrown != null) {
+            run.thrown.printStackTrace(System.out);
+        } else {
+            run.game.dumpTurns(new IllegalStateException(run.invariants.describe()));
+        }
+    }
+
+    /**
+     * Writes a trace as the replay reads it
+     * @param trace the trace
+     * @return the entries separated by spaces
+     */
+    static String format(int[] trace) {
+        StringBuilder out = new StringBuilder();
+        for(int i = 0; i < trace.length; i++) {
+            if(i > 0) out.append(' ');
+            out.append(trace[i]);
+        }
+        return out.toString();
+    }
+
+    /**
+     * Reads a trace written by format
+     * @param text entries separated by spaces or commas
+     * @return the trace
+     */
+    static int[] parse(String text) {
+        String trimmed = text.trim();
+        if(trimmed.isEmpty()) return new int[0];
+        String[] tokens = trimmed.split("[\\s,]+");
+        int[] trace = new int[tokens.length];
+        for(int i = 0; i < tokens.length; i++) {
+            trace[i] = Integer.parseInt(tokens[i]);
+        }
+        return trace;
+    }
+
+    /**
+     * Main method for the fuzzer
+     * @param args cmd line inputs
+     */
+    public static void main(String[] args) {
+        int games = 100000;
+        int players = 4;
+        int threads = Runtime.getRuntime().availableProcessors();
+        long seed = System.nanoTime();
+        int maxTurns = 1000;
+        boolean checkMoney = false;
+        Long replay = null;
+        String trace = "";
+
+        for(int i = 0; i < args.length; i += 2) {
+            if(i + 1 == args.length) {
+                throw new IllegalArgumentException("Missing value for " + args[i]);
+            }
+            switch (args[i]) {
+                case "--games":       games = Integer.parseInt(args[i + 1]); break;
+                case "--players":     players = Integer.parseInt(args[i + 1]); break;
+                case "--threads":     threads = Integer.parseInt(args[i + 1]); break;
+                case "--seed":        seed = Long.parseLong(args[i + 1]); break;
+                case "--max-turns":   maxTurns = Integer.parseInt(args[i + 1]); break;
+                case "--check-money": checkMoney = Boolean.parseBoolean(args[i + 1]); break;
+                case "--replay":      replay = Long.parseLong(args[i + 1]); break;
+                case "--trace":       trace = args[i + 1]; break;
+                default: throw new IllegalArgumentException("Unknown option " + args[i]);
+            }
+        }
+
+        Fuzzer fuzzer = new Fuzzer(players, seed, maxTurns, checkMoney);
+        if(replay != null) {
+            fuzzer.replay(replay, players, parse(trace));
+            return;
+        }
+        // Random decisions make every game log its oddities, which would only bury the report
+        if(System.getProperty("monopoly.log") == null) {
+            Log.setLevel(Log.OFF);
+        }
+        System.out.println("Fuzzing " + games + " games of " + players + " players on " + threads + " threads, seed " + seed);
+        long start = System.nanoTime();
+        fuzzer.run(threads, games);
+        fuzzer.report(games, (System.nanoTime() - start) / 1e9);
+    }
+}
@@ -6,10 +6,12 @@
 package com.monopoly;
 
 import java.io.BufferedReader; 
+import java.io.File;
 import java.io.FileReader;
 import java.io.IOException;
 import java.util.ArrayList; 
 import java.util.List;
+import java.util.Random;
 
 /**
  * High level handler class for Monopoly funcitons
@@ -22,9 +24,121 @@ public final class Game {
     private static final String PATH = "../resources/com/monopoly/";
 
     /**
-     * Bail amount
+     * Number of spaces on the board
      */
-    private static final int BAIL = 50;
+    static final int BOARD_SIZE = 40;
+
+    /**
+     * Bankruptcy cause: could not pay rent to another player
+     */
+    static final int BANKRUPT_RENT = 0;
+
+    /**
+     * Bankruptcy cause: could not pay a tax
+     */
+    static final int BANKRUPT_TAX = 1;
+
+    /**
+     * Bankruptcy cause: could not pay bail after the last jail turn
+     */
+    static final int BANKRUPT_BAIL = 2;
+
+    /**
+     * Names of the bankruptcy causes, indexed by cause
+     */
+    static final String[] BANKRUPTCY_CAUSES = {"Rent", "Tax", "Bail"};
+
+    /**
+     * Ending: still being played
+     */
+    static final int PLAYING = -1;
+
+    /**
+     * Ending: every other player went bankrupt
+     */
+    static final int ENDED_BANKRUPTCY = 0;
+
+    /**
+     * Ending: the turn cap was hit
+     */
+    static final int ENDED_TURN_CAP = 1;
+
+    /**
+     * Ending: the board kept going back to the same states without anyone losing
+     */
+    static final int ENDED_CYCLE = 2;
+
+    /**
+     * Ending: the board stopped changing without anyone losing
+     */
+    static final int ENDED_STALL = 3;
+
+    /**
+     * Names of the endings, indexed by ending
+     */
+    static final String[] ENDINGS = {"Bankruptcy", "Turn cap", "Cycle", "Stall"};
+
+    /**
+     * Jail choice: pay the fine
+     */
+    static final int JAIL_PAY = 1;
+
+    /**
+     * Jail choice: try for doubles
+     */
+    static final int JAIL_ROLL = 2;
+
+    /**
+     * Jail choice: use a 'Get Out of Jail Free' card
+     */
+    static final int JAIL_CARD = 3;
+
+    /**
+     * Every set of jail choices a player can have, indexed by whether they can pay (1) plus whether they own a card (2)
+     * Shared and unmodifiable, so asking for the choices allocates nothing
+     */
+    private static final List<List<Integer>> JAIL_CHOICES = List.of(
+        List.of(JAIL_ROLL),
+        List.of(JAIL_PAY, JAIL_ROLL),
+        List.of(JAIL_ROLL, JAIL_CARD),
+        List.of(JAIL_PAY, JAIL_ROLL, JAIL_CARD));
+
+    /**
+     * Upper bounds of the turn and phase latency buckets in seconds, from a headless phase up to a player thinking
+     */
+    private static final double[] TURN_BUCKETS = {1e-6, 1e-5, 1e-4, 1e-3, 0.01, 0.1, 1, 10, 60};
+
+    /**
+     * Turns played by every game in the process
+     */
+    private static final Metrics.Counter TURNS = Metrics.DEFAULT.counter("monopoly_turns_total",
+        "Turns played by every game in the process");
+
+    /**
+     * Time a whole turn takes
+     */
+    private static final Metrics.Histogram TURN_SECONDS = Metrics.DEFAULT.histogram("monopoly_turn_seconds",
+        "Time a turn takes, from its start until play passes on", null, null, TURN_BUCKETS);
+
+    /**
+     * Time the jail choice takes
+     */
+    private static final Metrics.Histogram JAIL_SECONDS = phaseHistogram(GameEvents.PHASE_JAIL);
+
+    /**
+     * Time rolling and moving takes
+     */
+    private static final Metrics.Histogram ROLL_SECONDS = phaseHistogram(GameEvents.PHASE_ROLL);
+
+    /**
+     * Time handling the space landed on takes
+     */
+    private static final Metrics.Histogram LANDING_SECONDS = phaseHistogram(GameEvents.PHASE_LANDING);
+
+    /**
+     * Time building takes
+     */
+    private static final Metrics.Histogram DEVELOPMENT_SECONDS = phaseHistogram(GameEvents.PHASE_DEVELOPMENT);
 
     /**
      * Collection of boardspaces in order
@@ -66,20 +180,199 @@ public final class Game {
      */
     private Player current; 
 
+    /**
+     * Random source for the dice and card draws of the game
+     */
+    private final Random rand;
+
+    /**
+     * Banker of the game
+     */
+    private final Banker banker;
+
+    /**
+     * Number of bankruptcies in the game, indexed by cause
+     */
+    private final int[] bankruptcies;
+
+    /**
+     * Number of turns played so far
+     */
+    private int turnsPlayed;
+
+    /**
+     * Turn a player first owned a whole colour group, -1 until it happens
+     */
+    private int firstMonopolyTurn;
+
+    /**
+     * Decisions of players without their own provider
+     */
+    private DecisionProvider decisions;
+
+    /**
+     * Sampler tilting the dice and card draws, null for the plain distributions
+     */
+    private ImportanceSampler sampler;
+
+    /**
+     * Detector ending the game once it stalls, null to play on
+     */
+    private StallDetector stall;
+
+    /**
+     * How the game was ended early, PLAYING until then
+     */
+    private int ending = PLAYING;
+
+    /**
+     * Winner named when the game was ended early, null for none
+     */
+    private Player winner;
+
+    /**
+     * Zobrist hash of the game's state, kept up to date by the properties and players as they change
+     */
+    private final ZobristHash hash;
+
+    /**
+     * Ledger every payment of the game is posted to
+     */
+    private final Ledger ledger;
+
+    /**
+     * Last turns of the game, written out if it crashes
+     */
+    private TurnRecorder turns;
+
+    /**
+     * Check that the game's balances match its ledger, null when not checking
+     */
+    private MoneyCheck money;
+
+    /**
+     * Check of the game's bookkeeping invariants, null when not checking
+     */
+    private Invariants invariants;
 
     /**
      * Game constructor
      */
     Game(){ 
+        this(new Random());
+    }
+
+    /**
+     * Game constructor with a given random source, seeded games play out the same every time
+     * @param rand Random source for the dice and card draws
+     */
+    Game(Random rand){ 
+        this(rand, GameRules.STANDARD);
+    }
+
+    /**
+     * Game constructor with a given random source and house rules
+     * @param rand Random source for the dice and card draws
+     * @param rules rules the game is played with
+     */
+    Game(Random rand, GameRules rules){ 
         turnIndex = 0;  
-        players = new ArrayList<> (); 
         players = new ArrayList<>();
+        this.rand = rand;
+        banker = new Banker(rules);
+        ledger = new Ledger(this, Ledger.DEFAULT_POSTINGS);
+        banker.setLedger(ledger);
+        bankruptcies = new int[BANKRUPTCY_CAUSES.length];
+        firstMonopolyTurn = -1;
+        decisions = BotDecisions.greedy();
+        turns = new TurnRecorder(TurnRecorder.DEFAULT_TURNS);
         
         List<List<Card>> decks = buildDecks();
         chanceDeck = decks.get(0);
-        cCDeck = decks.get(0);  
+        cCDeck = decks.get(1);  
 
         map = buildMap(); 
+        hash = new ZobristHash(0);
+        for(BoardSpace space : map) {
+            if(space instanceof Property) ((Property) space).setHash(hash);
+        }
+        hash.reset(this);
+    }
+
+    /**
+     * Sets up a game with no window, seats filled by greedy bots rolling dice drawn from the game's random source
+     * Every headless tool starts its games here, so they all play by the same setup
+     * @param rand Random source for the dice and card draws
+     * @param rules rules the game is played with
+     * @param seats number of players
+     * @return the game, ready for its first turn
+     */
+    static Game headless(Random rand, GameRules rules, int seats) {
+        Game game = new Game(rand, rules);
+        game.setDice(new Dice(rand));
+        for(int i = 0; i < seats; i++) {
+            game.addPlayer(new Player("Player " + (i + 1), game.getGo(), null, i));
+        }
+        game.setPlayerCount(seats);
+        return game;
+    }
+
+    /**
+     * Copy constructor, copies every piece of state a turn can change and shares what never changes (cards, rents, names)
+     * Nothing is read from disk, so copies are cheap enough to make one per search rollout
+     * @param other game to copy
+     * @param rand Random source for the copy's dice and card draws
+     */
+    private Game(Game other, Random rand) {
+        this.rand = rand;
+        banker = new Banker(other.banker);
+        // Search copies keep the balances but no postings
+        ledger = new Ledger(this, 0);
+        banker.setLedger(ledger);
+        bankruptcies = other.bankruptcies.clone();
+        turnIndex = other.turnIndex;
+        playerCount = other.playerCount;
+        turnsPlayed = other.turnsPlayed;
+        firstMonopolyTurn = other.firstMonopolyTurn;
+        ending = other.ending;
+        decisions = other.decisions;
+        chanceDeck = new ArrayList<>(other.chanceDeck);
+        cCDeck = new ArrayList<>(other.cCDeck);
+        dice = new Dice(rand);
+        hash = new ZobristHash(0);
+        turns = TurnRecorder.OFF;
+
+        players = new ArrayList<>(other.players.size());
+        for(Player p : other.players) {
+            players.add(new Player(p));
+        }
+        current = getSeat(other.current.getID());
+        winner = other.winner == null ? null : getSeat(other.winner.getID());
+
+        map = new BoardSpace[other.map.length];
+        for(int i = 0; i < map.length; i++) {
+            map[i] = other.map[i].copy(this);
+        }
+
+        banker.copyProperties(other.banker, map);
+        for(int i = 0; i < players.size(); i++) {
+            Player copy = players.get(i), original = other.players.get(i);
+            copy.copyProperties(original, map);
+            copy.setInitialLocation(map[original.getLocation().getId()]);
+            copy.setHash(hash);
+            copy.setLedger(ledger);
+        }
+        // Hashed afresh, as properties left with players no longer in the game go back to the bank in the copy
+        hash.reset(this);
+    }
+
+    /**
+     * Copies the game, for searching ahead without touching the game being played
+     * @param rand Random source for the copy's dice and card draws
+     * @return the copy
+     */
+    Game copy(Random rand) {
+        return new Game(this, rand);
     }
 
     /**
@@ -103,7 +396,15 @@ public final class Game {
      * @return the bail amount
      */
     int getBail() {
-        return BAIL;
+        return getRules().getBail();
+    }
+
+    /**
+     * Gets the rules the game is played with
+     * @return the game's rules
+     */
+    GameRules getRules() {
+        return banker.getRules();
     }
 
     /**
@@ -136,6 +437,26 @@ public final class Game {
         return playerCount;
     }
 
+    /**
+     * Sets the decisions of players without their own provider
+     * @param decisions provider of the decisions
+     */
+    void setDecisions(DecisionProvider decisions) {
+        this.decisions = decisions;
+    }
+
+    /**
+     * Gets the provider making an entity's decisions
+     * @param entity player deciding
+     * @return the player's own provider, else the game's
+     */
+    DecisionProvider getDecisions(Entity entity) {
+        if(entity instanceof Player && ((Player) entity).getDecisions() != null) {
+            return ((Player) entity).getDecisions();
+        }
+        return decisions;
+    }
+
     /**
      * Returns the current player
      * @return the current player
@@ -161,6 +482,38 @@ public final class Game {
         return players.get(i);
     }
 
+    /**
+     * Gets a player still in the game by seat
+     * @param id ID of the player
+     * @return the player, null if they are no longer in the game
+     */
+    Player getSeat(int id) {
+        for(Player p : players) {
+            if(p.getID() == id) {
+                return p;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Gets this game's counterpart of an entity of the game it was copied from
+     * @param original banker or player of the original game
+     * @return the player in the same seat, else the banker (also for players removed from the game)
+     */
+    Entity getCopyOf(Entity original) {
+        Player seat = original instanceof Player ? getSeat(((Player) original).getID()) : null;
+        return seat != null ? seat : banker;
+    }
+
+    /**
+     * Gets the hash of the game's state
+     * @return the game's Zobrist hash
+     */
+    ZobristHash getHash() {
+        return hash;
+    }
+
     /**
      * Gets the Go space
      */
@@ -175,11 +528,60 @@ public final class Game {
     Player getNextPlayer() {  
         getCurrentPlayer().flipCurrent();
         turnIndex = increment(turnIndex);
+        hash.turn(current, getPlayers().get(turnIndex));
         current = getPlayers().get(turnIndex);
         current.flipCurrent();
         return getCurrentPlayer();
     }
 
+    /**
+     * Gets the random source of the game
+     * @return the random source for dice and cards
+     */
+    Random getRandom() {
+        return rand;
+    }
+
+    /**
+     * Gets the banker of the game
+     * @return the game's banker
+     */
+    Banker getBanker() {
+        return banker;
+    }
+
+    /**
+     * Gets the ledger every payment of the game is posted to
+     * @return the ledger
+     */
+    Ledger getLedger() {
+        return ledger;
+    }
+
+    /**
+     * Gets the number of bankruptcies so far
+     * @return bankruptcies indexed by cause
+     */
+    int[] getBankruptcies() {
+        return bankruptcies;
+    }
+
+    /**
+     * Gets the number of turns played so far
+     * @return turns played
+     */
+    int getTurnsPlayed() {
+        return turnsPlayed;
+    }
+
+    /**
+     * Gets the turn a player first owned a whole colour group
+     * @return turn of the first monopoly, -1 if there is none yet
+     */
+    int getFirstMonopolyTurn() {
+        return firstMonopolyTurn;
+    }
+
     /**
      * Gets the game dice
      */
@@ -211,10 +613,102 @@ public final class Game {
         this.dice = dice; 
     }
 
+    /**
+     * Draws the dice of each player and the cards of each deck from their own streams of a seed, so games with the
+     * same seed see the same dice and cards whatever the players decide (common random numbers)
+     * @param seed seed of the streams
+     * @param antithetic true to mirror the dice of the games of the same seed
+     */
+    void useStreams(long seed, boolean antithetic) {
+        setDice(new Dice(seed, antithetic));
+        Random chance = new Random(Simulator.seedFor(~seed, 0));
+        Random communityChest = new Random(Simulator.seedFor(~seed, 1));
+        for(BoardSpace space : map) {
+            if(space instanceof CardManager) {
+                ((CardManager) space).setRandom(((CardManager) space).isChance() ? chance : communityChest);
+            }
+        }
+    }
+
+    /**
+     * Tilts the dice and card draws for importance sampling, set after the dice
+     * @param sampler sampler picking the rolls and cards, null for the plain distributions
+     */
+    void setSampler(ImportanceSampler sampler) {
+        this.sampler = sampler;
+        dice.setSampler(sampler);
+    }
+
+    /**
+     * Watches the game for stalls, set once the players are seated
+     * @param stall detector ending the game once it stalls, null to play on
+     */
+    void setStallDetector(StallDetector stall) {
+        this.stall = stall;
+    }
+
+    /**
+     * Ends the game before a single player is left
+     * @param ending why the game ended
+     * @param tiebreak true to name the player with the highest net worth the winner, false for no winner
+     */
+    void end(int ending, boolean tiebreak) {
+        this.ending = ending;
+        winner = tiebreak ? getLeader() : null;
+    }
+
+    /**
+     * Gets how the game ended
+     * @return the ending, PLAYING while the game goes on
+     */
+    int getEnding() {
+        if(ending == PLAYING && playerCount <= 1) {
+            return ENDED_BANKRUPTCY;
+        }
+        return ending;
+    }
+
+    /**
+     * Checks whether the game is over
+     * @return true once a single player is left or the game was ended
+     */
+    boolean isOver() {
+        return getEnding() != PLAYING;
+    }
+
+    /**
+     * Gets the winner of the game
+     * @return the last player left, the tiebreak winner of a game ended early, or null for none
+     */
+    Player getWinner() {
+        return playerCount == 1 ? getPlayer(0) : winner;
+    }
+
+    /**
+     * Gets the player with the highest net worth, the first seated on a tie
+     * @return the leader
+     */
+    Player getLeader() {
+        Player leader = null;
+        for(Player p : players) {
+            if(leader == null || p.getNetWorth() > leader.getNetWorth()) leader = p;
+        }
+        return leader;
+    }
+
+    /**
+     * Gets the sampler tilting the dice and card draws
+     * @return the sampler, null for the plain distributions
+     */
+    ImportanceSampler getSampler() {
+        return sampler;
+    }
+
     /**
      * Sets the current player
      */
     void setCurrentPlayer(Player current) {
+        if(this.current != null) {hash.turn(this.current, current);}
         this.current = current;
     }
  
@@ -228,7 +722,7 @@ public final class Game {
             decks.add(Card.getCCDeck(PATH + "cards.csv"));
             return decks;
         } catch (IOException e) {
-            System.out.println("Come on, idiot. Give me a good csv");
+            Log.error("Card decks could not be read, playing without cards. Full message:\n%s", e);
             return new ArrayList<>(2);
         }
     }
@@ -237,10 +731,9 @@ public final class Game {
      * Builds the game map
      */
     BoardSpace[] buildMap() {
-        map = new BoardSpace[40]; 
+        map = new BoardSpace[BOARD_SIZE]; 
         try (BufferedReader br = new BufferedReader(new FileReader(PATH+"properties.csv"))) { 
             String line;
-            Banker banker = Banker.getInstance();
 
             br.readLine(); // Skip the header line
             while ((line = br.readLine()) != null) {
@@ -255,7 +748,7 @@ public final class Game {
                 
                 switch (type) {
                     case "Go":
-                        map[index] = new Go("Go", 0);
+                        map[index] = new Go("Go", 0, banker);
                         for(Player p : getPlayers()) {
                             p.setLocation(map[index]);  
                         }
@@ -280,11 +773,11 @@ public final class Game {
                         break;
                     case "Tax":
                         int taxAmount = Integer.parseInt(action);
-                        map[index] = new Tax(name, index, taxAmount);
+                        map[index] = new Tax(name, index, taxAmount, banker);
                         break;
                     case "CardManager":
                         map[index] = new CardManager(name, index,
-                                action.equals("Chance") ? getChanceDeck() : getCommunityChestDeck());
+                                action.equals("Chance") ? getChanceDeck() : getCommunityChestDeck(), rand);
                         break;
                     case "FreeParking":
                         map[index] = new FreeParking();
@@ -294,22 +787,63 @@ public final class Game {
                         break;
                 }
             }
+
+            // Size each set now that the whole board is known
+            for(BoardSpace space : map) {
+                if(space instanceof Property) {
+                    Property property = (Property) space;
+                    int size = 0;
+                    for(BoardSpace other : map) {
+                        if(other instanceof Property && ((Property) other).getType().equals(property.getType())) size++;
+                    }
+                    property.setSetSize(size);
+                }
+            }
         } catch (IOException e) {
-            System.out.println("Bad csv, idiot"); 
+            Log.error("Board could not be read. Full message:\n%s", e);
         } catch (Exception e) {
-            System.out.println("Are you even reading this thing? or just guessing?");
+            Log.error("Board could not be built. Full message:\n%s", e);
+            dumpTurns(e);
             throw(e);
         }
         return map;
     }
 
     /**
-     * Removes a player
+     * Removes a player, taking them off the board and out of the jail
+     * Players seated before the turn index shift down, so the turn index follows them to keep the next player in line
      * @param p player to remove
      */
     void removePlayer(Player p) {
-        getPlayers().remove(p);
+        int index = getPlayers().indexOf(p);
+        if(getPlayers().remove(p)) {
+            hash.remove(p);
+            p.setHash(null);
+            p.getLocation().removeOccupant(p);
+            // Their jail flag is left as it is, the rest of a turn from jail reads it to end the turn
+            getJail().getJailedPlayers().remove(p);
+        }
         playerCount--;
+        if(index <= turnIndex && playerCount > 0) {
+            turnIndex = turnIndex == 0 ? playerCount - 1 : turnIndex - 1;
+        }
+    }
+
+    /**
+     * Bankrupts a player, the last two players standing end the game by removal
+     * @param p player going bankrupt
+     * @param bankrupter entity the player could not pay
+     * @param cause cause of the bankruptcy (BANKRUPT_RENT, BANKRUPT_TAX or BANKRUPT_BAIL)
+     */
+    void bankrupt(Player p, Entity bankrupter, int cause) {
+        GameEvents.bankruptcy(p, bankrupter, cause);
+        bankruptcies[cause]++;
+        if(p == current) turns.action(TurnRecorder.BANKRUPT);
+        if(getPlayerCount() == 2) {
+            removePlayer(p);
+        } else {
+            p.bankrupted(bankrupter, this);
+        }
     }
 
     /**
@@ -322,13 +856,19 @@ public final class Game {
             setCurrentPlayer(p);
         }
         players.add(p); 
+        p.setHash(hash);
+        p.setLedger(ledger);
+        hash.reset(this);
+        if(money != null) {
+            money.add(p);
+        }
     }
 
     /**
-     * Decrements the turn index and will index the previously played player
+     * Decrements the turn index and will index the previously played player, wrapping from the first seat to the last
      */
     void decrementTurnIndex() {
-        turnIndex = getTurnIndex() == -1 ? getPlayerCount()-1 : turnIndex - 1;
+        turnIndex = getTurnIndex() == 0 ? getPlayerCount()-1 : turnIndex - 1;
     }
 
     /**
@@ -354,6 +894,21 @@ public final class Game {
         return passedGo;
     }
 
+    /**
+     * Moves the current player forward by roll, rewarding them if they pass Go
+     * @param roll number of spaces to move
+     * @return Whether or not the player passed Go
+     */
+    boolean move(int roll) {
+        int newSpace = roll + current.getLocation().getId();
+        boolean passed = passedGo(newSpace);
+        if(passed) {
+            newSpace -= getMap().length;
+        }
+        current.setLocation(getSpace(newSpace));
+        return passed;
+    }
+
     /**
      * Checks is player got doubles or not
      * @return No doubles: 0, Not third doubles: -1, Third doubles: 1
@@ -409,36 +964,204 @@ public final class Game {
      * Handles a roll of the dice
      */
     void handleRoll(GameView view, GameController controller) {   
-        view.clearDispPane();
+        try {
+            GameEvents.TurnEvent turn = new GameEvents.TurnEvent();
+            turn.begin();
+            long timed = Metrics.DEFAULT.start();
+            Player player = current;
+            view.clearDispPane();
+            turnsPlayed++;
+            TURNS.increment();
+            turns.begin(turnsPlayed, player);
         
-        // Make roll and assign the new location
-        int roll = getDice().roll(getCurrentPlayer());  
-        int newSpace = roll + current.getLocation().getId();
+            // Make roll and assign the new location
+            GameEvents.PhaseEvent phase = new GameEvents.PhaseEvent();
+            phase.begin();
+            long rolled = Metrics.DEFAULT.start();
+            int roll = getDice().roll(getCurrentPlayer());  
+            turns.roll(getDice().getD1(), getDice().getD2());
 
-        view.showMessage("You rolled a "+roll+"!");
+            view.showMessage("You rolled a "+roll+"!");
 
-        // Passed Go
-        if(passedGo(newSpace)) {
-            view.showMessage("\nYou passed Go! Here is $200.");
-            newSpace -= getMap().length;
+            // Passed Go
+            if(move(roll)) {
+                view.showMessage("\nYou passed Go! Here is $" + getGo().getReward() + ".");
+            }
+
+            // Handle Doubles logic 
+            switch (handleDoubles()) {
+                case -1:
+                    view.showMessage("\nYou rolled doubles, you get to roll again after your turn! ");
+                    break; 
+                case 1:
+                    view.showMessage("\nThat was your third doubles, go to jail! ");
+                    break; 
+                default:
+                    break;
+            }
+            GameEvents.endPhase(phase, GameEvents.PHASE_ROLL, this, player);
+            ROLL_SECONDS.since(rolled);
+            checkPhase(GameEvents.PHASE_ROLL);
+
+            // Handle the logic for landing on the new location 
+            handleLanding(controller);
+            checkFirstMonopoly();
+
+            // Assign next player
+            finishTurn();
+            turns.end(player);
+            GameEvents.endTurn(turn, this, player);
+            TURN_SECONDS.since(timed);
+            Log.debug("Got next player: %s", current.getName());
+            view.displayCurrent(current, controller);
+
+            // Is the next player in jail?
+            if(current.inJail()) {
+                if(controller.handleJailTurn()) {
+                    view.showDice();
+                }
+            
+            }
+            else view.showDice();
+        } catch (RuntimeException | Error e) {
+            dumpTurns(e);
+            throw e;
         }
+    }
 
-        // Assign new location
-        current.setLocation(getSpace(newSpace));
+    /**
+     * Plays the current player's turn without a view: jail, roll, move and landing, then passes play on
+     * @param controller Controller making the player's decisions
+     */
+    void playTurn(GameController controller) {
+        try {
+            GameEvents.TurnEvent turn = new GameEvents.TurnEvent();
+            turn.begin();
+            long timed = Metrics.DEFAULT.start();
+            Player player = current;
+            turnsPlayed++;
+            TURNS.increment();
+            turns.begin(turnsPlayed, player);
+            boolean rolls = !current.inJail();
+            if(!rolls) {
+                GameEvents.PhaseEvent phase = new GameEvents.PhaseEvent();
+                phase.begin();
+                long jailed = Metrics.DEFAULT.start();
+                boolean freedByDoubles = controller.handleJailTurn();
+                GameEvents.endPhase(phase, GameEvents.PHASE_JAIL, this, player);
+                JAIL_SECONDS.since(jailed);
+                checkPhase(GameEvents.PHASE_JAIL);
+                rolls = continueFromJail(controller, freedByDoubles);
+            }
+            if(rolls) {
+                playRoll(controller);
+            }
+            turns.end(player);
+            GameEvents.endTurn(turn, this, player);
+            TURN_SECONDS.since(timed);
+            if(stall != null && playerCount > 1) {
+                stall.check();
+            }
+        } catch (RuntimeException | Error e) {
+            dumpTurns(e);
+            throw e;
+        }
+    }
 
-        // Handle Doubles logic 
-        switch (handleDoubles()) {
-            case -1:
-                view.showMessage("\nYou rolled doubles, you get to roll again after your turn! ");
-                break; 
-            case 1:
-                view.showMessage("\nThat was your third doubles, go to jail! ");
-                break; 
-            default:
-                break;
+    /**
+     * Carries on a turn after the current player's jail choice
+     * @param controller Controller making the player's decisions
+     * @param freedByDoubles whether the jail choice rolled doubles
+     * @return true if the player left jail without rolling and rolls as usual, false if the turn is over
+     */
+    boolean continueFromJail(GameController controller, boolean freedByDoubles) {
+        if(freedByDoubles) {
+            handleLanding(controller);
+            checkFirstMonopoly();
         }
+        // Doubles out of jail move the player, but do not roll again
+        if(freedByDoubles || current.inJail()) {
+            finishTurn();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Rolls and moves the current player, handles the landing, then passes play on
+     * @param controller Controller making the player's decisions
+     */
+    void playRoll(GameController controller) {
+        GameEvents.PhaseEvent phase = new GameEvents.PhaseEvent();
+        phase.begin();
+        long timed = Metrics.DEFAULT.start();
+        Player player = current;
+        move(getDice().roll(current));
+        turns.roll(getDice().getD1(), getDice().getD2());
+        handleDoubles();
+        GameEvents.endPhase(phase, GameEvents.PHASE_ROLL, this, player);
+        ROLL_SECONDS.since(timed);
+        checkPhase(GameEvents.PHASE_ROLL);
+        handleLanding(controller);
+        checkFirstMonopoly();
+        finishTurn();
+    }
+
+    /**
+     * Ends the current player's turn: they build what they decide to, then play passes on
+     */
+    void finishTurn() {
+        GameEvents.PhaseEvent phase = new GameEvents.PhaseEvent();
+        phase.begin();
+        long timed = Metrics.DEFAULT.start();
+        handleDevelopment();
+        GameEvents.endPhase(phase, GameEvents.PHASE_DEVELOPMENT, this, current);
+        DEVELOPMENT_SECONDS.since(timed);
+        checkPhase(GameEvents.PHASE_DEVELOPMENT);
+        getNextPlayer();
+    }
 
-        // Handle the logic for landing on the new location 
+    /**
+     * Lets the current player build until their decision provider stops, if they are still in the game
+     */
+    void handleDevelopment() {
+        if(!players.contains(current)) {
+            return;
+        }
+        DecisionProvider provider = getDecisions(current);
+        List<Property> options = current.getDevelopmentOptions();
+        while(!options.isEmpty()) {
+            Property choice = provider.develop(this, current, options);
+            if(choice == null || !options.contains(choice)) {
+                return;
+            }
+            choice.buyDevelopment();
+            turns.action(TurnRecorder.DEVELOPED);
+            options = current.getDevelopmentOptions();
+        }
+    }
+
+    /**
+     * Records the turn of the game's first monopoly if landing let the owner complete a colour group
+     */
+    private void checkFirstMonopoly() {
+        if(firstMonopolyTurn < 0 && isProperty() && !(current.getLocation() instanceof Railroad) && !(current.getLocation() instanceof Utility)) {
+            Property property = (Property) current.getLocation();
+            if(property.getOwner() instanceof Player && property.getOwner().ownsSetFor(property)) {
+                firstMonopolyTurn = turnsPlayed;
+            }
+        }
+    }
+
+    /**
+     * Handles the logic for landing on the current player's location
+     * @param controller Controller handling property purchases and rent
+     */
+    void handleLanding(GameController controller) {
+        GameEvents.PhaseEvent phase = new GameEvents.PhaseEvent();
+        phase.begin();
+        long timed = Metrics.DEFAULT.start();
+        Player player = current;
         if(isProperty()) {
             if(isOwned()) {
                 controller.handleOwnedProperty();
@@ -448,20 +1171,9 @@ public final class Game {
         } else {
             handleSpecialSquare(controller);
         }
-
-        // Assign next player
-        getNextPlayer();
-        System.out.println("Got next player: "+current.getName());
-        view.displayCurrent(current, controller);
-
-        // Is the next player in jail?
-        if(current.inJail()) {
-            if(controller.handleJailTurn()) {
-                view.showDice();
-            }
-            
-        }
-        else view.showDice();
+        GameEvents.endPhase(phase, GameEvents.PHASE_LANDING, this, player);
+        LANDING_SECONDS.since(timed);
+        checkPhase(GameEvents.PHASE_LANDING);
     }
 
     /**
@@ -478,25 +1190,25 @@ public final class Game {
         if (location instanceof Go) {
             go = (Go) location;
             go.reward(current);
-            GameView.showAlert("Congratulations, " + current.getName() + "!", "You made it to Go! ");
+            if(controller.hasView()) controller.showAlert("Congratulations, " + current.getName() + "!", "You made it to Go! ");
         } 
         
         else if (location instanceof Jail) {
             jail = (Jail) location;
             if (jail.hasJailed()) {
-                GameView.showAlert("Welcome to the visitation center",  "Say hello to your friends. ");
+                controller.showAlert("Welcome to the visitation center",  "Say hello to your friends. ");
             } else {
-                GameView.showAlert("Welcome to the visitation center. ", "Better stay on the right side of these bars...");
+                controller.showAlert("Welcome to the visitation center. ", "Better stay on the right side of these bars...");
             }
         } 
         
         else if (location instanceof FreeParking) {
-            GameView.showAlert("Welcome to free parking", "Take a breather. ");
+            controller.showAlert("Welcome to free parking", "Take a breather. ");
         } 
         
         else if (location instanceof GoToJail) {  
             jail.addPlayer(current);            
-            GameView.showAlert("Go directly to Jail", "Do not pass Go, do not collect $200! ");
+            if(controller.hasView()) controller.showAlert("Go directly to Jail", "Do not pass Go, do not collect $" + getGo().getReward() + "! ");
             if(getDice().doubles()) {increment(getTurnIndex());} //Do not go again from doubles if landed on go to jail, re-increment turn index
         } 
         
@@ -505,40 +1217,42 @@ public final class Game {
             //If player can afford the tax pay it
             if(current.canAfford(tax.getTax())) {
                 tax.charge(current);
-                GameView.showAlert("Uh oh! You have been charged "+tax.getName()+"!", "You were charged $" + tax.getTax() + "!");
+                if(controller.hasView()) controller.showAlert("Uh oh! You have been charged "+tax.getName()+"!", "You were charged $" + tax.getTax() + "!");
             } 
             //Liquidate asssets to pay for taxes
-            else if(!current.canAfford(tax.getTax()) && current.getNetWorth() >= tax.getTax()) {
-                current.liquidate(tax.getTax(), this);
-                GameView.showAlert("Breaking! " + current.getName() + " can not afford their taxes and goes bankrupt!","It was a good run"); 
+            else if(current.getNetWorth() >= tax.getTax() && current.liquidate(tax.getTax(), this)) {
+                tax.charge(current);
+                if(controller.hasView()) controller.showAlert("Uh oh! You have been charged "+tax.getName()+"!", "You raised the cash and were charged $" + tax.getTax() + "!");
             }
             //Player bankrupted by bank, not able ot pay thier taxes
-            if(getPlayerCount() == 2) {removePlayer(current);}
-            else current.bankrupted(Banker.getInstance(), this);      
+            else {
+                if(controller.hasView()) controller.showAlert("Breaking! " + current.getName() + " can not afford their taxes and goes bankrupt!","It was a good run"); 
+                bankrupt(current, getBanker(), BANKRUPT_TAX);
+            }
         } 
         
         else if (location instanceof CardManager) {
             cm = (CardManager) location;
             card = cm.draw(this);
-            GameView.showAlert("Welcome to the "+location.getName()+" square! Your card draw is:", card.toString());
+            turns.action(TurnRecorder.CARD);
+            if(controller.hasView()) controller.showAlert("Welcome to the "+location.getName()+" square! Your card draw is:", card.toString());
             CardManager.handle(card, this, controller); 
         }
     } 
 
     /**
      * Gets the options a player has for their turn in jail
-     * @return Integer list of numbers corrosponding to turn actions
+     * @return Integer list of numbers corrosponding to turn actions, unmodifiable
      */
     public List<Integer> getValidJailChoices() {
-        List<Integer> choices = new ArrayList<>();
+        int choices = 0;
         if (current.canAfford(getBail())) {
-            choices.add(1); // Pay fine
+            choices += 1; // Pay fine
         }
-        choices.add(2); // Try for doubles
         if (current.ownsJailCard()) {
-            choices.add(3); // Use 'Get Out of Jail Free' card
+            choices += 2; // Use 'Get Out of Jail Free' card
         }
-        return choices;
+        return JAIL_CHOICES.get(choices); // Trying for doubles is always a choice
     }
 
     /**
@@ -549,14 +1263,17 @@ public final class Game {
     public boolean handleJailChoice(int choice) {
         boolean freedByDoubles = false;
         Jail jail = getJail(); 
+        turns.jail(choice);
 
         switch (choice) {
             case 1: { // Pay fine
-                current.debit(getBail());
+                current.pay(getBanker(), getBail(), Ledger.BAIL);
                 jail.removePlayer(current);
+                break;
             }
             case 2: { // Try for doubles
                 int roll = getDice().roll(current);
+                turns.roll(getDice().getD1(), getDice().getD2());
                 freedByDoubles = getDice().doubles();
 
                 if (freedByDoubles) {
@@ -565,6 +1282,7 @@ public final class Game {
                 } else {
                     incrementFailedJailTurn();
                 }
+                break;
             }
             case 3: { // Use 'Get Out of Jail Free' card
                 current.decrementJailCard();
@@ -594,7 +1312,7 @@ public final class Game {
             current.decrementJailCard();
             jail.removePlayer(current);
         } else if (current.canAfford(getBail())) {
-            current.debit(getBail());
+            current.pay(getBanker(), getBail(), Ledger.BAIL);
             jail.removePlayer(current);
         } else {
             handleBankruptcy();
@@ -606,7 +1324,7 @@ public final class Game {
      */
     private void handleBankruptcy() {
         if (current.liquidate(getBail(), this)) {
-            current.debit(getBail());
+            current.pay(getBanker(), getBail(), Ledger.BAIL);
             getJail().removePlayer(current);
         } else {
             bankruptPlayer();
@@ -617,11 +1335,7 @@ public final class Game {
      * Manages the actions for bankrupting a player
      */
     private void bankruptPlayer() {
-        if (getPlayerCount() == 2) {
-            removePlayer(current);
-        } else {
-            getCurrentPlayer().bankrupted(Banker.getInstance(), this);
-        }
+        bankrupt(getCurrentPlayer(), getBanker(), BANKRUPT_BAIL);
     }
 
     /**
@@ -639,4 +1353,84 @@ public final class Game {
                 : "You must try for doubles.";
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Checks that every balance matches the game's ledger from now on, after every phase of every turn
+     * @return the check, holding the first difference found
+     */
+    MoneyCheck checkMoney() {
+        money = new MoneyCheck(this);
+        ledger.setMoneyCheck(money);
+        return money;
+    }
+
+    /**
+     * Gets the check of the game's money
+     * @return the check, null when not checking
+     */
+    MoneyCheck getMoneyCheck() {
+        return money;
+    }
+
+    /**
+     * Checks the game's bookkeeping invariants from now on, after every phase of every turn
+     * @return the check, holding the first invariant broken
+     */
+    Invariants checkInvariants() {
+        invariants = new Invariants();
+        return invariants;
+    }
+
+    /**
+     * Gets the check of the game's bookkeeping invariants
+     * @return the check, null when not checking
+     */
+    Invariants getInvariants() {
+        return invariants;
+    }
+
+    /**
+     * Checks the game's money and invariants at the end of a phase, if they are being checked
+     * @param phase the phase, one of the GameEvents.PHASE names
+     */
+    private void checkPhase(String phase) {
+        if(money != null) money.check(this, phase);
+        if(invariants != null) invariants.check(this, phase);
+    }
+
+    /**
+     * Replaces the recorder of the game's last turns
+     * @param turns the recorder, TurnRecorder.OFF to record nothing
+     */
+    void setTurnRecorder(TurnRecorder turns) {
+        this.turns = turns;
+    }
+
+    /**
+     * Records something the current player did this turn, for the crash report of the last turns
+     * @param action one of the TurnRecorder action bits
+     */
+    void recordAction(int action) {
+        turns.action(action);
+    }
+
+    /**
+     * Writes the game's last turns and the exception it crashed with to a file
+     * @param cause the exception
+     * @return the file written, null for search copies or if it could not be written
+     */
+    File dumpTurns(Throwable cause) {
+        return turns.dump(cause, map, ledger);
+    }
+
+    /**
+     * Registers the latency histogram of a phase of a turn
+     * @param phase name of the phase, one of the GameEvents.PHASE names
+     * @return the histogram
+     */
+    private static Metrics.Histogram phaseHistogram(String phase) {
+        return Metrics.DEFAULT.histogram("monopoly_turn_phase_seconds",
+            "Time a phase of a turn takes: the jail choice, rolling and moving, the landing, or building",
+            "phase", phase, TURN_BUCKETS);
+    }
+}
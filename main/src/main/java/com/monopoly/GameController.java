@@ -27,7 +27,7 @@ class GameController {
     private final PlayerBuilder pb;
 
     /**
-     * Constructor for the controller
+     * Constructor for the controller, players decide through dialogs
      * 
      * @param game Game instance
      * @param view Viewer instance
@@ -36,6 +36,19 @@ class GameController {
         this.game = game;
         this.view = view;
         this.pb = new PlayerBuilder(view.getDispPane());
+        game.setDecisions(new HumanDecisions(view));
+    }
+
+    /**
+     * Constructor for a controller with no view, used by headless games
+     * Alerts and messages are dropped, every decision goes to the players' decision providers
+     * 
+     * @param game Game instance
+     */
+    GameController(Game game) {
+        this.game = game;
+        this.view = null;
+        this.pb = null;
     }
 
     /**
@@ -58,7 +71,7 @@ class GameController {
         // Set a listener for when the player setup is complete
         pb.setPlayerSetupListener(() -> {
             pb.loadPlayersToGame(game);
-            System.out.println("Players loaded, continuing game setup...");
+            Log.info("Players loaded, continuing game setup...");
 
             // Proceed with the game setup after players are loaded 
             view.displayCurrent(game.getCurrentPlayer(), this); 
@@ -68,62 +81,56 @@ class GameController {
 
     /**
      * Handles an auctoin action selection from the current player
+     * Players are asked in turn until every one of them passes in a row, the highest bidder counting as a pass
      */
     void handleAuction(Property location) { 
-        int bid = 1, passedTurns = 0, turn = game.increment(game.getTurnIndex()), attempt;
-        boolean open = true, yes;
-        Player bidder = game.getPlayer(turn); 
+        int bid = 0, passedTurns = 0, turn = game.getTurnIndex(), attempt;
+        Player bidder;
         Entity highestBidder = location.getOwner(); 
 
         //Per player:
-        while(open) {
-            yes = false;
+        while(passedTurns < game.getPlayerCount()) {
+            turn = game.increment(turn);
+            bidder = game.getPlayer(turn); 
+            attempt = bid;
 
             //Do you want to bid?
-            if(bid < bidder.getBalance() && !bidder.equals(location.getOwner())) {
-                yes = GameView.getBoolInput("Auction", 
-                                            bidder.getName()+", "+location.getName()+" is up for auction, would you like to make a bid?", 
-                                            "The current bid is at $"+bid);
+            if(bid < bidder.getBalance() && !bidder.equals(location.getOwner()) && !bidder.equals(highestBidder)) {
+                attempt = game.getDecisions(bidder).bid(game, bidder, location, bid, highestBidder);
             }
 
-            //Yes?
-            if(yes) {
-                passedTurns = 0;  
-                attempt = GameView.getIntInput("Bid",
-                                                    "Current Bid: " + bid + ", enter a value higher than the current bid to take the lead in the auction, or current bid amount to cancel your bid attempt",
-                                                    "Current highest bidder is "+highestBidder.getName(),
-                                                    bid,
-                                                    bidder.getBalance());
-                if (attempt > bid) highestBidder = bidder;
-            }
-
-            if(passedTurns == game.getPlayerCount()) {
-                //Auction concluded
-                open = false;
+            //Took the lead?
+            boolean lead = attempt > bid && bidder.canAfford(attempt);
+            GameEvents.auction(bidder, location, attempt, bid, lead);
+            if(lead) {
+                bid = attempt;
+                highestBidder = bidder;
+                passedTurns = 0;
             } else {
-                //Assign next bidder
-                turn = game.increment(turn);
-                bidder = game.getPlayer(turn);
+                passedTurns++;
             }
         }
 
         //Property sold by bank at auction to a player
         if(highestBidder instanceof Player && !(location.getOwner() instanceof Player)) {
-            view.showMessage("\nBidding has concluded, "+highestBidder.getName()+" has won the property "+location.getName()+" with a bid of $"+bid+".");
+            if(hasView()) showMessage("\nBidding has concluded, "+highestBidder.getName()+" has won the property "+location.getName()+" with a bid of $"+bid+".");
             highestBidder.buy(location, bid, game); 
+            game.recordAction(TurnRecorder.AUCTIONED);
         }
         //Player auctioning property off to other players
         else if(highestBidder instanceof Player && location.getOwner() instanceof Player) {
-            if(GameView.getBoolInput("Auction", "The highest bid was "+bid, "Do you want to accept that amount, "+location.getOwner().getName()+", or keep the property? ")) {
-                view.showMessage("\nBidding has concluded, "+highestBidder.getName()+" has won the property "+location.getName()+" with a bid of $"+bid+".");
+            Player owner = (Player) location.getOwner();
+            if(game.getDecisions(owner).acceptBid(game, owner, location, bid, (Player) highestBidder)) {
+                if(hasView()) showMessage("\nBidding has concluded, "+highestBidder.getName()+" has won the property "+location.getName()+" with a bid of $"+bid+".");
                 highestBidder.buy(location, bid, game); 
+                game.recordAction(TurnRecorder.AUCTIONED);
             } else {
-                view.showMessage("\nOwner disatisfied with acution, recants property. "); 
+                showMessage("\nOwner disatisfied with acution, recants property. "); 
             }
         }
         //Property stays with the bank
         else {
-            view.showMessage("\nNo bids made, "+location.getName()+" stays with "+location.getOwner().getName()+". ");
+            if(hasView()) showMessage("\nNo bids made, "+location.getName()+" stays with "+location.getOwner().getName()+". ");
         } 
     }
 
@@ -193,21 +200,22 @@ class GameController {
         
         // If player can afford the property
         if(current.canAfford(property.getPrice())) { 
-            if (GameView.getBoolInput("Property", property.getName()+" is not owned yet.", "Would you like to buy it?")) {
+            if (game.getDecisions(current).buyProperty(game, current, property, false)) {
                 current.buy(property); 
+                game.recordAction(TurnRecorder.BOUGHT);
             }
         }
 
         // If the player has the net worth to afford the property
         else if(current.getNetWorth() >= property.getPrice()) {
-            if (GameView.getBoolInput("Property", property.getName()+" is not owned yet.", "In order to purchase this property though, you will have to sell off assets. Would you like to buy it?")) {
-                current.liquidate(property.getPrice(), game);
+            if (game.getDecisions(current).buyProperty(game, current, property, true) && current.liquidate(property.getPrice(), game)) {
                 current.buy(property); 
+                game.recordAction(TurnRecorder.BOUGHT);
             }
         }
         // The player can not afford the property
         else {
-            GameView.showAlert("\nThis property is not owned yet!", "You can not afford this property though, and it will be going up for auction. ");
+            showAlert("\nThis property is not owned yet!", "You can not afford this property though, and it will be going up for auction. ");
         }
         if(!current.equals(property.getOwner())) handleAuction(property);
     }
@@ -222,19 +230,19 @@ class GameController {
         
         if (!owner.equals(current)) {
             // Can not afford the rent
-            if (!current.canAfford(property.getRent())) {
-                GameView.showAlert("\nBreaking! " + current.getName() + " bankrupted by: " + owner.getName() + "! ", "");
-                if(game.getPlayerCount() != 2) current.bankrupted(owner, game);  
-                else game.removePlayer(current);
+            if (!current.canAfford(property.getRent()) && !current.liquidate(property.getRent(), game)) {
+                if(hasView()) showAlert("\nBreaking! " + current.getName() + " bankrupted by: " + owner.getName() + "! ", "");
+                game.bankrupt(current, owner, Game.BANKRUPT_RENT);
             }
             // Can afford the rent
             else {
                 property.chargeRent(current);
-                GameView.showAlert("\n"+current.getName() + " landed on " + owner.getName() + "'s property", "The rent owed to them is $" + property.getRent() + ".");
+                game.recordAction(TurnRecorder.RENT);
+                if(hasView()) showAlert("\n"+current.getName() + " landed on " + owner.getName() + "'s property", "The rent owed to them is $" + property.getRent() + ".");
             }
         }
         // If we own the property, do nothing
-        else GameView.showAlert("\nYou are at " + property.getName(), "And you own it already."); 
+        else if(hasView()) showAlert("\nYou are at " + property.getName(), "And you own it already."); 
     }
 
     /**
@@ -242,35 +250,58 @@ class GameController {
      * @return Whether or not they were freed by doubles
      */
     boolean handleJailTurn() {
+        Player current = game.getCurrentPlayer();
         List<Integer> choices = game.getValidJailChoices();
-        String message = game.getJailMessage();
         boolean freedByDoubles = false;
 
-        // Display choices to the user via GameView
-        Integer choice = view.showDialog(
-            "Jail Decision",
-            "You are in jail",
-            message,
-            choices,
-            choices.get(0) // Default choice
-        );
+        int choice = game.getDecisions(current).jailChoice(game, current, choices);
 
         // Handle choice
-        if (choice != null) {
+        if (choices.contains(choice)) {
             freedByDoubles = game.handleJailChoice(choice);
 
             if (freedByDoubles) {
-                GameView.showAlert("Success", "You rolled doubles! You are freed from jail.");
+                showAlert("Success", "You rolled doubles! You are freed from jail.");
             } else {
                 switch (choice) {
-                    case 1: GameView.showAlert("Success", "You paid the fine and got out of jail.");
-                    case 3: GameView.showAlert("Success", "You used a 'Get Out of Jail Free' card!");
-                    case 2: GameView.showAlert("Failed", "You did not roll doubles. Jail turn incremented.");
+                    case Game.JAIL_PAY: showAlert("Success", "You paid the fine and got out of jail."); break;
+                    case Game.JAIL_CARD: showAlert("Success", "You used a 'Get Out of Jail Free' card!"); break;
+                    case Game.JAIL_ROLL: showAlert("Failed", "You did not roll doubles. Jail turn incremented."); break;
                 }
             }
         } else {
-            GameView.showAlert("No Action", "You did not take any action and remain in jail.");
+            showAlert("No Action", "You did not take any action and remain in jail.");
         }
         return freedByDoubles;
     }
+
+    /**
+     * Checks whether alerts and messages are shown anywhere
+     * Headless games check this before putting together the text of an alert, so a turn allocates nothing
+     * @return true if the controller has a view
+     */
+    boolean hasView() {
+        return view != null;
+    }
+
+    /**
+     * Shows an alert to the players
+     * @param title Title of the alert
+     * @param message Message of the alert
+     */
+    void showAlert(String title, String message) {
+        if(view != null) {
+            GameView.showAlert(title, message);
+        }
+    }
+
+    /**
+     * Shows a message in the view's message area
+     * @param message Message to show
+     */
+    void showMessage(String message) {
+        if(view != null) {
+            view.showMessage(message);
+        }
+    }
 }
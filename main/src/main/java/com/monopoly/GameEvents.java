@@ -0,0 +1,580 @@
+/**
+ * Flight recorder events of a game
+ *
+ * @author Dale Urquhart
+ * @since 2026-10-19
+ */
+
+package com.monopoly;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JDK Flight Recorder events for what happens in a game: turns and their phases, dice rolls, rent, cards, auction
+ * rounds, trades, mortgages and bankruptcies, each with the player and space involved and, where money moves, the amount
+ * Every posting of the game's ledger is an event too, so the money's whole path can be followed
+ * They show up under Monopoly in JDK Mission Control, for the app or a long simulation:
+ *
+ *     java -XX:StartFlightRecording=filename=game.jfr com.monopoly.Simulator --games 1000
+ *
+ * Turns, phases and rolls come from the same few places every time, so they are recorded without a stack trace
+ * With no recording, or with the events disabled, an event is a flag check: the event objects never leave the method
+ * that makes them, so the JIT removes them, and a headless turn still allocates nothing
+ * Actions are recorded through the helpers here, which only fill in the fields once a recording wants the event
+ * Turns and phases are begun where they start and ended here
+ */
+final class GameEvents {
+
+    /**
+     * Phase of a turn: the jail choice
+     */
+    static final String PHASE_JAIL = "Jail";
+
+    /**
+     * Phase of a turn: rolling and moving
+     */
+    static final String PHASE_ROLL = "Roll";
+
+    /**
+     * Phase of a turn: handling the space landed on
+     */
+    static final String PHASE_LANDING = "Landing";
+
+    /**
+     * Phase of a turn: building before play passes on
+     */
+    static final String PHASE_DEVELOPMENT = "Development";
+
+    /**
+     * Not instantiated
+     */
+    private GameEvents() {
+    }
+
+    /**
+     * A player's turn, from its start until play passes on
+     */
+    @Name("com.monopoly.Turn")
+    @Label("Turn")
+    @Category({"Monopoly", "Turn"})
+    @Description("A player's turn, from its start until play passes on")
+    @StackTrace(false)
+    static final class TurnEvent extends Event {
+
+        /**
+         * Turn of the game
+         */
+        @Label("Turn")
+        int turn;
+
+        /**
+         * Player whose turn it is
+         */
+        @Label("Player")
+        String player;
+
+        /**
+         * Seat of the player
+         */
+        @Label("Seat")
+        int seat;
+
+        /**
+         * Space the player ended the turn on
+         */
+        @Label("Space")
+        String space;
+
+        /**
+         * Balance of the player at the end of the turn
+         */
+        @Label("Balance")
+        int balance;
+    }
+
+    /**
+     * A phase of a turn: the jail choice, rolling and moving, the landing, or building
+     */
+    @Name("com.monopoly.TurnPhase")
+    @Label("Turn Phase")
+    @Category({"Monopoly", "Turn"})
+    @Description("A phase of a turn: the jail choice, rolling and moving, the landing, or building")
+    @StackTrace(false)
+    static final class PhaseEvent extends Event {
+
+        /**
+         * Phase, one of the PHASE names
+         */
+        @Label("Phase")
+        String phase;
+
+        /**
+         * Turn of the game
+         */
+        @Label("Turn")
+        int turn;
+
+        /**
+         * Player whose turn it is
+         */
+        @Label("Player")
+        String player;
+
+        /**
+         * Space the player was on at the end of the phase
+         */
+        @Label("Space")
+        String space;
+    }
+
+    /**
+     * A roll of the dice
+     */
+    @Name("com.monopoly.DiceRoll")
+    @Label("Dice Roll")
+    @Category({"Monopoly", "Action"})
+    @StackTrace(false)
+    static final class DiceRollEvent extends Event {
+
+        /**
+         * Player rolling
+         */
+        @Label("Player")
+        String player;
+
+        /**
+         * First die
+         */
+        @Label("Die 1")
+        int die1;
+
+        /**
+         * Second die
+         */
+        @Label("Die 2")
+        int die2;
+
+        /**
+         * Total rolled
+         */
+        @Label("Amount")
+        int amount;
+    }
+
+    /**
+     * Rent paid for landing on a property
+     */
+    @Name("com.monopoly.Rent")
+    @Label("Rent Charged")
+    @Category({"Monopoly", "Action"})
+    static final class RentEvent extends Event {
+
+        /**
+         * Player paying the rent
+         */
+        @Label("Player")
+        String player;
+
+        /**
+         * Owner of the property
+         */
+        @Label("Owner")
+        String owner;
+
+        /**
+         * Property landed on
+         */
+        @Label("Space")
+        String space;
+
+        /**
+         * Rent paid
+         */
+        @Label("Amount")
+        int amount;
+    }
+
+    /**
+     * A card drawn and played
+     */
+    @Name("com.monopoly.CardDrawn")
+    @Label("Card Drawn")
+    @Category({"Monopoly", "Action"})
+    static final class CardEvent extends Event {
+
+        /**
+         * Player drawing the card
+         */
+        @Label("Player")
+        String player;
+
+        /**
+         * Card drawn
+         */
+        @Label("Card")
+        String card;
+
+        /**
+         * Space the card was drawn on
+         */
+        @Label("Space")
+        String space;
+    }
+
+    /**
+     * A player's round in an auction
+     */
+    @Name("com.monopoly.AuctionRound")
+    @Label("Auction Round")
+    @Category({"Monopoly", "Action"})
+    static final class AuctionEvent extends Event {
+
+        /**
+         * Player asked for a bid
+         */
+        @Label("Player")
+        String player;
+
+        /**
+         * Property auctioned
+         */
+        @Label("Space")
+        String space;
+
+        /**
+         * Bid made, the standing bid if the player passed
+         */
+        @Label("Amount")
+        int amount;
+
+        /**
+         * Standing bid before the round
+         */
+        @Label("Standing Bid")
+        int standing;
+
+        /**
+         * Whether the player took the lead
+         */
+        @Label("Took Lead")
+        boolean lead;
+    }
+
+    /**
+     * A property changing hands for a price
+     */
+    @Name("com.monopoly.Trade")
+    @Label("Trade")
+    @Category({"Monopoly", "Action"})
+    static final class TradeEvent extends Event {
+
+        /**
+         * Player buying
+         */
+        @Label("Player")
+        String player;
+
+        /**
+         * Seller, the bank for an unowned property
+         */
+        @Label("Seller")
+        String seller;
+
+        /**
+         * Property sold
+         */
+        @Label("Space")
+        String space;
+
+        /**
+         * Price paid
+         */
+        @Label("Amount")
+        int amount;
+    }
+
+    /**
+     * A property mortgaged or paid off
+     */
+    @Name("com.monopoly.Mortgage")
+    @Label("Mortgage")
+    @Category({"Monopoly", "Action"})
+    static final class MortgageEvent extends Event {
+
+        /**
+         * Owner of the property
+         */
+        @Label("Player")
+        String player;
+
+        /**
+         * Property
+         */
+        @Label("Space")
+        String space;
+
+        /**
+         * Cash raised by a mortgage, or paid to clear one
+         */
+        @Label("Amount")
+        int amount;
+
+        /**
+         * True if the property was mortgaged, false if it was paid off
+         */
+        @Label("Mortgaged")
+        boolean mortgaged;
+    }
+
+    /**
+     * A player going bankrupt
+     */
+    @Name("com.monopoly.Bankruptcy")
+    @Label("Bankruptcy")
+    @Category({"Monopoly", "Action"})
+    static final class BankruptcyEvent extends Event {
+
+        /**
+         * Player going bankrupt
+         */
+        @Label("Player")
+        String player;
+
+        /**
+         * Who is owed, another player or the bank
+         */
+        @Label("Creditor")
+        String creditor;
+
+        /**
+         * Space the player went bankrupt on
+         */
+        @Label("Space")
+        String space;
+
+        /**
+         * Balance of the player when they went bankrupt
+         */
+        @Label("Amount")
+        int amount;
+
+        /**
+         * Cause, one of Game.BANKRUPTCY_CAUSES
+         */
+        @Label("Cause")
+        String cause;
+    }
+
+    /**
+     * Money moving from one entity to another, a posting of the game's ledger
+     */
+    @Name("com.monopoly.Posting")
+    @Label("Money Moved")
+    @Category({"Monopoly", "Money"})
+    @Description("Money moving from one entity to another, a posting of the game's ledger")
+    @StackTrace(false)
+    static final class PostingEvent extends Event {
+
+        /**
+         * Entity paying
+         */
+        @Label("From")
+        String from;
+
+        /**
+         * Entity paid
+         */
+        @Label("To")
+        String to;
+
+        /**
+         * Amount paid
+         */
+        @Label("Amount")
+        int amount;
+
+        /**
+         * Reason, one of Ledger.REASONS
+         */
+        @Label("Reason")
+        String reason;
+    }
+
+    /**
+     * Records a roll of the dice
+     * @param player player rolling
+     * @param die1 first die
+     * @param die2 second die
+     */
+    static void roll(Player player, int die1, int die2) {
+        DiceRollEvent event = new DiceRollEvent();
+        if(event.shouldCommit()) {
+            event.player = player.getName();
+            event.die1 = die1;
+            event.die2 = die2;
+            event.amount = die1 + die2;
+            event.commit();
+        }
+    }
+
+    /**
+     * Records rent paid
+     * @param player player paying the rent
+     * @param property property landed on
+     * @param amount rent paid
+     */
+    static void rent(Player player, Property property, int amount) {
+        RentEvent event = new RentEvent();
+        if(event.shouldCommit()) {
+            event.player = player.getName();
+            event.owner = property.getOwner().getName();
+            event.space = property.getName();
+            event.amount = amount;
+            event.commit();
+        }
+    }
+
+    /**
+     * Records a card drawn
+     * @param player player drawing the card
+     * @param card card drawn
+     */
+    static void card(Player player, Card card) {
+        CardEvent event = new CardEvent();
+        if(event.shouldCommit()) {
+            event.player = player.getName();
+            event.card = card.getName();
+            event.space = player.getLocation().getName();
+            event.commit();
+        }
+    }
+
+    /**
+     * Records a player's round in an auction
+     * @param player player asked for a bid
+     * @param property property auctioned
+     * @param amount bid made
+     * @param standing standing bid before the round
+     * @param lead whether the player took the lead
+     */
+    static void auction(Player player, Property property, int amount, int standing, boolean lead) {
+        AuctionEvent event = new AuctionEvent();
+        if(event.shouldCommit()) {
+            event.player = player.getName();
+            event.space = property.getName();
+            event.amount = amount;
+            event.standing = standing;
+            event.lead = lead;
+            event.commit();
+        }
+    }
+
+    /**
+     * Records a property changing hands, call it before the owner changes
+     * @param buyer entity buying
+     * @param property property sold, still with its seller
+     * @param amount price paid
+     */
+    static void trade(Entity buyer, Property property, int amount) {
+        TradeEvent event = new TradeEvent();
+        if(event.shouldCommit()) {
+            event.player = buyer.getName();
+            event.seller = property.getOwner().getName();
+            event.space = property.getName();
+            event.amount = amount;
+            event.commit();
+        }
+    }
+
+    /**
+     * Records a property mortgaged or paid off
+     * @param property the property
+     * @param amount cash raised, or paid
+     * @param mortgaged true if mortgaged, false if paid off
+     */
+    static void mortgage(Property property, int amount, boolean mortgaged) {
+        MortgageEvent event = new MortgageEvent();
+        if(event.shouldCommit()) {
+            event.player = property.getOwner().getName();
+            event.space = property.getName();
+            event.amount = amount;
+            event.mortgaged = mortgaged;
+            event.commit();
+        }
+    }
+
+    /**
+     * Records a bankruptcy, call it before the player's assets move
+     * @param player player going bankrupt
+     * @param creditor who is owed
+     * @param cause cause of the bankruptcy (Game.BANKRUPT_RENT, BANKRUPT_TAX or BANKRUPT_BAIL)
+     */
+    static void bankruptcy(Player player, Entity creditor, int cause) {
+        BankruptcyEvent event = new BankruptcyEvent();
+        if(event.shouldCommit()) {
+            event.player = player.getName();
+            event.creditor = creditor.getName();
+            event.space = player.getLocation().getName();
+            event.amount = player.getBalance();
+            event.cause = Game.BANKRUPTCY_CAUSES[cause];
+            event.commit();
+        }
+    }
+
+    /**
+     * Records a posting of a game's ledger
+     * @param from entity paying
+     * @param to entity paid
+     * @param amount amount paid
+     * @param reason one of the Ledger reasons
+     */
+    static void posting(Entity from, Entity to, int amount, int reason) {
+        PostingEvent event = new PostingEvent();
+        if(event.shouldCommit()) {
+            event.from = from.getName();
+            event.to = to.getName();
+            event.amount = amount;
+            event.reason = Ledger.REASONS[reason];
+            event.commit();
+        }
+    }
+
+    /**
+     * Commits a turn if a recording wants it
+     * @param event turn, begun when it started
+     * @param game game the turn was played in
+     * @param player player whose turn it was
+     */
+    static void endTurn(TurnEvent event, Game game, Player player) {
+        if(event.shouldCommit()) {
+            event.turn = game.getTurnsPlayed();
+            event.player = player.getName();
+            event.seat = player.getID();
+            event.space = player.getLocation().getName();
+            event.balance = player.getBalance();
+            event.commit();
+        }
+    }
+
+    /**
+     * Commits a phase of a turn if a recording wants it
+     * @param event phase, begun when it started
+     * @param phase name of the phase
+     * @param game game the turn is played in
+     * @param player player whose turn it is
+     */
+    static void endPhase(PhaseEvent event, String phase, Game game, Player player) {
+        if(event.shouldCommit()) {
+            event.phase = phase;
+            event.turn = game.getTurnsPlayed();
+            event.player = player.getName();
+            event.space = player.getLocation().getName();
+            event.commit();
+        }
+    }
+}
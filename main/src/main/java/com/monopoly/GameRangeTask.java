@@ -0,0 +1,66 @@
+/**
+ * Fork/join task over a range of games
+ *
+ * @author Dale Urquhart
+ * @since 2026-10-19
+ */
+
+package com.monopoly;
+
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+/**
+ * Plays a range of games, splitting it in half until few enough are left to play in one go
+ * Idle workers steal the unsplit halves, so uneven game lengths still keep every core busy
+ */
+final class GameRangeTask extends RecursiveAction {
+
+    /**
+     * Most games a task plays without splitting
+     */
+    private static final int CHUNK = 8;
+
+    /**
+     * Plays a game by index
+     */
+    private final IntConsumer play;
+
+    /**
+     * First game of the range
+     */
+    private final int from;
+
+    /**
+     * Game after the last game of the range
+     */
+    private final int to;
+
+    /**
+     * Constructor for a task over games [from, to)
+     * @param play plays a game by index
+     * @param from first game
+     * @param to game after the last game
+     */
+    GameRangeTask(IntConsumer play, int from, int to) {
+        this.play = play;
+        this.from = from;
+        this.to = to;
+    }
+
+    /**
+     * Plays the games of the range
+     */
+    @Override
+    protected void compute() {
+        if(to - from <= CHUNK) {
+            for(int game = from; game < to; game++) {
+                play.accept(game);
+            }
+            return;
+        }
+
+        int mid = (from + to) >>> 1;
+        invokeAll(new GameRangeTask(play, from, mid), new GameRangeTask(play, mid, to));
+    }
+}
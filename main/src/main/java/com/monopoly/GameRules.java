@@ -0,0 +1,113 @@
+/**
+ * House rules of a game
+ *
+ * @author Dale Urquhart
+ * @since 2026-10-19
+ */
+
+package com.monopoly;
+
+/**
+ * Money rules a game is played with, held by the game's banker so every space and player of the game can reach them
+ * Immutable, so one instance can be shared by every game of a simulation
+ */
+final class GameRules {
+
+    /**
+     * The standard rules: $50 bail, $200 for passing Go, $1500 to start, 10% interest on mortgages
+     */
+    static final GameRules STANDARD = new GameRules(50, 200, 1500, 0.1);
+
+    /**
+     * Bail amount
+     */
+    private final int bail;
+
+    /**
+     * Reward for passing or landing on Go
+     */
+    private final int goReward;
+
+    /**
+     * Balance every player starts with
+     */
+    private final int startingBalance;
+
+    /**
+     * Interest on a mortgage as a share of the mortgage value, paid on unmortgaging or on taking over a mortgaged property
+     */
+    private final double mortgageInterest;
+
+    /**
+     * Constructor for a set of rules
+     * @param bail bail amount
+     * @param goReward reward for passing or landing on Go
+     * @param startingBalance balance every player starts with
+     * @param mortgageInterest interest on a mortgage as a share of the mortgage value
+     */
+    GameRules(int bail, int goReward, int startingBalance, double mortgageInterest) {
+        if(bail < 0 || goReward < 0 || startingBalance < 0 || mortgageInterest < 0) {
+            throw new IllegalArgumentException("Rules can not be negative");
+        }
+        this.bail = bail;
+        this.goReward = goReward;
+        this.startingBalance = startingBalance;
+        this.mortgageInterest = mortgageInterest;
+    }
+
+    /**
+     * Gets the bail amount
+     * @return the bail amount
+     */
+    int getBail() {
+        return bail;
+    }
+
+    /**
+     * Gets the reward for passing or landing on Go
+     * @return the Go reward
+     */
+    int getGoReward() {
+        return goReward;
+    }
+
+    /**
+     * Gets the balance every player starts with
+     * @return the starting balance
+     */
+    int getStartingBalance() {
+        return startingBalance;
+    }
+
+    /**
+     * Gets the interest on a mortgage
+     * @return interest as a share of the mortgage value
+     */
+    double getMortgageInterest() {
+        return mortgageInterest;
+    }
+
+    /**
+     * Gets the interest owed on a mortgage
+     * @param mortgageValue mortgage value of the property
+     * @return the interest
+     */
+    int getInterest(int mortgageValue) {
+        return (int) (mortgageValue * mortgageInterest);
+    }
+
+    /**
+     * Gets the cost of paying off a mortgage
+     * @param mortgageValue mortgage value of the property
+     * @return mortgage value plus interest
+     */
+    int getUnmortgageCost(int mortgageValue) {
+        return (int) (mortgageValue * (1 + mortgageInterest));
+    }
+
+    @Override
+    public String toString() {
+        return "bail " + bail + ", Go reward " + goReward + ", starting balance " + startingBalance
+                + ", mortgage interest " + mortgageInterest;
+    }
+}
@@ -18,6 +18,12 @@ import javafx.scene.layout.VBox;
 
 public class GameView {
 
+    /**
+     * Time players spend answering dialogs, up to five minutes
+     */
+    private static final Metrics.Histogram DIALOG_WAIT = Metrics.DEFAULT.histogram("monopoly_dialog_wait_seconds",
+        "Time a dialog waits for a player to answer it", null, null, 0.5, 1, 2.5, 5, 10, 30, 60, 300);
+
     /**
      * Primary pane
      */
@@ -70,7 +76,7 @@ public class GameView {
         try{
             this.centerPane = centerPane;
         } catch(Exception e) {
-            System.err.println(e);
+            Log.error("%s", e);
         } 
     }
     
@@ -116,7 +122,9 @@ public class GameView {
         alert.setTitle(title);
         alert.setHeaderText(null);
         alert.setContentText(message);
+        long waited = Metrics.DEFAULT.start();
         alert.showAndWait();
+        DIALOG_WAIT.since(waited);
     }
  
     /**
@@ -135,7 +143,9 @@ public class GameView {
             dialog.setHeaderText(header);
             dialog.setContentText(context + " (Range: " + min + " to " + max + ")");
 
+            long waited = Metrics.DEFAULT.start();
             Optional<String> result = dialog.showAndWait();
+            DIALOG_WAIT.since(waited);
 
             if (result.isPresent()) {
                 try {
@@ -169,7 +179,9 @@ public class GameView {
         alert.setContentText(context);
         
         // Show and wait for response
+        long waited = Metrics.DEFAULT.start();
         ButtonType result = alert.showAndWait().orElse(ButtonType.CANCEL);
+        DIALOG_WAIT.since(waited);
         
         // Return true if 'OK' is clicked, false otherwise
         return result == ButtonType.OK;
@@ -235,7 +247,7 @@ public class GameView {
             } else {
 
             }
-            if(p.isMortgaged() && current.canAfford((int) (p.getMortgageValue() * 1.1))) {
+            if(p.isMortgaged() && current.canAfford(p.getBanker().getRules().getUnmortgageCost(p.getMortgageValue()))) {
                 pBox.getChildren().add(unMortgageB);
             } 
             display.getChildren().add(pBox);
@@ -250,7 +262,7 @@ public class GameView {
      */
     void showMessage(String message) {
         pane.getChildren().clear();
-        currentPlayerDisplay.getChildren().addFirst(new Label(message));
+        currentPlayerDisplay.getChildren().add(0, new Label(message));
         pane.add(currentPlayerDisplay, 0, 0); 
         
     }
@@ -265,7 +277,9 @@ public class GameView {
         alert.setTitle(title);
         alert.setHeaderText(null);
         alert.setContentText(message);
+        long waited = Metrics.DEFAULT.start();
         alert.showAndWait();
+        DIALOG_WAIT.since(waited);
     }
 
     /**
@@ -286,7 +300,9 @@ public class GameView {
         dialog.setContentText(content);
 
         // Show the dialog and return the result
+        long waited = Metrics.DEFAULT.start();
         Optional<T> result = dialog.showAndWait();
+        DIALOG_WAIT.since(waited);
         return result.orElse(null); // Return null if no selection was made
     }
 
@@ -306,7 +322,7 @@ public class GameView {
         try {
             centerPane.getChildren().add(dicePane);
         } catch (Exception e) {
-            System.err.println(e);
+            Log.error("%s", e);
         } 
     }
 }
@@ -13,22 +13,49 @@ package com.monopoly;
 public final class Go extends BoardSpace {
 
     /**
-     * Reward for reaching Go
+     * Banker paying out the reward
      */
-    private static final int REWARD = 200; 
+    private final Banker banker;
 
     /**
      * Go Constructor
      */
-    Go(String name, int id) {
+    Go(String name, int id, Banker banker) {
         super(name, id); 
+        this.banker = banker;
+    }
+
+    /**
+     * Copy constructor for a copied game
+     * @param other space to copy
+     * @param game the copied game
+     */
+    private Go(Go other, Game game) {
+        super(other);
+        banker = game.getBanker();
+    }
+
+    /**
+     * Copies the space into a copied game
+     */
+    @Override
+    BoardSpace copy(Game game) {
+        return new Go(this, game);
     }
 
     /**
      * Gets teh reward for reaching Go
      */
-    static int getReward() {
-        return REWARD;
+    int getReward() {
+        return banker.getRules().getGoReward();
+    }
+
+    /**
+     * Gets the rules of the game the space belongs to
+     * @return the game's rules
+     */
+    GameRules getRules() {
+        return banker.getRules();
     }
 
     /**
@@ -36,7 +63,6 @@ public final class Go extends BoardSpace {
      * @param p player to reward
      */
     void reward(Player p) {
-        p.credit(getReward());
-        Banker.getInstance().debit(getReward());
+        banker.pay(p, getReward(), Ledger.GO);
     }
 }
\ No newline at end of file
@@ -15,4 +15,20 @@ public final class GoToJail extends BoardSpace {
     GoToJail(Jail jail) {
         super("Go To Jail", 30); 
     }
+
+    /**
+     * Copy constructor for a copied game
+     * @param other space to copy
+     */
+    private GoToJail(GoToJail other) {
+        super(other);
+    }
+
+    /**
+     * Copies the space into a copied game
+     */
+    @Override
+    BoardSpace copy(Game game) {
+        return new GoToJail(this);
+    }
 }
@@ -0,0 +1,110 @@
+/**
+ * Decisions made by a person at the GUI
+ *
+ * @author Dale Urquhart
+ * @since 2026-10-19
+ */
+
+package com.monopoly;
+
+import java.util.List;
+
+/**
+ * Asks the player every decision through a modal dialog, as the game always has
+ */
+final class HumanDecisions implements DecisionProvider {
+
+    /**
+     * Viewer the dialogs are opened from
+     */
+    private final GameView view;
+
+    /**
+     * Constructor for GUI decisions
+     * @param view Viewer instance
+     */
+    HumanDecisions(GameView view) {
+        this.view = view;
+    }
+
+    /**
+     * Asks whether to buy the property
+     */
+    @Override
+    public boolean buyProperty(Game game, Player player, Property property, boolean liquidate) {
+        return GameView.getBoolInput("Property", property.getName()+" is not owned yet.", liquidate
+                ? "In order to purchase this property though, you will have to sell off assets. Would you like to buy it?"
+                : "Would you like to buy it?");
+    }
+
+    /**
+     * Asks whether to bid, then for the bid
+     */
+    @Override
+    public int bid(Game game, Player bidder, Property property, int bid, Entity highestBidder) {
+        if(!GameView.getBoolInput("Auction",
+                                  bidder.getName()+", "+property.getName()+" is up for auction, would you like to make a bid?",
+                                  "The current bid is at $"+bid)) {
+            return bid;
+        }
+        return GameView.getIntInput("Bid",
+                                    "Current Bid: " + bid + ", enter a value higher than the current bid to take the lead in the auction, or current bid amount to cancel your bid attempt",
+                                    "Current highest bidder is "+highestBidder.getName(),
+                                    bid,
+                                    bidder.getBalance());
+    }
+
+    /**
+     * Asks the owner whether to accept the highest bid
+     */
+    @Override
+    public boolean acceptBid(Game game, Player owner, Property property, int bid, Player bidder) {
+        return GameView.getBoolInput("Auction", "The highest bid was "+bid, "Do you want to accept that amount, "+owner.getName()+", or keep the property? ");
+    }
+
+    /**
+     * Asks for a jail choice, with the jail solver's advice
+     */
+    @Override
+    public int jailChoice(Game game, Player player, List<Integer> choices) {
+        Integer choice = view.showDialog(
+            "Jail Decision",
+            "You are in jail",
+            game.getJailMessage() + "\n" + JailSolver.DEFAULT.advise(game, player, choices),
+            choices,
+            choices.get(0) // Default choice
+        );
+        return choice == null ? 0 : choice;
+    }
+
+    /**
+     * Asks whether to unmortgage now or pay interest only
+     */
+    @Override
+    public boolean unmortgage(Game game, Player player, Property property) {
+        return GameView.getBoolInput("Mortgage", property.getName()+" is mortgaged, would you like to unmortgage it now, or pay it later?",
+                "UnMortgage price: "+game.getRules().getUnmortgageCost(property.getMortgageValue())+", intrest only price: "+game.getRules().getInterest(property.getMortgageValue())+".");
+    }
+
+    /**
+     * People build with the property buttons during their turn instead
+     */
+    @Override
+    public Property develop(Game game, Player player, List<Property> options) {
+        return null;
+    }
+
+    /**
+     * Asks which property to raise cash on
+     */
+    @Override
+    public Property liquidate(Game game, Player player, List<Property> options, int required) {
+        return view.showDialog(
+            "Raise Cash",
+            player.getName()+", you need $"+required+" but only have $"+player.getBalance(),
+            "Sell a development on, or mortgage:",
+            options,
+            options.get(0)
+        );
+    }
+}
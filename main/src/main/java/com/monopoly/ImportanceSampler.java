@@ -0,0 +1,165 @@
+/**
+ * Tilted dice and card draws for rare event estimates
+ *
+ * @author Dale Urquhart
+ * @since 2026-10-19
+ */
+
+package com.monopoly;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Rolls the dice and draws cards of one game from a distribution tilted towards hurting the player: each outcome is
+ * weighted by exp(tilt * danger), danger being what the outcome would cost the player as a share of their balance
+ * (rent on another player's property, a tax, bail, a card payment), capped at 1. With a target space only landing
+ * there counts as danger
+ * Every pick multiplies the game's likelihood ratio by (plain probability / tilted probability), so an event counted
+ * with the ratio as its weight has the same expectation as under the plain dice and cards (importance sampling)
+ * With a tilt of 0 the draws are the plain ones and every weight is 1
+ */
+final class ImportanceSampler {
+
+    /**
+     * Game whose board the outcomes are scored on
+     */
+    private final Game game;
+
+    /**
+     * Strength of the tilt
+     */
+    private final double tilt;
+
+    /**
+     * Only space whose danger counts, -1 for every space
+     */
+    private final int target;
+
+    /**
+     * Log of the likelihood ratio so far
+     */
+    private double logWeight;
+
+    /**
+     * Weight of each outcome of the pick being made, reused between picks
+     */
+    private double[] weights = new double[36];
+
+    /**
+     * Constructor for a sampler
+     * @param game game whose dice and cards are tilted
+     * @param tilt strength of the tilt, 0 for the plain distributions
+     * @param target only space whose danger counts, -1 for every space
+     */
+    ImportanceSampler(Game game, double tilt, int target) {
+        this.game = game;
+        this.tilt = tilt;
+        this.target = target;
+    }
+
+    /**
+     * Gets the likelihood ratio of every pick so far
+     * @return weight of the game's outcome
+     */
+    double getWeight() {
+        return Math.exp(logWeight);
+    }
+
+    /**
+     * Rolls both dice
+     * @param p player rolling
+     * @param source random source of the roll
+     * @return the roll as (first die - 1) * 6 + (second die - 1)
+     */
+    int roll(Player p, Random source) {
+        int from = p.getLocation().getId();
+        for(int outcome = 0; outcome < 36; outcome++) {
+            int roll = outcome / 6 + outcome % 6 + 2;
+            weights[outcome] = Math.exp(tilt * danger(p, (from + roll) % Game.BOARD_SIZE, roll));
+        }
+        return pick(36, source);
+    }
+
+    /**
+     * Draws a card
+     * @param p player drawing
+     * @param deck cards left in the deck
+     * @param source random source of the draw
+     * @return index of the card drawn
+     */
+    int draw(Player p, List<Card> deck, Random source) {
+        if(weights.length < deck.size()) {
+            weights = new double[deck.size()];
+        }
+        int from = p.getLocation().getId();
+        double balance = Math.max(1, p.getBalance());
+        for(int i = 0; i < deck.size(); i++) {
+            Card card = deck.get(i);
+            double danger = 0;
+            if(target >= 0) {
+                danger = card.isAdvanceTo() ? danger(p, card.getLocation(), 7) : 0;
+            } else if(card.isAdvanceTo()) {
+                danger = danger(p, card.getLocation(), 7);
+            } else if(card.isAdvanceBy()) {
+                danger = danger(p, Math.floorMod(from + card.getSteps(), Game.BOARD_SIZE), 7);
+            } else if(card.isPerDevelopment()) {
+                danger = Math.min(1, (p.getTotalHouses() * card.getHouseCost() + p.getTotalHotels() * card.getHotelCost()) / balance);
+            } else if(card.isPerPlayer()) {
+                danger = Math.min(1, Math.max(0, card.getPlayerAmount()) * game.getPlayerCount() / balance);
+            } else if(card.isGoToJail()) {
+                danger = Math.min(1, game.getBail() / balance);
+            }
+            weights[i] = Math.exp(tilt * danger);
+        }
+        return pick(deck.size(), source);
+    }
+
+    /**
+     * Scores landing on a space
+     * @param p player landing
+     * @param space index of the space
+     * @param roll roll that got the player there, for utility rent
+     * @return what landing costs as a share of the player's balance, at most 1
+     */
+    private double danger(Player p, int space, int roll) {
+        if(target >= 0 && space != target) {
+            return 0;
+        }
+        BoardSpace landing = game.getSpace(space);
+        int owed = 0;
+        if(landing instanceof Property) {
+            Property property = (Property) landing;
+            if(property.getOwner() instanceof Player && property.getOwner() != p && !property.isMortgaged()) {
+                owed = property instanceof Utility ? 10 * roll : property.getRent();
+            }
+        } else if(landing instanceof Tax) {
+            owed = ((Tax) landing).getTax();
+        } else if(landing instanceof GoToJail) {
+            owed = game.getBail();
+        }
+        return Math.min(1, owed / (double) Math.max(1, p.getBalance()));
+    }
+
+    /**
+     * Picks an outcome in proportion to its weight and multiplies the likelihood ratio by plain over tilted probability
+     * @param count number of outcomes, each plainly as likely
+     * @param source random source of the pick
+     * @return the outcome
+     */
+    private int pick(int count, Random source) {
+        double total = 0;
+        for(int i = 0; i < count; i++) total += weights[i];
+        double u = source.nextDouble() * total;
+        int outcome = count - 1;
+        for(int i = 0; i < count; i++) {
+            u -= weights[i];
+            if(u < 0) {
+                outcome = i;
+                break;
+            }
+        }
+        logWeight += Math.log(total / count / weights[outcome]);
+        return outcome;
+    }
+}
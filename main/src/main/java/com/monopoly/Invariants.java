@@ -0,0 +1,323 @@
+/**
+ * Check of a game's bookkeeping invariants
+ *
+ * @author Dale Urquhart
+ * @since 2026-10-19
+ */
+
+package com.monopoly;
+
+import java.util.List;
+
+/**
+ * Checks, at the end of every phase of a turn, that the pieces of state the game keeps in more than one place still
+ * agree: every space's occupants are the players standing on it, the jail holds exactly the players in jail, no
+ * property has a negative or impossible number of houses, every property is listed once, by its owner only, and the
+ * turn index points into the players still seated
+ * Playing on from a broken game only piles more breakage on the first, so the first break is kept, with the phase and
+ * turn it was found in, and later checks are skipped
+ * The checks walk the board and the players without allocating, so they can run after every step of a fuzzing run
+ */
+final class Invariants {
+
+    /**
+     * Invariant: every space's occupants are the players in the game standing on it, each once
+     */
+    static final int OCCUPANCY = 0;
+
+    /**
+     * Invariant: the jail holds exactly the players in the game who are in jail, and they stand on it
+     */
+    static final int JAIL = 1;
+
+    /**
+     * Invariant: every property has 0 to 4 houses, and none under a hotel
+     */
+    static final int HOUSES = 2;
+
+    /**
+     * Invariant: the turn index points into the players still seated, at the current player once a turn is over
+     */
+    static final int TURN_INDEX = 3;
+
+    /**
+     * Invariant: every property is in its owner's list once, and in no other list, the bank's included
+     */
+    static final int OWNERSHIP = 4;
+
+    /**
+     * Invariant: every balance matches the game's ledger, when MoneyCheck is checking it
+     */
+    static final int MONEY = 5;
+
+    /**
+     * Not an invariant: the game threw
+     */
+    static final int EXCEPTION = 6;
+
+    /**
+     * Names of the invariants, indexed by invariant
+     */
+    static final String[] NAMES = {"occupancy", "jail", "houses", "turn index", "ownership", "money", "exception"};
+
+    /**
+     * Phase checked once a whole turn is over and play has passed on
+     */
+    static final String PHASE_TURN = "Turn";
+
+    /**
+     * Invariant first broken, -1 while none has been
+     */
+    private int broken = -1;
+
+    /**
+     * Phase the first break was found after
+     */
+    private String phase;
+
+    /**
+     * Turn the first break was found in
+     */
+    private int turn;
+
+    /**
+     * Description of the first break
+     */
+    private String detail;
+
+    /**
+     * Checks every invariant, keeping the first one broken
+     * @param game the game
+     * @param phase phase of the turn just finished, one of the GameEvents.PHASE names or PHASE_TURN
+     * @return true if every invariant holds, or a break was already found
+     */
+    boolean check(Game game, String phase) {
+        if(broken >= 0) return true;
+        String found;
+        if((found = occupancy(game)) != null) {
+            fail(OCCUPANCY, game, phase, found);
+        } else if((found = jail(game)) != null) {
+            fail(JAIL, game, phase, found);
+        } else if((found = houses(game)) != null) {
+            fail(HOUSES, game, phase, found);
+        } else if((found = turnIndex(game, PHASE_TURN.equals(phase))) != null) {
+            fail(TURN_INDEX, game, phase, found);
+        } else if((found = ownership(game)) != null) {
+            fail(OWNERSHIP, game, phase, found);
+        } else if(game.getMoneyCheck() != null && game.getMoneyCheck().getViolations() > 0) {
+            fail(MONEY, game, phase, game.getMoneyCheck().getFirstViolation());
+        } else {
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Records the exception a game threw, as its break if it has none yet
+     * @param game the game
+     * @param thrown the exception
+     */
+    void thrown(Game game, Throwable thrown) {
+        if(broken < 0) fail(EXCEPTION, game, PHASE_TURN, thrown.toString());
+    }
+
+    /**
+     * Records the first break
+     * @param invariant invariant broken
+     * @param game the game
+     * @param phase phase it was found after
+     * @param detail what was found
+     */
+    private void fail(int invariant, Game game, String phase, String detail) {
+        broken = invariant;
+        this.phase = phase;
+        turn = game.getTurnsPlayed();
+        this.detail = detail;
+    }
+
+    /**
+     * Checks that every space's occupants are the players in the game standing on it, each once
+     * @param game the game
+     * @return what is wrong, null if nothing is
+     */
+    static String occupancy(Game game) {
+        List<Player> players = game.getPlayers();
+        for(BoardSpace space : game.getMap()) {
+            List<Player> occupants = space.getOccupants();
+            for(int i = 0; i < occupants.size(); i++) {
+                Player p = occupants.get(i);
+                if(!players.contains(p)) {
+                    return p.getName() + " has left the game but is still an occupant of " + space.getName();
+                }
+                if(p.getLocation() != space) {
+                    return p.getName() + " is on " + p.getLocation().getName() + " but is still an occupant of " + space.getName();
+                }
+            }
+        }
+        for(int i = 0; i < players.size(); i++) {
+            Player p = players.get(i);
+            List<Player> occupants = p.getLocation().getOccupants();
+            int listed = 0;
+            for(int j = 0; j < occupants.size(); j++) {
+                if(occupants.get(j) == p) listed++;
+            }
+            if(listed != 1) {
+                return p.getName() + " is on " + p.getLocation().getName() + " but is one of its occupants " + listed + " times";
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Checks that the jail holds exactly the players in the game who are in jail, and that they stand on it
+     * @param game the game
+     * @return what is wrong, null if nothing is
+     */
+    static String jail(Game game) {
+        Jail jail = game.getJail();
+        List<Player> jailed = jail.getJailedPlayers();
+        List<Player> players = game.getPlayers();
+        for(int i = 0; i < jailed.size(); i++) {
+            Player p = jailed.get(i);
+            if(!players.contains(p)) {
+                return p.getName() + " has left the game but is still held in jail";
+            }
+            if(!p.inJail()) {
+                return p.getName() + " is held in jail but is not in jail";
+            }
+            if(jailed.lastIndexOf(p) != i) {
+                return p.getName() + " is held in jail more than once";
+            }
+        }
+        for(int i = 0; i < players.size(); i++) {
+            Player p = players.get(i);
+            if(p.inJail() && !jailed.contains(p)) {
+                return p.getName() + " is in jail but is not held in it";
+            }
+            if(p.inJail() && p.getLocation() != jail) {
+                return p.getName() + " is in jail but is on " + p.getLocation().getName();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Checks that every property has 0 to 4 houses, and none under a hotel
+     * @param game the game
+     * @return what is wrong, null if nothing is
+     */
+    static String houses(Game game) {
+        for(BoardSpace space : game.getMap()) {
+            if(space instanceof Property) {
+                Property p = (Property) space;
+                if(p.getHouses() < 0 || p.getHouses() > 4 || (p.hasHotel() && p.getHouses() != 0)) {
+                    return p.getName() + " has " + p.getHouses() + " houses" + (p.hasHotel() ? " and a hotel" : "");
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Checks that every property is in its owner's list once, that every list holds only properties its entity owns,
+     * so no property stays with the bank once a player owns it, and that no property is owned by a player who has left
+     * while the game goes on; the last bankruptcy of a game only removes the loser, whose properties are never settled
+     * @param game the game
+     * @return what is wrong, null if nothing is
+     */
+    static String ownership(Game game) {
+        List<Player> players = game.getPlayers();
+        for(BoardSpace space : game.getMap()) {
+            if(space instanceof Property) {
+                Property p = (Property) space;
+                Entity owner = p.getOwner();
+                if(owner != game.getBanker() && !players.contains(owner) && !game.isOver()) {
+                    return p.getName() + " is owned by " + owner.getName() + ", who has left the game";
+                }
+                List<Property> owned = owner.getProperties();
+                int listed = 0;
+                for(int i = 0; i < owned.size(); i++) {
+                    if(owned.get(i) == p) listed++;
+                }
+                if(listed != 1) {
+                    return p.getName() + " is owned by " + owner.getName() + " but is in their list " + listed + " times";
+                }
+            }
+        }
+        String found = listed(game.getBanker());
+        for(int i = 0; found == null && i < players.size(); i++) {
+            found = listed(players.get(i));
+        }
+        return found;
+    }
+
+    /**
+     * Checks that an entity lists only properties it owns
+     * @param entity the bank or a player
+     * @return what is wrong, null if nothing is
+     */
+    private static String listed(Entity entity) {
+        List<Property> owned = entity.getProperties();
+        for(int i = 0; i < owned.size(); i++) {
+            Property p = owned.get(i);
+            if(p.getOwner() != entity) {
+                return p.getName() + " is owned by " + p.getOwner().getName() + " but is still in the list of " + entity.getName();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Checks that the turn index points into the players still seated
+     * @param game the game
+     * @param turnOver whether a whole turn is over, when the index must point at the current player
+     * @return what is wrong, null if nothing is
+     */
+    static String turnIndex(Game game, boolean turnOver) {
+        int count = game.getPlayerCount(), index = game.getTurnIndex();
+        if(count != game.getPlayers().size()) {
+            return "Player count is " + count + " with " + game.getPlayers().size() + " players seated";
+        }
+        if(count > 0 && (index < 0 || index >= count)) {
+            return "Turn index is " + index + " with " + count + " players seated";
+        }
+        if(turnOver && count > 0 && game.getPlayers().get(index) != game.getCurrentPlayer()) {
+            return "Turn index " + index + " points at " + game.getPlayers().get(index).getName() + " but "
+                + game.getCurrentPlayer().getName() + " plays next";
+        }
+        return null;
+    }
+
+    /**
+     * Checks whether an invariant has been broken
+     * @return true once one has
+     */
+    boolean isBroken() {
+        return broken >= 0;
+    }
+
+    /**
+     * Gets the invariant first broken
+     * @return one of the invariants, -1 while none has been
+     */
+    int getBroken() {
+        return broken;
+    }
+
+    /**
+     * Gets the turn the first break was found in
+     * @return the turn of the game
+     */
+    int getTurn() {
+        return turn;
+    }
+
+    /**
+     * Describes the first break
+     * @return the invariant, phase, turn and what was found, null while none has been
+     */
+    String describe() {
+        if(broken < 0) return null;
+        return NAMES[broken] + " broken after the " + phase + " phase of turn " + turn + ": " + detail;
+    }
+}
@@ -1,6 +1,7 @@
 package com.monopoly;
 
 import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Jail space
@@ -20,6 +21,28 @@ public class Jail extends BoardSpace{
         this.jailedPlayers = new ArrayList<>();
     }
 
+    /**
+     * Copy constructor for a copied game, jailing the copies of the jailed players
+     * @param other space to copy
+     * @param game the copied game
+     */
+    private Jail(Jail other, Game game) {
+        super(other);
+        jailedPlayers = new ArrayList<>(other.jailedPlayers.size());
+        for(Player p : other.jailedPlayers) {
+            Player copy = game.getSeat(p.getID());
+            if(copy != null) jailedPlayers.add(copy);
+        }
+    }
+
+    /**
+     * Copies the space into a copied game
+     */
+    @Override
+    BoardSpace copy(Game game) {
+        return new Jail(this, game);
+    }
+
     /**
      * Adds a player to the jailedPlayers
      * @param p player to ad to jailedPlayers
@@ -40,6 +63,14 @@ public class Jail extends BoardSpace{
         p.flipJailed(); 
     }
 
+    /**
+     * Gets the players held in jail
+     * @return the jailed players, not to be changed
+     */
+    List<Player> getJailedPlayers() {
+        return jailedPlayers;
+    }
+
     /**
      * Checks if there are players in jail
      * @return true for if there is a player in jail
@@ -0,0 +1,462 @@
+/**
+ * Exact solver for the jail decision
+ *
+ * @author Dale Urquhart
+ * @since 2026-10-19
+ */
+
+package com.monopoly;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Values each jail choice by dynamic programming over the board's Markov chain: the expected change in the jailed
+ * player's net worth over their next turns, given who owns what and the rent it charges now
+ * The chain follows the player as the game moves them: both dice, rolling again on doubles and going to jail on the
+ * third, Go to Jail, and every card of both decks by how often it is in the deck. Along the way the player collects
+ * for passing Go, pays rent on opponents' properties, taxes, bail and card payments, and gains the rent an unowned
+ * property they land on would earn them (its rent times how often opponents land on it). Jail is the same chain with
+ * the jail turns counted: paying or using a card rolls from jail at once, doubles leave jail, and the third failed
+ * roll pays bail and rolls
+ * The values only depend on the board, so they are solved once per ownership signature (the game's board hash from
+ * the player's point of view) for every jail turn together, and cached: a lookup during a game is a hash map read
+ */
+final class JailSolver {
+
+    /**
+     * Turns looked ahead by default
+     */
+    static final int HORIZON = 10;
+
+    /**
+     * Solver shared by every game, so the cache fills across games
+     */
+    static final JailSolver DEFAULT = new JailSolver(HORIZON);
+
+    /**
+     * Ownership signatures cached before the cache is emptied
+     */
+    static final int MAX_ENTRIES = 1 << 16;
+
+    /**
+     * Jail turns a player can be on, the third failed roll ends their stay
+     */
+    private static final int JAIL_TURNS = 3;
+
+    /**
+     * Index of the jail space
+     */
+    private static final int JAIL = 10;
+
+    /**
+     * Key mixed into the cache keys
+     */
+    private static final long KEY_SEED = 0x7A11L;
+
+    /**
+     * Own turns looked ahead
+     */
+    private final int horizon;
+
+    /**
+     * Values of each ownership signature, indexed by jail turn then choice - 1
+     */
+    private final ConcurrentHashMap<Long, double[][]> cache = new ConcurrentHashMap<>();
+
+    /**
+     * Number of ownership signatures solved
+     */
+    private final LongAdder solves = new LongAdder();
+
+    /**
+     * How often an opponent's roll lands on each space, solved once from the first board seen
+     */
+    private volatile double[] landing;
+
+    /**
+     * Board being solved: every space's landing value, filled per solve
+     */
+    private final ThreadLocal<Board> boards = ThreadLocal.withInitial(Board::new);
+
+    /**
+     * Constructor for a solver
+     * @param horizon own turns looked ahead
+     */
+    JailSolver(int horizon) {
+        if(horizon < 1) {
+            throw new IllegalArgumentException("The solver must look at least a turn ahead");
+        }
+        this.horizon = horizon;
+    }
+
+    /**
+     * Gets the number of ownership signatures solved so far
+     * @return solves, each lookup beyond them came from the cache
+     */
+    long getSolves() {
+        return solves.sum();
+    }
+
+    /**
+     * Gets the value of each jail choice for a jailed player
+     * @param game the game
+     * @param player the jailed player
+     * @return expected change in net worth over the horizon, indexed by choice - 1 (JAIL_PAY, JAIL_ROLL, JAIL_CARD)
+     */
+    double[] values(Game game, Player player) {
+        long key = game.getHash().getBoard() ^ ZobristHash.perspective(player.getID())
+                ^ Simulator.seedFor(KEY_SEED ^ ((long) game.getRules().getBail() << 32 | game.getRules().getGoReward()), game.getPlayerCount());
+        double[][] values = cache.get(key);
+        if(values == null) {
+            values = solve(game, player);
+            if(cache.size() >= MAX_ENTRIES) {
+                cache.clear();
+            }
+            cache.put(key, values);
+        }
+        return values[Math.min(player.getJailedTurns(), JAIL_TURNS - 1)];
+    }
+
+    /**
+     * Picks the valid jail choice of highest value, a card over paying when they are worth the same
+     * @param game the game
+     * @param player the jailed player
+     * @param choices valid choices from Game.getValidJailChoices()
+     * @return the best choice
+     */
+    int best(Game game, Player player, List<Integer> choices) {
+        double[] values = values(game, player);
+        int best = Game.JAIL_ROLL;
+        for(int choice : new int[] {Game.JAIL_CARD, Game.JAIL_PAY, Game.JAIL_ROLL}) {
+            if(choices.contains(choice) && values[choice - 1] > values[best - 1] + 1e-9) {
+                best = choice;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Describes the value of each valid choice, for a person deciding
+     * @param game the game
+     * @param player the jailed player
+     * @param choices valid choices from Game.getValidJailChoices()
+     * @return one line of advice
+     */
+    String advise(Game game, Player player, List<Integer> choices) {
+        double[] values = values(game, player);
+        String[] names = {"pay", "roll", "card"};
+        StringBuilder advice = new StringBuilder("Expected net worth change over your next " + horizon + " turns:");
+        for(int choice : choices) {
+            advice.append(String.format(" %d. %s $%.0f", choice, names[choice - 1], values[choice - 1]));
+        }
+        return advice.append(". Best: ").append(best(game, player, choices)).append('.').toString();
+    }
+
+    /**
+     * Solves the chain for every jail turn of a player
+     * @param game the game
+     * @param player the jailed player
+     * @return values indexed by jail turn then choice - 1
+     */
+    private double[][] solve(Game game, Player player) {
+        solves.increment();
+        if(landing == null) {
+            landing = landing(game);
+        }
+        Board board = boards.get();
+        board.fill(game, player, landing);
+        int bail = game.getRules().getBail();
+
+        double[] next = new double[Game.BOARD_SIZE];
+        double[] nextJail = new double[JAIL_TURNS];
+        double[][] now = new double[3][Game.BOARD_SIZE];
+        double[][] choices = new double[JAIL_TURNS][3];
+        for(int h = 1; h <= horizon; h++) {
+            // Rolling with d doubles so far this turn, the third sends the player to jail
+            for(int d = 2; d >= 0; d--) {
+                for(int from = 0; from < Game.BOARD_SIZE; from++) {
+                    double total = 0;
+                    for(int a = 1; a <= 6; a++) {
+                        for(int b = 1; b <= 6; b++) {
+                            if(a == b && d == 2) {
+                                total += nextJail[0];
+                            } else {
+                                total += board.roll(from, a + b, a == b ? now[d + 1] : next, nextJail[0], h);
+                            }
+                        }
+                    }
+                    now[d][from] = total / 36;
+                }
+            }
+
+            double[] jail = new double[JAIL_TURNS];
+            for(int k = 0; k < JAIL_TURNS; k++) {
+                double roll = 0;
+                for(int a = 1; a <= 6; a++) {
+                    // Doubles leave jail and move, but do not roll again
+                    roll += board.arrive(JAIL + 2 * a, 2 * a, next, nextJail[0], h);
+                }
+                roll += 30 * (k == JAIL_TURNS - 1 ? now[0][JAIL] - bail : nextJail[Math.min(k + 1, JAIL_TURNS - 1)]);
+                choices[k][Game.JAIL_PAY - 1] = now[0][JAIL] - bail;
+                choices[k][Game.JAIL_ROLL - 1] = roll / 36;
+                // A card saves a later bail, so using one costs what it would have saved
+                choices[k][Game.JAIL_CARD - 1] = now[0][JAIL] - bail;
+                jail[k] = Math.max(choices[k][Game.JAIL_PAY - 1], choices[k][Game.JAIL_ROLL - 1]);
+            }
+            next = now[0].clone();
+            nextJail = jail;
+        }
+        return choices;
+    }
+
+    /**
+     * Solves how often a roll lands on each space, following a player who never stays in jail
+     * @param game any game on the board
+     * @return landing frequency per roll, indexed by space
+     */
+    private static double[] landing(Game game) {
+        double[] position = new double[Game.BOARD_SIZE];
+        double[] landed = new double[Game.BOARD_SIZE];
+        position[0] = 1;
+        int rolls = 200;
+        for(int step = 0; step < rolls; step++) {
+            double[] after = new double[Game.BOARD_SIZE];
+            for(int from = 0; from < Game.BOARD_SIZE; from++) {
+                if(position[from] == 0) continue;
+                for(int roll = 2; roll <= 12; roll++) {
+                    double p = position[from] * (6 - Math.abs(roll - 7)) / 36;
+                    int to = (from + roll) % Game.BOARD_SIZE;
+                    landed[to] += p;
+                    BoardSpace space = game.getSpace(to);
+                    if(space instanceof GoToJail) {
+                        after[JAIL] += p;
+                    } else if(space instanceof CardManager) {
+                        List<Card> cards = ((CardManager) space).getCards();
+                        for(Card card : cards) {
+                            after[Board.cardDestination(card, to)] += p / cards.size();
+                        }
+                    } else {
+                        after[to] += p;
+                    }
+                }
+            }
+            position = after;
+        }
+        for(int i = 0; i < landed.length; i++) {
+            landed[i] /= rolls;
+        }
+        return landed;
+    }
+
+    /**
+     * Landing values of one board from one player's point of view
+     */
+    private static final class Board {
+
+        /**
+         * Money gained (negative for paid) on landing on each space, apart from utility rent
+         */
+        private final double[] fixed = new double[Game.BOARD_SIZE];
+
+        /**
+         * Utility rent paid per point of the roll on landing on each space
+         */
+        private final double[] perRoll = new double[Game.BOARD_SIZE];
+
+        /**
+         * Rent an unowned property would earn per turn of the horizon left, 0 for every other space
+         */
+        private final double[] opportunity = new double[Game.BOARD_SIZE];
+
+        /**
+         * Chance rent paid on being sent to each space by a nearest railroad or utility card (per point of the roll
+         * for utilities), negative for the opportunity of an unowned one
+         */
+        private final double[] nearestRent = new double[Game.BOARD_SIZE];
+
+        /**
+         * Whether each space is Go to Jail
+         */
+        private final boolean[] goToJail = new boolean[Game.BOARD_SIZE];
+
+        /**
+         * Cards of each card space, null for other spaces
+         */
+        private final List<List<Card>> cards = new ArrayList<>();
+
+        /**
+         * Reward for passing Go
+         */
+        private int goReward;
+
+        /**
+         * Paid on a per development card, indexed like the cards
+         */
+        private final List<int[]> cardCosts = new ArrayList<>();
+
+        /**
+         * Fills the landing values of a board
+         * @param game the game
+         * @param player the player whose point of view is taken
+         * @param landing how often an opponent's roll lands on each space
+         */
+        void fill(Game game, Player player, double[] landing) {
+            goReward = game.getGo().getReward();
+            int opponents = game.getPlayerCount() - 1;
+            cards.clear();
+            cardCosts.clear();
+            for(int s = 0; s < Game.BOARD_SIZE; s++) {
+                BoardSpace space = game.getSpace(s);
+                fixed[s] = 0;
+                perRoll[s] = 0;
+                opportunity[s] = 0;
+                nearestRent[s] = 0;
+                goToJail[s] = space instanceof GoToJail;
+                cards.add(null);
+                cardCosts.add(null);
+                if(space instanceof Property) {
+                    Property property = (Property) space;
+                    Entity owner = property.getOwner();
+                    if(owner instanceof Player && owner != player) {
+                        if(property instanceof Utility) {
+                            perRoll[s] = utilities(owner) == 1 ? -4 : -10;
+                            nearestRent[s] = -10;
+                        } else {
+                            fixed[s] = -property.getRent();
+                            nearestRent[s] = property instanceof Railroad ? -2 * property.getRent() : 0;
+                        }
+                    } else if(!(owner instanceof Player)) {
+                        opportunity[s] = rentIfOwned(property, player) * landing[s] * opponents;
+                    }
+                } else if(space instanceof Tax) {
+                    fixed[s] = -((Tax) space).getTax();
+                } else if(space instanceof Go) {
+                    fixed[s] = goReward;
+                } else if(space instanceof CardManager) {
+                    List<Card> deck = ((CardManager) space).getCards();
+                    int[] costs = new int[deck.size()];
+                    for(int i = 0; i < deck.size(); i++) {
+                        Card card = deck.get(i);
+                        if(card.isPerDevelopment()) {
+                            costs[i] += player.getTotalHouses() * card.getHouseCost() + player.getTotalHotels() * card.getHotelCost();
+                        }
+                        if(card.isPerPlayer()) {
+                            costs[i] += card.getPlayerAmount() * opponents;
+                        }
+                        if(card.isGetOutOfJail()) {
+                            costs[i] -= game.getBail();
+                        }
+                    }
+                    cards.set(s, deck);
+                    cardCosts.set(s, costs);
+                }
+            }
+        }
+
+        /**
+         * Counts the utilities an entity owns
+         * @param owner the owner
+         * @return number of utilities
+         */
+        private static int utilities(Entity owner) {
+            int count = 0;
+            for(Property p : owner.getProperties()) {
+                if(p instanceof Utility) count++;
+            }
+            return count;
+        }
+
+        /**
+         * Gets the rent a property would charge if the player bought it
+         * @param property the unowned property
+         * @param player the player
+         * @return rent, at the average roll for a utility
+         */
+        private static double rentIfOwned(Property property, Player player) {
+            int sameType = 0;
+            for(Property p : player.getProperties()) {
+                if(p.getType().equals(property.getType())) sameType++;
+            }
+            if(property instanceof Railroad) {
+                return (int) (12.5 * (1 << (sameType + 1)));
+            }
+            if(property instanceof Utility) {
+                return 7 * (sameType == 0 ? 4 : 10);
+            }
+            return property.getDefaultRent() * (sameType + 1 == property.getSetSize() ? 2 : 1);
+        }
+
+        /**
+         * Gets where a card leaves a player, ignoring the jail cards and payments
+         * @param card the card
+         * @param from space the card was drawn on
+         * @return index of the space the player is on after the card
+         */
+        static int cardDestination(Card card, int from) {
+            if(card.isGoToJail()) return JAIL;
+            if(card.isAdvanceBy()) return Math.floorMod(from + card.getSteps(), Game.BOARD_SIZE);
+            if(card.isAdvanceTo()) return card.getLocation();
+            if(card.isNearest()) {
+                return card.getNearestType().equals("RR") ? CardManager.nearestRailroad(from) : CardManager.nearestUtility(from);
+            }
+            return from;
+        }
+
+        /**
+         * Values a roll of the dice from a space
+         * @param from space rolled from
+         * @param roll total of the dice
+         * @param after value of being on each space once the landing is over
+         * @param jailed value of being sent to jail
+         * @param h own turns left, this one included
+         * @return value of the roll
+         */
+        double roll(int from, int roll, double[] after, double jailed, int h) {
+            int to = from + roll;
+            // Passing Go pays as the player moves, landing on it pays again
+            double go = to >= Game.BOARD_SIZE ? goReward : 0;
+            return go + arrive(to % Game.BOARD_SIZE, roll, after, jailed, h);
+        }
+
+        /**
+         * Values arriving on a space
+         * @param to space arrived on
+         * @param roll roll that got the player there
+         * @param after value of being on each space once the landing is over
+         * @param jailed value of being sent to jail
+         * @param h own turns left, this one included
+         * @return value of the landing and what follows
+         */
+        double arrive(int to, int roll, double[] after, double jailed, int h) {
+            if(goToJail[to]) {
+                return jailed;
+            }
+            List<Card> deck = cards.get(to);
+            if(deck == null) {
+                return fixed[to] + perRoll[to] * roll + opportunity[to] * h + after[to];
+            }
+            int[] costs = cardCosts.get(to);
+            double total = 0;
+            for(int i = 0; i < deck.size(); i++) {
+                Card card = deck.get(i);
+                int at = cardDestination(card, to);
+                if(card.isGoToJail()) {
+                    total += jailed;
+                    continue;
+                }
+                double value = -costs[i] + after[at];
+                if(card.isAdvanceTo() && to > at) {
+                    value += goReward;
+                }
+                if(card.isNearest()) {
+                    value += nearestRent[at] * (card.getNearestType().equals("RR") ? 1 : roll) + opportunity[at] * h;
+                }
+                total += value;
+            }
+            return total / deck.size();
+        }
+    }
+}
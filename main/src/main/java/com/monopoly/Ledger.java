@@ -0,0 +1,302 @@
+/**
+ * Double-entry ledger of a game's money
+ *
+ * @author Dale Urquhart
+ * @since 2026-10-19
+ */
+
+package com.monopoly;
+
+import java.io.PrintWriter;
+
+/**
+ * Moves every dollar of a game as one posting from one entity to another, with the reason it moved, so money can only
+ * change hands: a payment nobody receives, or a credit nobody pays, can no longer be written
+ * Balances are kept by the postings alone, each entity's adjusted as it pays or is paid, and a net worth is the balance
+ * plus the value of what the entity owns. The bank starts at nothing and goes negative by what it has paid out, rather
+ * than holding Integer.MAX_VALUE, which the first payment to it overflowed
+ * The last postings are kept in a preallocated ring of ints (turn, payer, payee, amount, reason), with a running total
+ * per reason, as an audit trail that is written out with a crash's last turns; each posting is also a flight recorder
+ * event. A posting is a handful of stores and allocates nothing. Search copies keep no postings, only the balances
+ * Accounts are numbered BANK for the bank and the seat plus one for a player
+ */
+final class Ledger {
+
+    /**
+     * Number of postings a game keeps
+     */
+    static final int DEFAULT_POSTINGS = 256;
+
+    /**
+     * Account of the bank
+     */
+    static final int BANK = 0;
+
+    /**
+     * Field of a posting: turn of the game
+     */
+    static final int TURN = 0;
+
+    /**
+     * Field of a posting: account paying
+     */
+    static final int FROM = 1;
+
+    /**
+     * Field of a posting: account paid
+     */
+    static final int TO = 2;
+
+    /**
+     * Field of a posting: amount paid, never negative
+     */
+    static final int AMOUNT = 3;
+
+    /**
+     * Field of a posting: reason for the payment
+     */
+    static final int REASON = 4;
+
+    /**
+     * Number of ints in a posting
+     */
+    static final int WIDTH = 5;
+
+    /**
+     * Names of the fields, indexed by field
+     */
+    static final String[] FIELDS = {"turn", "from", "to", "amount", "reason"};
+
+    /**
+     * Reason: rent for landing on a property
+     */
+    static final int RENT = 0;
+
+    /**
+     * Reason: a property bought from the bank on landing
+     */
+    static final int PURCHASE = 1;
+
+    /**
+     * Reason: a property won at auction or sold by one player to another
+     */
+    static final int TRADE = 2;
+
+    /**
+     * Reason: a property sold back to the bank
+     */
+    static final int SALE = 3;
+
+    /**
+     * Reason: a tax space
+     */
+    static final int TAX = 4;
+
+    /**
+     * Reason: passing Go
+     */
+    static final int GO = 5;
+
+    /**
+     * Reason: a card
+     */
+    static final int CARD = 6;
+
+    /**
+     * Reason: bail out of jail
+     */
+    static final int BAIL = 7;
+
+    /**
+     * Reason: a property mortgaged
+     */
+    static final int MORTGAGE = 8;
+
+    /**
+     * Reason: a mortgage paid off
+     */
+    static final int UNMORTGAGE = 9;
+
+    /**
+     * Reason: interest on a mortgage taken over
+     */
+    static final int INTEREST = 10;
+
+    /**
+     * Reason: a house or hotel built
+     */
+    static final int BUILD = 11;
+
+    /**
+     * Reason: a house or hotel sold back to the bank
+     */
+    static final int DEMOLISH = 12;
+
+    /**
+     * Reason: a bankrupt player's cash handed to their creditor
+     */
+    static final int ESTATE = 13;
+
+    /**
+     * Reason: a debt paid to the bank for whoever is owed, in a search rollout
+     */
+    static final int DEBT = 14;
+
+    /**
+     * Names of the reasons, indexed by reason
+     */
+    static final String[] REASONS = {"rent", "purchase", "trade", "sale", "tax", "go", "card", "bail", "mortgage",
+        "unmortgage", "interest", "build", "demolish", "estate", "debt"};
+
+    /**
+     * Game whose money this is, for the turn of a posting
+     */
+    private final Game game;
+
+    /**
+     * Postings, WIDTH ints each, the oldest overwritten first
+     */
+    private final int[] journal;
+
+    /**
+     * Number of postings the ring holds
+     */
+    private final int capacity;
+
+    /**
+     * Number of postings made, the ring holds the last of them
+     */
+    private long posted;
+
+    /**
+     * Amount moved for each reason, indexed by reason
+     */
+    private final long[] totals = new long[REASONS.length];
+
+    /**
+     * Check of the game's balances told of every posting, null when not checking
+     */
+    private MoneyCheck money;
+
+    /**
+     * Constructor for a ledger
+     * @param game game whose money this is
+     * @param capacity number of postings to keep, 0 to keep only the balances
+     */
+    Ledger(Game game, int capacity) {
+        this.game = game;
+        this.capacity = capacity;
+        journal = new int[capacity * WIDTH];
+    }
+
+    /**
+     * Moves money from one entity to another
+     * A negative amount moves the other way, and is posted that way
+     * @param from entity paying
+     * @param to entity paid
+     * @param amount amount paid
+     * @param reason one of the reasons
+     */
+    void post(Entity from, Entity to, int amount, int reason) {
+        if(amount < 0) {
+            Entity payer = to;
+            to = from;
+            from = payer;
+            amount = -amount;
+        }
+        if(amount == 0 || from == to) return;
+        from.adjustBalance(-amount);
+        to.adjustBalance(amount);
+        if(money != null) money.posted(from, to, amount);
+        totals[reason] += amount;
+        if(capacity > 0) {
+            int at = (int) (posted % capacity) * WIDTH;
+            journal[at + TURN] = game.getTurnsPlayed();
+            journal[at + FROM] = account(from);
+            journal[at + TO] = account(to);
+            journal[at + AMOUNT] = amount;
+            journal[at + REASON] = reason;
+        }
+        posted++;
+        GameEvents.posting(from, to, amount, reason);
+    }
+
+    /**
+     * Tells a check of the game's balances of every posting from now on
+     * @param money the check, null to stop
+     */
+    void setMoneyCheck(MoneyCheck money) {
+        this.money = money;
+    }
+
+    /**
+     * Gets the account of an entity
+     * @param entity the entity
+     * @return BANK, or a player's seat plus one
+     */
+    static int account(Entity entity) {
+        return entity instanceof Player ? ((Player) entity).getID() + 1 : BANK;
+    }
+
+    /**
+     * Gets the number of postings made
+     * @return every posting, kept or not
+     */
+    long getPosted() {
+        return posted;
+    }
+
+    /**
+     * Gets the number of postings kept
+     * @return postings kept, at most the ring's size
+     */
+    int getSize() {
+        return (int) Math.min(posted, capacity);
+    }
+
+    /**
+     * Gets a field of a kept posting
+     * @param index index of the posting, 0 for the oldest kept
+     * @param field one of the fields
+     * @return the field
+     */
+    int get(int index, int field) {
+        long sequence = posted - getSize() + index;
+        return journal[(int) (sequence % capacity) * WIDTH + field];
+    }
+
+    /**
+     * Gets the amount moved for a reason over the whole game
+     * @param reason one of the reasons
+     * @return the amount
+     */
+    long getTotal(int reason) {
+        return totals[reason];
+    }
+
+    /**
+     * Writes the kept postings, oldest first, then the totals per reason
+     * @param out where to write
+     */
+    void write(PrintWriter out) {
+        out.println("# Last " + getSize() + " of " + posted + " postings");
+        out.println(String.join(",", FIELDS));
+        for(int i = 0; i < getSize(); i++) {
+            out.println(get(i, TURN) + "," + name(get(i, FROM)) + "," + name(get(i, TO)) + "," + get(i, AMOUNT) + ","
+                + REASONS[get(i, REASON)]);
+        }
+        out.println("# Totals by reason");
+        for(int reason = 0; reason < REASONS.length; reason++) {
+            if(totals[reason] != 0) out.println(REASONS[reason] + "," + totals[reason]);
+        }
+    }
+
+    /**
+     * Names an account
+     * @param account the account
+     * @return bank, or the seat
+     */
+    private static String name(int account) {
+        return account == BANK ? "bank" : "seat " + (account - 1);
+    }
+}
@@ -0,0 +1,439 @@
+/**
+ * Asynchronous leveled logger
+ *
+ * @author Dale Urquhart
+ * @since 2026-10-19
+ */
+
+package com.monopoly;
+
+import java.io.PrintStream;
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Leveled logger for the game: a message below the level costs a comparison, and one at or above it is handed to a
+ * preallocated ring of slots and formatted and printed by a background thread, so neither the FX thread nor a
+ * simulation worker ever waits on the console
+ * Messages are String.format formats with up to three arguments, formatted later on the writer thread, so pass values
+ * that do not change afterwards (names, numbers, exceptions) rather than the collections they come from
+ * Threads claim slots with a compare-and-set and publish them through the slot's sequence, so logging takes no lock;
+ * if the writer falls a whole ring behind new messages are dropped, and counted, rather than blocking the caller
+ * Warnings and errors go to stderr, the rest to stdout. The level is read from the monopoly.log system property
+ * (debug, info, warn, error or off, info by default), e.g. java -Dmonopoly.log=debug com.monopoly.App
+ */
+final class Log {
+
+    /**
+     * Level: detail of every turn
+     */
+    static final int DEBUG = 0;
+
+    /**
+     * Level: progress of the app
+     */
+    static final int INFO = 1;
+
+    /**
+     * Level: something went wrong and the game carries on
+     */
+    static final int WARN = 2;
+
+    /**
+     * Level: something failed
+     */
+    static final int ERROR = 3;
+
+    /**
+     * Level: nothing is logged
+     */
+    static final int OFF = 4;
+
+    /**
+     * Names of the levels, indexed by level
+     */
+    static final String[] LEVELS = {"debug", "info", "warn", "error", "off"};
+
+    /**
+     * Number of slots in the ring, a power of two
+     */
+    private static final int CAPACITY = 1 << 13;
+
+    /**
+     * Mask taking a sequence to its slot
+     */
+    private static final int MASK = CAPACITY - 1;
+
+    /**
+     * Time the writer sleeps when the ring is empty
+     */
+    private static final long IDLE_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    /**
+     * Longest the flush on exit waits for the writer
+     */
+    private static final long FLUSH_NANOS = TimeUnit.SECONDS.toNanos(2);
+
+    /**
+     * Format of a message's time
+     */
+    private static final DateTimeFormatter TIME = DateTimeFormatter.ofPattern("HH:mm:ss.SSS");
+
+    /**
+     * Slots of the ring, reused forever
+     */
+    private static final Slot[] RING = new Slot[CAPACITY];
+
+    /**
+     * Next sequence a message claims
+     */
+    private static final AtomicLong CLAIMED = new AtomicLong();
+
+    /**
+     * Messages dropped because the ring was full
+     */
+    private static final LongAdder DROPPED = new LongAdder();
+
+    /**
+     * Next sequence the writer prints
+     */
+    private static volatile long read;
+
+    /**
+     * Dropped messages already reported
+     */
+    private static long reported;
+
+    /**
+     * Lowest level logged
+     */
+    private static volatile int level = level(System.getProperty("monopoly.log", LEVELS[INFO]));
+
+    static {
+        for(int i = 0; i < CAPACITY; i++) {
+            RING[i] = new Slot();
+        }
+        Thread writer = new Thread(Log::write, "log-writer");
+        writer.setDaemon(true);
+        writer.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(Log::flush, "log-flush"));
+    }
+
+    /**
+     * Not instantiated
+     */
+    private Log() {
+    }
+
+    /**
+     * A message waiting to be printed
+     */
+    private static final class Slot {
+
+        /**
+         * Sequence of the message plus one once it is published, so a slot is ready when it holds its sequence plus one
+         */
+        private volatile long published;
+
+        /**
+         * Level of the message
+         */
+        private int level;
+
+        /**
+         * Time the message was logged, in milliseconds since the epoch
+         */
+        private long time;
+
+        /**
+         * Name of the thread that logged the message
+         */
+        private String thread;
+
+        /**
+         * Format of the message
+         */
+        private String format;
+
+        /**
+         * Number of arguments, up to three
+         */
+        private int count;
+
+        /**
+         * First argument
+         */
+        private Object a;
+
+        /**
+         * Second argument
+         */
+        private Object b;
+
+        /**
+         * Third argument
+         */
+        private Object c;
+    }
+
+    /**
+     * Gets a level by its name
+     * @param name name of the level, as in LEVELS
+     * @return the level
+     */
+    static int level(String name) {
+        for(int l = 0; l < LEVELS.length; l++) {
+            if(LEVELS[l].equalsIgnoreCase(name)) return l;
+        }
+        throw new IllegalArgumentException("Unknown log level " + name);
+    }
+
+    /**
+     * Sets the lowest level logged
+     * @param level DEBUG, INFO, WARN, ERROR or OFF
+     */
+    static void setLevel(int level) {
+        Log.level = level;
+    }
+
+    /**
+     * Checks whether a level is logged, for callers that would box or concatenate to build their arguments
+     * @param level the level
+     * @return true if messages at the level are printed
+     */
+    static boolean isEnabled(int level) {
+        return level >= Log.level;
+    }
+
+    /**
+     * Logs a debug message
+     * @param message the message, printed as it is
+     */
+    static void debug(String message) {
+        if(isEnabled(DEBUG)) publish(DEBUG, message, 0, null, null, null);
+    }
+
+    /**
+     * Logs a debug message with an argument
+     * @param format format of the message
+     * @param a argument
+     */
+    static void debug(String format, Object a) {
+        if(isEnabled(DEBUG)) publish(DEBUG, format, 1, a, null, null);
+    }
+
+    /**
+     * Logs a debug message with two arguments
+     * @param format format of the message
+     * @param a first argument
+     * @param b second argument
+     */
+    static void debug(String format, Object a, Object b) {
+        if(isEnabled(DEBUG)) publish(DEBUG, format, 2, a, b, null);
+    }
+
+    /**
+     * Logs a message
+     * @param message the message, printed as it is
+     */
+    static void info(String message) {
+        if(isEnabled(INFO)) publish(INFO, message, 0, null, null, null);
+    }
+
+    /**
+     * Logs a message with an argument
+     * @param format format of the message
+     * @param a argument
+     */
+    static void info(String format, Object a) {
+        if(isEnabled(INFO)) publish(INFO, format, 1, a, null, null);
+    }
+
+    /**
+     * Logs a message with two arguments
+     * @param format format of the message
+     * @param a first argument
+     * @param b second argument
+     */
+    static void info(String format, Object a, Object b) {
+        if(isEnabled(INFO)) publish(INFO, format, 2, a, b, null);
+    }
+
+    /**
+     * Logs a warning
+     * @param message the warning, printed as it is
+     */
+    static void warn(String message) {
+        if(isEnabled(WARN)) publish(WARN, message, 0, null, null, null);
+    }
+
+    /**
+     * Logs a warning with an argument
+     * @param format format of the warning
+     * @param a argument
+     */
+    static void warn(String format, Object a) {
+        if(isEnabled(WARN)) publish(WARN, format, 1, a, null, null);
+    }
+
+    /**
+     * Logs a warning with two arguments
+     * @param format format of the warning
+     * @param a first argument
+     * @param b second argument
+     */
+    static void warn(String format, Object a, Object b) {
+        if(isEnabled(WARN)) publish(WARN, format, 2, a, b, null);
+    }
+
+    /**
+     * Logs an error
+     * @param message the error, printed as it is
+     */
+    static void error(String message) {
+        if(isEnabled(ERROR)) publish(ERROR, message, 0, null, null, null);
+    }
+
+    /**
+     * Logs an error with an argument
+     * @param format format of the error
+     * @param a argument
+     */
+    static void error(String format, Object a) {
+        if(isEnabled(ERROR)) publish(ERROR, format, 1, a, null, null);
+    }
+
+    /**
+     * Logs an error with two arguments
+     * @param format format of the error
+     * @param a first argument
+     * @param b second argument
+     */
+    static void error(String format, Object a, Object b) {
+        if(isEnabled(ERROR)) publish(ERROR, format, 2, a, b, null);
+    }
+
+    /**
+     * Logs an error with three arguments
+     * @param format format of the error
+     * @param a first argument
+     * @param b second argument
+     * @param c third argument
+     */
+    static void error(String format, Object a, Object b, Object c) {
+        if(isEnabled(ERROR)) publish(ERROR, format, 3, a, b, c);
+    }
+
+    /**
+     * Claims a slot and publishes a message to the writer, or drops it if the ring is full
+     * @param level level of the message
+     * @param format format of the message
+     * @param count number of arguments
+     * @param a first argument
+     * @param b second argument
+     * @param c third argument
+     */
+    private static void publish(int level, String format, int count, Object a, Object b, Object c) {
+        long sequence;
+        do {
+            sequence = CLAIMED.get();
+            if(sequence - read >= CAPACITY) {
+                DROPPED.increment();
+                return;
+            }
+        } while(!CLAIMED.compareAndSet(sequence, sequence + 1));
+
+        Slot slot = RING[(int) sequence & MASK];
+        slot.level = level;
+        slot.time = System.currentTimeMillis();
+        slot.thread = Thread.currentThread().getName();
+        slot.format = format;
+        slot.count = count;
+        slot.a = a;
+        slot.b = b;
+        slot.c = c;
+        slot.published = sequence + 1;
+    }
+
+    /**
+     * Writer thread: prints published messages in order, flushing whenever it catches up
+     */
+    private static void write() {
+        boolean pending = false;
+        while(true) {
+            long next = read;
+            Slot slot = RING[(int) next & MASK];
+            if(slot.published != next + 1) {
+                if(pending) {
+                    System.out.flush();
+                    System.err.flush();
+                    pending = false;
+                }
+                reportDropped();
+                LockSupport.parkNanos(IDLE_NANOS);
+                continue;
+            }
+            print(slot);
+            slot.thread = null;
+            slot.format = null;
+            slot.a = null;
+            slot.b = null;
+            slot.c = null;
+            read = next + 1;
+            pending = true;
+        }
+    }
+
+    /**
+     * Prints how many messages were dropped since the last report, if any were
+     */
+    private static synchronized void reportDropped() {
+        long lost = DROPPED.sum();
+        if(lost > reported) {
+            System.err.println("Log writer fell behind, " + (lost - reported) + " messages dropped");
+            reported = lost;
+        }
+    }
+
+    /**
+     * Formats and prints a message
+     * @param slot slot holding the message
+     */
+    private static void print(Slot slot) {
+        String message;
+        try {
+            switch (slot.count) {
+                case 0: message = slot.format; break;
+                case 1: message = String.format(slot.format, slot.a); break;
+                case 2: message = String.format(slot.format, slot.a, slot.b); break;
+                default: message = String.format(slot.format, slot.a, slot.b, slot.c); break;
+            }
+        } catch (RuntimeException e) {
+            message = slot.format + " (could not be formatted: " + e + ")";
+        }
+        String time = LocalTime.ofInstant(Instant.ofEpochMilli(slot.time), ZoneId.systemDefault()).format(TIME);
+        PrintStream out = slot.level >= WARN ? System.err : System.out;
+        out.print(time + " " + LEVELS[slot.level].toUpperCase() + " [" + slot.thread + "] " + message + System.lineSeparator());
+    }
+
+    /**
+     * Waits, for at most a couple of seconds, until every message logged so far is printed
+     * Run on exit, so the last messages of a program are not lost with the writer thread
+     */
+    static void flush() {
+        long target = CLAIMED.get();
+        long deadline = System.nanoTime() + FLUSH_NANOS;
+        while(read < target && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(IDLE_NANOS / 10);
+        }
+        reportDropped();
+        System.out.flush();
+        System.err.flush();
+    }
+}
@@ -0,0 +1,240 @@
+/**
+ * Fixed size histogram with logarithmic buckets
+ *
+ * @author Dale Urquhart
+ * @since 2026-10-19
+ */
+
+package com.monopoly;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Counts values in buckets that are exact below 16 and then split each power of two into 16 buckets,
+ * so any quantile is within about 6% of the true value while memory stays the same no matter how much is recorded
+ * Negative values are counted in a mirrored set of buckets
+ * The smallest and largest values are kept exactly, and a quantile is clamped between them, so a bucket's middle never
+ * reports a value past any that was recorded
+ */
+final class LogHistogram {
+
+    /**
+     * Bits of a value kept below its highest bit, 16 buckets per power of two
+     */
+    private static final int SUB_BITS = 4;
+
+    /**
+     * Number of buckets per power of two
+     */
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+
+    /**
+     * Number of buckets for each sign, enough for any long
+     */
+    private static final int BUCKETS = (64 - SUB_BITS) * SUB_BUCKETS;
+
+    /**
+     * Counts of values 0 and up, indexed by bucket
+     */
+    private final long[] positives;
+
+    /**
+     * Counts of values below 0, indexed by the bucket of their magnitude
+     */
+    private final long[] negatives;
+
+    /**
+     * Number of values recorded
+     */
+    private long count;
+
+    /**
+     * Smallest value recorded, Long.MAX_VALUE while none has been
+     */
+    private long min = Long.MAX_VALUE;
+
+    /**
+     * Largest value recorded, Long.MIN_VALUE while none has been
+     */
+    private long max = Long.MIN_VALUE;
+
+    /**
+     * Constructor for an empty histogram
+     */
+    LogHistogram() {
+        positives = new long[BUCKETS];
+        negatives = new long[BUCKETS];
+    }
+
+    /**
+     * Gets the bucket of a magnitude
+     * @param magnitude value 0 and up
+     * @return index of the bucket
+     */
+    static int bucket(long magnitude) {
+        if(magnitude < SUB_BUCKETS) {
+            return (int) magnitude;
+        }
+        int exp = 63 - Long.numberOfLeadingZeros(magnitude);
+        int sub = (int) (magnitude >>> (exp - SUB_BITS)) & (SUB_BUCKETS - 1);
+        return (exp - SUB_BITS + 1) * SUB_BUCKETS + sub;
+    }
+
+    /**
+     * Gets the value a bucket stands for, the middle of its range
+     * @param bucket index of the bucket
+     * @return magnitude the bucket reports
+     */
+    static long value(int bucket) {
+        if(bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = bucket / SUB_BUCKETS - 1;
+        long lower = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << shift;
+        return lower + ((1L << shift) >> 1);
+    }
+
+    /**
+     * Records a value
+     * @param value value to record
+     */
+    void record(long value) {
+        if(value >= 0) {
+            positives[bucket(value)]++;
+        } else {
+            negatives[bucket(value == Long.MIN_VALUE ? Long.MAX_VALUE : -value)]++;
+        }
+        count++;
+        if(value < min) min = value;
+        if(value > max) max = value;
+    }
+
+    /**
+     * Adds another histogram's counts to this one
+     * @param other histogram to merge in
+     */
+    void merge(LogHistogram other) {
+        for(int i = 0; i < BUCKETS; i++) {
+            positives[i] += other.positives[i];
+            negatives[i] += other.negatives[i];
+        }
+        count += other.count;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    /**
+     * Empties the histogram so it can be reused
+     */
+    void clear() {
+        Arrays.fill(positives, 0);
+        Arrays.fill(negatives, 0);
+        count = 0;
+        min = Long.MAX_VALUE;
+        max = Long.MIN_VALUE;
+    }
+
+    /**
+     * Gets the number of values recorded
+     * @return number of values recorded
+     */
+    long getCount() {
+        return count;
+    }
+
+    /**
+     * Gets the value at a quantile
+     * @param q quantile between 0 and 1
+     * @return the value of the bucket holding the quantile, clamped to the values recorded, 0 when nothing was
+     */
+    long getQuantile(double q) {
+        long target = Math.max(1, (long) Math.ceil(q * count));
+        long seen = 0;
+        for(int i = BUCKETS - 1; i >= 0; i--) {
+            seen += negatives[i];
+            if(seen >= target) {
+                return clamp(-value(i));
+            }
+        }
+        for(int i = 0; i < BUCKETS; i++) {
+            seen += positives[i];
+            if(seen >= target) {
+                return clamp(value(i));
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Clamps a bucket's value to the smallest and largest values recorded
+     * @param value value of a bucket
+     * @return the value, no less than min and no more than max
+     */
+    private long clamp(long value) {
+        return Math.max(min, Math.min(max, value));
+    }
+
+    /**
+     * Writes the histogram to a checkpoint, only buckets that were used
+     * @param out stream to write to
+     * @throws IOException If the checkpoint can not be written
+     */
+    void write(DataOutputStream out) throws IOException {
+        out.writeLong(count);
+        out.writeLong(min);
+        out.writeLong(max);
+        writeBuckets(out, positives);
+        writeBuckets(out, negatives);
+    }
+
+    /**
+     * Writes the buckets with counts as (index, count) pairs
+     * @param out stream to write to
+     * @param counts buckets to write
+     * @throws IOException If the checkpoint can not be written
+     */
+    private static void writeBuckets(DataOutputStream out, long[] counts) throws IOException {
+        int used = 0;
+        for(long c : counts) if(c != 0) used++;
+        out.writeInt(used);
+        for(int i = 0; i < counts.length; i++) {
+            if(counts[i] != 0) {
+                out.writeShort(i);
+                out.writeLong(counts[i]);
+            }
+        }
+    }
+
+    /**
+     * Reads a histogram written by write()
+     * @param in stream to read from
+     * @return the histogram read
+     * @throws IOException If the checkpoint can not be read
+     */
+    static LogHistogram read(DataInputStream in) throws IOException {
+        LogHistogram histogram = new LogHistogram();
+        histogram.count = in.readLong();
+        histogram.min = in.readLong();
+        histogram.max = in.readLong();
+        readBuckets(in, histogram.positives);
+        readBuckets(in, histogram.negatives);
+        return histogram;
+    }
+
+    /**
+     * Reads buckets written by writeBuckets()
+     * @param in stream to read from
+     * @param counts buckets to fill
+     * @throws IOException If the checkpoint can not be read
+     */
+    private static void readBuckets(DataInputStream in, long[] counts) throws IOException {
+        int used = in.readInt();
+        for(int i = 0; i < used; i++) {
+            int bucket = in.readShort();
+            counts[bucket] = in.readLong();
+        }
+    }
+}
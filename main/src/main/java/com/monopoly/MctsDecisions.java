@@ -0,0 +1,458 @@
+/**
+ * Monte Carlo Tree Search bot
+ *
+ * @author Dale Urquhart
+ * @since 2026-10-19
+ */
+
+package com.monopoly;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+
+/**
+ * Decides buying, bidding, jail, building and raising cash by searching ahead over copies of the headless game
+ * Each rollout copies the game, replays the step that asked for the decision with the tree picking the answer,
+ * then plays a fixed number of turns with the rollout policy and scores the player's share of the table's net worth
+ * Search is root-parallel: each thread grows its own tree until the time budget runs out, and the root visit
+ * counts are summed to pick the answer. Unmortgaging, and decisions with a single option, are left to the policy
+ * With a transposition table, the position at the start of each turn a rollout plays after the first is looked up by
+ * its Zobrist hash, and once it has been played out often enough its mean reward ends the rollout there; the position
+ * right after the decision is not, as the hash ignores the dice to come and every rollout of an answer reaches it
+ * A rollout ended early has still played the decision and a turn of its own dice, so it counts as a visit, but only
+ * rollouts played to the horizon count as played out
+ * A budget of NO_DEADLINE plays exactly the rollouts asked for however long they take, so a search is reproducible
+ *
+ * Usage (plays the bot in seat 1 against greedy bots): java com.monopoly.MctsDecisions [--games N] [--millis M]
+ *                                                          [--iterations I] [--threads T] [--horizon H] [--seed S]
+ *                                                          [--table BITS]
+ */
+final class MctsDecisions implements DecisionProvider {
+
+    /**
+     * Playouts of a position before its mean reward is reused
+     */
+    static final int TRUSTED_VISITS = 32;
+
+    /**
+     * Time budget of a search stopped by its rollouts alone
+     */
+    static final long NO_DEADLINE = 0;
+
+    /**
+     * Time budget per decision in nanoseconds, NO_DEADLINE for none
+     */
+    private final long budget;
+
+    /**
+     * Rollouts per decision across every thread, 0 for as many as the budget allows
+     */
+    private final int iterations;
+
+    /**
+     * Number of search threads
+     */
+    private final int threads;
+
+    /**
+     * Turns played by each rollout after the decision
+     */
+    private final int horizon;
+
+    /**
+     * Policy of every player in a rollout once out of the tree, and for decisions that are not searched
+     */
+    private final DecisionProvider policy;
+
+    /**
+     * Source of the seeds of each search thread
+     */
+    private final Random seeds;
+
+    /**
+     * Search threads, created on the first search when there is more than one
+     */
+    private ExecutorService pool;
+
+    /**
+     * Rollouts played out to the horizon or the end of the game so far
+     */
+    private final LongAdder rollouts = new LongAdder();
+
+    /**
+     * Rewards of positions already reached by earlier rollouts, null to play every rollout out
+     */
+    private final TranspositionTable table;
+
+    /**
+     * Rollouts ended early by a reward from the table
+     */
+    private final LongAdder reused = new LongAdder();
+
+    /**
+     * Constructor for the bot
+     * @param budgetMillis time budget per decision, NO_DEADLINE to stop by the rollouts alone
+     * @param iterations rollouts per decision across every thread, 0 for as many as the budget allows
+     * @param threads number of search threads
+     * @param horizon turns played by each rollout after the decision
+     * @param seed seed of the search
+     * @param policy rollout policy
+     * @param table rewards of positions reached by rollouts, shared by every thread, null for none
+     */
+    MctsDecisions(long budgetMillis, int iterations, int threads, int horizon, long seed, DecisionProvider policy, TranspositionTable table) {
+        if(budgetMillis == NO_DEADLINE && iterations == 0) {
+            throw new IllegalArgumentException("A search needs a time budget or a number of rollouts");
+        }
+        this.budget = budgetMillis * 1_000_000L;
+        this.iterations = iterations;
+        this.threads = threads;
+        this.horizon = horizon;
+        this.seeds = new Random(seed);
+        this.policy = policy;
+        this.table = table;
+    }
+
+    /**
+     * Gets the number of rollouts played out so far, those ended early by the table not included
+     * @return rollouts played out
+     */
+    long getRollouts() {
+        return rollouts.sum();
+    }
+
+    /**
+     * Gets the number of rollouts ended early by a reward from the table
+     * @return rollouts not played out
+     */
+    long getReused() {
+        return reused.sum();
+    }
+
+    /**
+     * Searches a decision
+     * @param game the game being played, left untouched
+     * @param player player deciding
+     * @param kind kind of the decision, from SearchDecisions
+     * @param replay replays the step asking for the decision on a copy of the game, then finishes the turn
+     * @return the action visited most across every thread's root, SearchDecisions.NONE if none was tried
+     */
+    private int search(Game game, Player player, int kind, BiConsumer<Game, GameController> replay) {
+        long deadline = System.nanoTime() + budget;
+        int perThread = iterations == 0 ? Integer.MAX_VALUE : Math.max(1, iterations / threads);
+        List<SearchNode> roots = new ArrayList<>(threads);
+
+        if(threads == 1) {
+            roots.add(grow(game, player, replay, deadline, perThread, seeds.nextLong()));
+        } else {
+            List<Callable<SearchNode>> tasks = new ArrayList<>(threads);
+            for(int t = 0; t < threads; t++) {
+                long seed = seeds.nextLong();
+                tasks.add(() -> grow(game, player, replay, deadline, perThread, seed));
+            }
+            try {
+                for(Future<SearchNode> root : getPool().invokeAll(tasks)) {
+                    roots.add(root.get());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return SearchDecisions.NONE;
+            } catch (ExecutionException e) {
+                Log.warn("Search failed, the policy decides instead. Full message:\n%s", e.getCause());
+                return SearchDecisions.NONE;
+            }
+        }
+
+        // Sum the root visits of every thread's tree
+        List<Long> keys = new ArrayList<>();
+        List<Integer> visits = new ArrayList<>();
+        for(SearchNode root : roots) {
+            for(int i = 0; i < root.getChildCount(); i++) {
+                int index = keys.indexOf(root.getKey(i));
+                if(index < 0) {
+                    keys.add(root.getKey(i));
+                    visits.add(root.getChildAt(i).getVisits());
+                } else {
+                    visits.set(index, visits.get(index) + root.getChildAt(i).getVisits());
+                }
+            }
+        }
+        int best = SearchDecisions.NONE, most = -1;
+        for(int i = 0; i < keys.size(); i++) {
+            if(visits.get(i) > most && (int) (keys.get(i) >>> 32) == kind) {
+                most = visits.get(i);
+                best = (int) (long) keys.get(i);
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Grows one thread's tree until the deadline or its share of the rollouts
+     * @param game the game being played, only copied
+     * @param player player deciding
+     * @param replay replays the step asking for the decision, then finishes the turn
+     * @param deadline time to stop in nanoseconds, ignored without a budget
+     * @param count most rollouts to play
+     * @param seed seed of the thread's rollouts
+     * @return root of the tree
+     */
+    private SearchNode grow(Game game, Player player, BiConsumer<Game, GameController> replay, long deadline, int count, long seed) {
+        SearchNode root = new SearchNode();
+        Random rand = new Random(seed);
+        SearchDecisions walker = new SearchDecisions(policy, rand);
+        // Positions looked up by the rollout, each given the rollout's reward once it is known
+        long[] keys = new long[horizon];
+
+        for(int i = 0; i < count && (i == 0 || budget == NO_DEADLINE || System.nanoTime() - deadline < 0); i++) {
+            Game copy = game.copy(rand);
+            copy.setDecisions(policy);
+            for(Player p : copy.getPlayers()) {
+                p.setDecisions(null);
+            }
+            copy.getSeat(player.getID()).setDecisions(walker);
+            GameController controller = new GameController(copy);
+
+            walker.start(root);
+            replay.accept(copy, controller);
+
+            double reward = Double.NaN;
+            int looked = 0;
+            for(int turn = 0; turn < horizon && copy.getPlayerCount() > 1; turn++) {
+                // Reuse what earlier rollouts learnt about a position this one has reached by its own dice
+                if(table != null && turn > 0) {
+                    long key = copy.getHash().get() ^ ZobristHash.perspective(player.getID());
+                    long entry = table.get(key);
+                    if(TranspositionTable.getVisits(entry) >= TRUSTED_VISITS) {
+                        reward = TranspositionTable.getMean(entry);
+                        break;
+                    }
+                    keys[looked++] = key;
+                }
+                copy.playTurn(controller);
+            }
+            if(Double.isNaN(reward)) {
+                reward = evaluate(copy, player.getID());
+                rollouts.increment();
+            } else {
+                reused.increment();
+            }
+            for(int k = 0; k < looked; k++) {
+                table.add(keys[k], reward);
+            }
+            walker.backpropagate(reward);
+        }
+        return root;
+    }
+
+    /**
+     * Scores a rollout for a player
+     * @param game the game at the end of the rollout
+     * @param id ID of the player
+     * @return 1 for a win, 0 for bankruptcy, otherwise the player's share of the net worth of the players left
+     */
+    static double evaluate(Game game, int id) {
+        Player player = game.getSeat(id);
+        if(player == null) {
+            return 0;
+        }
+        if(game.getPlayerCount() == 1) {
+            return 1;
+        }
+        double total = 0;
+        for(Player p : game.getPlayers()) {
+            total += Math.max(0, p.getNetWorth());
+        }
+        return total == 0 ? 0 : Math.max(0, player.getNetWorth()) / total;
+    }
+
+    /**
+     * Gets the search threads, starting them on first use
+     * @return the thread pool
+     */
+    private synchronized ExecutorService getPool() {
+        if(pool == null) {
+            pool = Executors.newFixedThreadPool(threads, task -> {
+                Thread thread = new Thread(task, "mcts-search");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return pool;
+    }
+
+    /**
+     * Searches buying against letting the property go to auction
+     */
+    @Override
+    public boolean buyProperty(Game game, Player player, Property property, boolean liquidate) {
+        if(liquidate) {
+            return policy.buyProperty(game, player, property, liquidate);
+        }
+        int action = search(game, player, SearchDecisions.BUY, (copy, controller) -> {
+            controller.handleUnownedProperty();
+            copy.finishTurn();
+        });
+        return action == SearchDecisions.NONE ? policy.buyProperty(game, player, property, liquidate) : action == 1;
+    }
+
+    /**
+     * Searches raising the bid, taking a raise as winning the auction and a pass as losing it to the highest bidder
+     */
+    @Override
+    public int bid(Game game, Player bidder, Property property, int bid, Entity highestBidder) {
+        if(!bidder.canAfford(bid + BotDecisions.BID_STEP)) {
+            return bid;
+        }
+        int action = search(game, bidder, SearchDecisions.BID, (copy, controller) -> {
+            Player seat = copy.getSeat(bidder.getID());
+            Property p = (Property) copy.getSpace(property.getId());
+            int raised = seat.getDecisions().bid(copy, seat, p, bid, copy.getCopyOf(highestBidder));
+            if(raised > bid) {
+                seat.buy(p, raised, copy);
+            } else if(highestBidder instanceof Player) {
+                copy.getCopyOf(highestBidder).buy(p, bid, copy);
+            }
+            copy.finishTurn();
+        });
+        if(action == SearchDecisions.NONE) {
+            return policy.bid(game, bidder, property, bid, highestBidder);
+        }
+        return action == 1 ? bid + BotDecisions.BID_STEP : bid;
+    }
+
+    /**
+     * Searches selling to the highest bidder against keeping the property
+     */
+    @Override
+    public boolean acceptBid(Game game, Player owner, Property property, int bid, Player bidder) {
+        int action = search(game, owner, SearchDecisions.ACCEPT, (copy, controller) -> {
+            Player seat = copy.getSeat(owner.getID());
+            Property p = (Property) copy.getSpace(property.getId());
+            Entity buyer = copy.getCopyOf(bidder);
+            if(seat.getDecisions().acceptBid(copy, seat, p, bid, buyer instanceof Player ? (Player) buyer : null) && buyer instanceof Player) {
+                buyer.buy(p, bid, copy);
+            }
+            copy.finishTurn();
+        });
+        return action == SearchDecisions.NONE ? policy.acceptBid(game, owner, property, bid, bidder) : action == 1;
+    }
+
+    /**
+     * Searches the valid jail choices, playing out the rest of the turn each leads to
+     */
+    @Override
+    public int jailChoice(Game game, Player player, List<Integer> choices) {
+        if(choices.size() == 1) {
+            return choices.get(0);
+        }
+        int action = search(game, player, SearchDecisions.JAIL, (copy, controller) -> {
+            if(copy.continueFromJail(controller, controller.handleJailTurn())) {
+                copy.playRoll(controller);
+            }
+        });
+        return action == SearchDecisions.NONE ? policy.jailChoice(game, player, choices) : action;
+    }
+
+    /**
+     * Left to the policy, unmortgaging is decided part way through a transfer
+     */
+    @Override
+    public boolean unmortgage(Game game, Player player, Property property) {
+        return policy.unmortgage(game, player, property);
+    }
+
+    /**
+     * Searches each option and stopping, then lets the tree go on building before play passes on
+     */
+    @Override
+    public Property develop(Game game, Player player, List<Property> options) {
+        int action = search(game, player, SearchDecisions.DEVELOP, (copy, controller) -> copy.finishTurn());
+        if(action == SearchDecisions.NONE) {
+            return policy.develop(game, player, options);
+        }
+        return action == options.size() ? null : options.get(action);
+    }
+
+    /**
+     * Searches each option, then pays the amount to the bank as a stand-in for whoever is owed, since every option
+     * pays the same
+     */
+    @Override
+    public Property liquidate(Game game, Player player, List<Property> options, int required) {
+        if(options.size() == 1) {
+            return options.get(0);
+        }
+        int action = search(game, player, SearchDecisions.LIQUIDATE, (copy, controller) -> {
+            Player seat = copy.getSeat(player.getID());
+            if(seat.liquidate(required, copy)) {
+                seat.pay(copy.getBanker(), required, Ledger.DEBT);
+            } else {
+                copy.bankrupt(seat, copy.getBanker(), Game.BANKRUPT_RENT);
+            }
+            copy.finishTurn();
+        });
+        return action == SearchDecisions.NONE ? policy.liquidate(game, player, options, required) : options.get(action);
+    }
+
+    /**
+     * Main method, plays the bot against greedy bots and reports its win rate and search speed
+     * @param args cmd line inputs
+     */
+    public static void main(String[] args) {
+        int games = 20;
+        long millis = 50;
+        int iterations = 0;
+        int threads = Runtime.getRuntime().availableProcessors();
+        int horizon = 40;
+        long seed = System.nanoTime();
+        int tableBits = 0;
+
+        for(int i = 0; i < args.length; i += 2) {
+            if(i + 1 == args.length) {
+                throw new IllegalArgumentException("Missing value for " + args[i]);
+            }
+            switch (args[i]) {
+                case "--games":      games = Integer.parseInt(args[i + 1]); break;
+                case "--millis":     millis = Long.parseLong(args[i + 1]); break;
+                case "--iterations": iterations = Integer.parseInt(args[i + 1]); break;
+                case "--threads":    threads = Integer.parseInt(args[i + 1]); break;
+                case "--horizon":    horizon = Integer.parseInt(args[i + 1]); break;
+                case "--seed":       seed = Long.parseLong(args[i + 1]); break;
+                case "--table":      tableBits = Integer.parseInt(args[i + 1]); break;
+                default: throw new IllegalArgumentException("Unknown option " + args[i]);
+            }
+        }
+
+        MctsDecisions bot = new MctsDecisions(millis, iterations, threads, horizon, seed, BotDecisions.greedy(),
+                tableBits == 0 ? null : new TranspositionTable(tableBits));
+        int wins = 0, finished = 0;
+        long start = System.nanoTime();
+        for(int g = 0; g < games; g++) {
+            Game game = Game.headless(new Random(Simulator.seedFor(seed, g)), GameRules.STANDARD, 4);
+            GameController controller = new GameController(game);
+            game.getPlayer(0).setDecisions(bot);
+
+            while(game.getPlayerCount() > 1 && game.getTurnsPlayed() < 1000) {
+                game.playTurn(controller);
+            }
+            if(game.getPlayerCount() == 1) {
+                finished++;
+                if(game.getPlayer(0).getID() == 0) wins++;
+            }
+            System.out.printf("Game %d: %s after %d turns%n", g + 1, game.getPlayerCount() == 1
+                    ? game.getPlayer(0).getName() + " won" : "no winner", game.getTurnsPlayed());
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("Search bot won %d of %d games (%d finished), %d rollouts played out at %.0f rollouts/s, "
+                + "%d more ended early by the table%n",
+                wins, games, finished, bot.getRollouts(), bot.getRollouts() / seconds, bot.getReused());
+    }
+}
@@ -0,0 +1,440 @@
+/**
+ * Registry of the process's metrics
+ *
+ * @author Dale Urquhart
+ * @since 2026-10-19
+ */
+
+package com.monopoly;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.DoubleSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Counters, gauges and fixed-bucket latency histograms, written out in the Prometheus text exposition format
+ * Counters and histogram buckets are LongAdders, striped cells that threads update without contending, so recording
+ * from every simulation worker costs about as much as an increment; a gauge is read only when scraped
+ * A metric is a family name with an optional label (phase="Roll", say), registering the same name and label again
+ * returns the metric already registered, so classes keep theirs in static fields
+ * Latencies are only timed while the registry is enabled (a scrape endpoint is up), so a headless turn pays for no
+ * clock reads otherwise
+ */
+final class Metrics {
+
+    /**
+     * Registry of the process, the one MetricsServer serves
+     */
+    static final Metrics DEFAULT = new Metrics();
+
+    /**
+     * Type of a counter
+     */
+    private static final String COUNTER = "counter";
+
+    /**
+     * Type of a gauge
+     */
+    private static final String GAUGE = "gauge";
+
+    /**
+     * Type of a histogram
+     */
+    private static final String HISTOGRAM = "histogram";
+
+    /**
+     * Families by name, in the order they were registered
+     */
+    private final Map<String, Family> families = new ConcurrentHashMap<>();
+
+    /**
+     * Names of the families in the order they were registered
+     */
+    private final List<String> order = new ArrayList<>();
+
+    /**
+     * Whether latencies are timed
+     */
+    private volatile boolean enabled;
+
+    /**
+     * Turns timing latencies on or off
+     * @param enabled whether latencies are timed
+     */
+    void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Checks whether latencies are timed
+     * @return true if they are
+     */
+    boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Starts timing something, if latencies are timed
+     * @return the time in nanoseconds, or 0 if latencies are not timed
+     */
+    long start() {
+        return enabled ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Gets or registers a counter
+     * @param name name of the counter, ending in _total
+     * @param help what it counts
+     * @return the counter
+     */
+    Counter counter(String name, String help) {
+        return (Counter) family(name, help, COUNTER).child(null, null, () -> new Counter());
+    }
+
+    /**
+     * Gets or registers a gauge, or points a registered one at a new value
+     * @param name name of the gauge
+     * @param help what it measures
+     * @param value read when scraped
+     * @return the gauge
+     */
+    Gauge gauge(String name, String help, DoubleSupplier value) {
+        Gauge gauge = (Gauge) family(name, help, GAUGE).child(null, null, () -> new Gauge());
+        gauge.value = value;
+        return gauge;
+    }
+
+    /**
+     * Gets or registers a histogram
+     * @param name name of the histogram, ending in the unit it counts (_seconds)
+     * @param help what it measures
+     * @param label name of the label telling the family's histograms apart, null for none
+     * @param value value of the label
+     * @param bounds upper bounds of the buckets, increasing, in seconds; a bucket above the last is added
+     * @return the histogram
+     */
+    Histogram histogram(String name, String help, String label, String value, double... bounds) {
+        return (Histogram) family(name, help, HISTOGRAM).child(label, value, () -> new Histogram(this, bounds));
+    }
+
+    /**
+     * Gets or registers a family
+     * @param name name of the family
+     * @param help what it measures
+     * @param type counter, gauge or histogram
+     * @return the family
+     */
+    private Family family(String name, String help, String type) {
+        Family family = families.get(name);
+        if(family == null) {
+            synchronized(order) {
+                family = families.get(name);
+                if(family == null) {
+                    family = new Family(name, help, type);
+                    families.put(name, family);
+                    order.add(name);
+                }
+            }
+        }
+        if(!family.type.equals(type)) {
+            throw new IllegalArgumentException("Metric " + name + " is a " + family.type + ", not a " + type);
+        }
+        return family;
+    }
+
+    /**
+     * Writes every metric in the text exposition format
+     * @return the metrics, a line per value
+     */
+    String scrape() {
+        StringBuilder out = new StringBuilder();
+        List<String> names;
+        synchronized(order) {
+            names = new ArrayList<>(order);
+        }
+        for(String name : names) {
+            families.get(name).write(out);
+        }
+        return out.toString();
+    }
+
+    /**
+     * Formats a number the way the exposition format reads it
+     * @param value the number
+     * @return the number, whole numbers without a fraction
+     */
+    static String format(double value) {
+        if(Double.isInfinite(value)) return value > 0 ? "+Inf" : "-Inf";
+        if(value == Math.rint(value) && Math.abs(value) < 1e15) return Long.toString((long) value);
+        return BigDecimal.valueOf(value).toPlainString();
+    }
+
+    /**
+     * A metric family: a name, its help and type, and its metrics by label value
+     */
+    private static final class Family {
+
+        /**
+         * Name of the family
+         */
+        private final String name;
+
+        /**
+         * What the family measures
+         */
+        private final String help;
+
+        /**
+         * Type of the family's metrics
+         */
+        private final String type;
+
+        /**
+         * Metrics by their label, "" for the one without
+         */
+        private final Map<String, Metric> children = new ConcurrentHashMap<>();
+
+        /**
+         * Labels of the metrics in the order they were registered
+         */
+        private final List<String> labels = new ArrayList<>();
+
+        /**
+         * Constructor for a family without metrics
+         * @param name name of the family
+         * @param help what the family measures
+         * @param type type of the family's metrics
+         */
+        private Family(String name, String help, String type) {
+            this.name = name;
+            this.help = help;
+            this.type = type;
+        }
+
+        /**
+         * Gets or registers a metric of the family
+         * @param label name of the label, null for none
+         * @param value value of the label
+         * @param create makes the metric if it is not registered
+         * @return the metric
+         */
+        private Metric child(String label, String value, Supplier<Metric> create) {
+            String key = label == null ? "" : label + "=\"" + value + "\"";
+            Metric metric = children.get(key);
+            if(metric == null) {
+                synchronized(labels) {
+                    metric = children.get(key);
+                    if(metric == null) {
+                        metric = create.get();
+                        children.put(key, metric);
+                        labels.add(key);
+                    }
+                }
+            }
+            return metric;
+        }
+
+        /**
+         * Writes the family's help, type and metrics
+         * @param out where to write
+         */
+        private void write(StringBuilder out) {
+            out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+            out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+            List<String> keys;
+            synchronized(labels) {
+                keys = new ArrayList<>(labels);
+            }
+            for(String key : keys) {
+                children.get(key).write(name, key, out);
+            }
+        }
+    }
+
+    /**
+     * A metric that can write itself out
+     */
+    private abstract static class Metric {
+
+        /**
+         * Writes the metric's lines
+         * @param name name of the family
+         * @param label label of the metric, "" for none
+         * @param out where to write
+         */
+        abstract void write(String name, String label, StringBuilder out);
+    }
+
+    /**
+     * A count that only goes up
+     */
+    static final class Counter extends Metric {
+
+        /**
+         * The count, striped across threads
+         */
+        private final LongAdder count = new LongAdder();
+
+        /**
+         * Counts one
+         */
+        void increment() {
+            count.increment();
+        }
+
+        /**
+         * Counts several
+         * @param amount number to count, not negative
+         */
+        void add(long amount) {
+            count.add(amount);
+        }
+
+        /**
+         * Gets the count
+         * @return the count
+         */
+        long get() {
+            return count.sum();
+        }
+
+        @Override
+        void write(String name, String label, StringBuilder out) {
+            out.append(name);
+            if(!label.isEmpty()) out.append('{').append(label).append('}');
+            out.append(' ').append(get()).append('\n');
+        }
+    }
+
+    /**
+     * A value read when scraped
+     */
+    static final class Gauge extends Metric {
+
+        /**
+         * Supplier of the value
+         */
+        private volatile DoubleSupplier value;
+
+        /**
+         * Gets the value
+         * @return the value
+         */
+        double get() {
+            return value.getAsDouble();
+        }
+
+        @Override
+        void write(String name, String label, StringBuilder out) {
+            out.append(name);
+            if(!label.isEmpty()) out.append('{').append(label).append('}');
+            out.append(' ').append(format(get())).append('\n');
+        }
+    }
+
+    /**
+     * Latencies counted in fixed buckets, with their count and sum
+     */
+    static final class Histogram extends Metric {
+
+        /**
+         * Registry, whose switch says whether to time
+         */
+        private final Metrics registry;
+
+        /**
+         * Upper bounds of the buckets in nanoseconds, the last bucket has none
+         */
+        private final long[] bounds;
+
+        /**
+         * Upper bounds of the buckets in seconds, as written
+         */
+        private final double[] seconds;
+
+        /**
+         * Counts per bucket, not cumulative, the last for latencies above every bound
+         */
+        private final LongAdder[] buckets;
+
+        /**
+         * Sum of the latencies in nanoseconds
+         */
+        private final LongAdder sum = new LongAdder();
+
+        /**
+         * Constructor for an empty histogram
+         * @param registry registry whose switch says whether to time
+         * @param bounds upper bounds of the buckets, increasing, in seconds
+         */
+        private Histogram(Metrics registry, double[] bounds) {
+            this.registry = registry;
+            this.seconds = bounds.clone();
+            this.bounds = new long[bounds.length];
+            for(int i = 0; i < bounds.length; i++) {
+                if(i > 0 && bounds[i] <= bounds[i - 1]) {
+                    throw new IllegalArgumentException("Histogram bounds must increase");
+                }
+                this.bounds[i] = (long) (bounds[i] * 1e9);
+            }
+            buckets = new LongAdder[bounds.length + 1];
+            for(int i = 0; i < buckets.length; i++) {
+                buckets[i] = new LongAdder();
+            }
+        }
+
+        /**
+         * Records a latency
+         * @param nanos the latency in nanoseconds
+         */
+        void record(long nanos) {
+            int bucket = 0;
+            while(bucket < bounds.length && nanos > bounds[bucket]) {
+                bucket++;
+            }
+            buckets[bucket].increment();
+            sum.add(nanos);
+        }
+
+        /**
+         * Records the time since a start from Metrics.start, if it was timed
+         * @param start start in nanoseconds, 0 if not timed
+         */
+        void since(long start) {
+            if(start != 0 && registry.isEnabled()) {
+                record(System.nanoTime() - start);
+            }
+        }
+
+        /**
+         * Gets the number of latencies recorded
+         * @return the count
+         */
+        long getCount() {
+            long count = 0;
+            for(LongAdder bucket : buckets) {
+                count += bucket.sum();
+            }
+            return count;
+        }
+
+        @Override
+        void write(String name, String label, StringBuilder out) {
+            String prefix = label.isEmpty() ? "{" : "{" + label + ",";
+            long cumulative = 0;
+            for(int i = 0; i < buckets.length; i++) {
+                cumulative += buckets[i].sum();
+                out.append(name).append("_bucket").append(prefix).append("le=\"")
+                    .append(i < seconds.length ? format(seconds[i]) : "+Inf").append("\"} ").append(cumulative).append('\n');
+            }
+            String suffix = label.isEmpty() ? "" : "{" + label + "}";
+            out.append(name).append("_sum").append(suffix).append(' ').append(format(sum.sum() / 1e9)).append('\n');
+            out.append(name).append("_count").append(suffix).append(' ').append(cumulative).append('\n');
+        }
+    }
+}
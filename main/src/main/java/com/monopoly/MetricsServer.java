@@ -0,0 +1,117 @@
+/**
+ * Scrape endpoint of the metrics
+ *
+ * @author Dale Urquhart
+ * @since 2026-10-19
+ */
+
+package com.monopoly;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Serves a Metrics registry at /metrics on the loopback interface, in the Prometheus text exposition format
+ * Starting it turns on the registry's latency timing, stopping it turns it off again
+ * Scrapes are answered on a single daemon thread, so a slow scraper never holds up a game
+ *
+ *     curl http://localhost:9404/metrics
+ */
+final class MetricsServer {
+
+    /**
+     * Path the metrics are served at
+     */
+    static final String PATH = "/metrics";
+
+    /**
+     * Content type of the text exposition format
+     */
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    /**
+     * Registry served
+     */
+    private final Metrics metrics;
+
+    /**
+     * Server answering scrapes
+     */
+    private final HttpServer server;
+
+    /**
+     * Constructor for a server, not yet listening
+     * @param metrics registry to serve
+     * @param port port to listen on, 0 for any free port
+     * @throws IOException If the port can not be bound
+     */
+    MetricsServer(Metrics metrics, int port) throws IOException {
+        this.metrics = metrics;
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        server.createContext(PATH, this::scrape);
+        server.setExecutor(Executors.newSingleThreadExecutor(task -> {
+            Thread thread = new Thread(task, "metrics-server");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    /**
+     * Starts answering scrapes and timing latencies
+     */
+    void start() {
+        metrics.setEnabled(true);
+        server.start();
+    }
+
+    /**
+     * Stops answering scrapes and timing latencies
+     */
+    void stop() {
+        server.stop(0);
+        metrics.setEnabled(false);
+    }
+
+    /**
+     * Gets the port the server listens on
+     * @return the port
+     */
+    int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Answers a scrape with every metric, or 405 for anything but GET and HEAD
+     * @param exchange the request
+     * @throws IOException If the answer can not be sent
+     */
+    private void scrape(HttpExchange exchange) throws IOException {
+        try {
+            String method = exchange.getRequestMethod();
+            if(!method.equals("GET") && !method.equals("HEAD")) {
+                exchange.getResponseHeaders().set("Allow", "GET, HEAD");
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            byte[] body = metrics.scrape().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            if(method.equals("HEAD")) {
+                exchange.sendResponseHeaders(200, -1);
+                return;
+            }
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+}
@@ -0,0 +1,154 @@
+/**
+ * Running mean and variance
+ *
+ * @author Dale Urquhart
+ * @since 2026-10-19
+ */
+
+package com.monopoly;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * Count, mean, variance, minimum and maximum of a stream of values, kept without storing the values
+ * Two sets of moments merge into the moments of both streams (Chan et al.)
+ */
+final class Moments {
+
+    /**
+     * Number of values added
+     */
+    private long count;
+
+    /**
+     * Mean of the values
+     */
+    private double mean;
+
+    /**
+     * Sum of squared distances from the mean
+     */
+    private double m2;
+
+    /**
+     * Smallest value added
+     */
+    private double min = Double.POSITIVE_INFINITY;
+
+    /**
+     * Largest value added
+     */
+    private double max = Double.NEGATIVE_INFINITY;
+
+    /**
+     * Adds a value (Welford's method)
+     * @param value value to add
+     */
+    void add(double value) {
+        count++;
+        double delta = value - mean;
+        mean += delta / count;
+        m2 += delta * (value - mean);
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    /**
+     * Adds another set of moments to these
+     * @param other moments to merge in
+     */
+    void merge(Moments other) {
+        if(other.count == 0) {
+            return;
+        }
+        long total = count + other.count;
+        double delta = other.mean - mean;
+        mean += delta * other.count / total;
+        m2 += other.m2 + delta * delta * ((double) count * other.count / total);
+        count = total;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    /**
+     * Empties the moments so they can be reused
+     */
+    void clear() {
+        count = 0;
+        mean = 0;
+        m2 = 0;
+        min = Double.POSITIVE_INFINITY;
+        max = Double.NEGATIVE_INFINITY;
+    }
+
+    /**
+     * Gets the number of values added
+     * @return number of values
+     */
+    long getCount() {
+        return count;
+    }
+
+    /**
+     * Gets the mean
+     * @return mean of the values, 0 when empty
+     */
+    double getMean() {
+        return mean;
+    }
+
+    /**
+     * Gets the sample standard deviation
+     * @return standard deviation of the values, 0 with fewer than two values
+     */
+    double getStandardDeviation() {
+        return count < 2 ? 0 : Math.sqrt(m2 / (count - 1));
+    }
+
+    /**
+     * Gets the smallest value
+     * @return smallest value added
+     */
+    double getMin() {
+        return min;
+    }
+
+    /**
+     * Gets the largest value
+     * @return largest value added
+     */
+    double getMax() {
+        return max;
+    }
+
+    /**
+     * Writes the moments to a checkpoint
+     * @param out stream to write to
+     * @throws IOException If the checkpoint can not be written
+     */
+    void write(DataOutputStream out) throws IOException {
+        out.writeLong(count);
+        out.writeDouble(mean);
+        out.writeDouble(m2);
+        out.writeDouble(min);
+        out.writeDouble(max);
+    }
+
+    /**
+     * Reads moments written by write()
+     * @param in stream to read from
+     * @return the moments read
+     * @throws IOException If the checkpoint can not be read
+     */
+    static Moments read(DataInputStream in) throws IOException {
+        Moments moments = new Moments();
+        moments.count = in.readLong();
+        moments.mean = in.readDouble();
+        moments.m2 = in.readDouble();
+        moments.min = in.readDouble();
+        moments.max = in.readDouble();
+        return moments;
+    }
+}
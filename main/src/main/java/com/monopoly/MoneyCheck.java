@@ -0,0 +1,156 @@
+/**
+ * Check that a game's balances match its ledger
+ *
+ * @author Dale Urquhart
+ * @since 2026-10-19
+ */
+
+package com.monopoly;
+
+import java.util.Arrays;
+
+/**
+ * Reconciles every balance in a game, the bank's included, with the postings of the game's ledger at the end of every
+ * phase of a turn
+ * The ledger tells the check of each posting, and the check keeps its own balance of every account from them, in
+ * longs, starting from the balances the game started with. A balance moved other than by a posting (adjustBalance
+ * called directly, a balance copied or set), or an int balance wrapping past Integer.MAX_VALUE where the long does not,
+ * no longer matches. The first one is reported with the account, how far off it is and the last posting to it; the
+ * account is then taken at its balance, so later differences are counted but not reported
+ * A player leaving the game is no longer checked, whatever balance they leave with
+ * Each posting is two additions and each check a comparison per account, so it can stay on for long soak runs
+ */
+final class MoneyCheck {
+
+    /**
+     * Balance the postings give each account, indexed by Ledger account
+     */
+    private long[] expected;
+
+    /**
+     * Index of the last posting to or from each account, -1 for none, indexed by Ledger account
+     */
+    private long[] last;
+
+    /**
+     * Number of postings seen
+     */
+    private long postings;
+
+    /**
+     * Number of checks that found a difference
+     */
+    private long violations;
+
+    /**
+     * Description of the first difference found, null while there has been none
+     */
+    private String firstViolation;
+
+    /**
+     * Starts checking a game, from the balances its bank and players hold now
+     * @param game the game
+     */
+    MoneyCheck(Game game) {
+        expected = new long[game.getPlayers().size() + 1];
+        last = new long[expected.length];
+        add(game.getBanker());
+        for(Player p : game.getPlayers()) {
+            add(p);
+        }
+    }
+
+    /**
+     * Opens an entity's account at its balance, for a player joining
+     * @param entity the entity
+     */
+    void add(Entity entity) {
+        int account = Ledger.account(entity);
+        if(account >= expected.length) {
+            expected = Arrays.copyOf(expected, account + 1);
+            last = Arrays.copyOf(last, account + 1);
+        }
+        expected[account] = entity.getBalance();
+        last[account] = -1;
+    }
+
+    /**
+     * Records a posting, called by the ledger once it has moved the balances
+     * @param from entity paying
+     * @param to entity paid
+     * @param amount amount paid
+     */
+    void posted(Entity from, Entity to, int amount) {
+        int payer = Ledger.account(from), payee = Ledger.account(to);
+        expected[payer] -= amount;
+        expected[payee] += amount;
+        last[payer] = postings;
+        last[payee] = postings;
+        postings++;
+    }
+
+    /**
+     * Checks that every balance still in the game is what its postings give, reporting the first difference found
+     * @param game the game
+     * @param phase phase of the turn just finished, one of the GameEvents.PHASE names
+     * @return true if every balance matches
+     */
+    boolean check(Game game, String phase) {
+        boolean matched = check(game, phase, game.getBanker());
+        for(Player p : game.getPlayers()) {
+            matched &= check(game, phase, p);
+        }
+        if(!matched) violations++;
+        return matched;
+    }
+
+    /**
+     * Checks one balance against its postings
+     * @param game the game
+     * @param phase phase of the turn just finished
+     * @param entity entity whose balance is checked
+     * @return true if the balance matches
+     */
+    private boolean check(Game game, String phase, Entity entity) {
+        int account = Ledger.account(entity);
+        if(entity.getBalance() == expected[account]) {
+            return true;
+        }
+        if(firstViolation == null) {
+            Player current = game.getCurrentPlayer();
+            firstViolation = String.format("Balance of %s does not match the ledger after the %s phase of turn %d "
+                    + "(%s on %s): %d against %d posted, off by %d, last posting to the account #%d of %d",
+                    entity.getName(), phase, game.getTurnsPlayed(), current.getName(), current.getLocation().getName(),
+                    entity.getBalance(), expected[account], entity.getBalance() - expected[account], last[account],
+                    postings);
+            Log.error(firstViolation);
+        }
+        // Check the rest of the game from here
+        expected[account] = entity.getBalance();
+        return false;
+    }
+
+    /**
+     * Gets the number of postings seen
+     * @return postings
+     */
+    long getPostings() {
+        return postings;
+    }
+
+    /**
+     * Gets the number of checks that found a difference
+     * @return violations
+     */
+    long getViolations() {
+        return violations;
+    }
+
+    /**
+     * Gets the first difference found
+     * @return its description, null if every balance has always matched
+     */
+    String getFirstViolation() {
+        return firstViolation;
+    }
+}
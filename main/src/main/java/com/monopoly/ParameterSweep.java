@@ -0,0 +1,314 @@
+/**
+ * Sweeps of the house rules
+ *
+ * @author Dale Urquhart
+ * @since 2026-10-19
+ */
+
+package com.monopoly;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Runs the batch simulator once per point of a parameter space of house rules (bail, Go reward, starting balance and
+ * mortgage interest) and writes one CSV row of outcome metrics per point: game length, games hitting the turn cap,
+ * win rate by seat, the spread between the best and worst seat, and bankruptcies by cause
+ * Each parameter is a comma separated list of values or a lo:hi range. Without --random the points are the grid of
+ * every combination, a range counting as --steps evenly spaced values; with --random N, N points are drawn with each
+ * parameter picked uniformly from its list or range
+ * Every point is played on the same game seeds, so differences between rows come from the rules rather than the dice
+ *
+ * Usage (from src/main/java, like App): java com.monopoly.ParameterSweep [--bail SPEC] [--go SPEC] [--start SPEC]
+ *              [--interest SPEC] [--steps K] [--random N] [--games N] [--players P] [--threads T] [--seed S]
+ *              [--max-turns N] [--out FILE]
+ */
+public final class ParameterSweep {
+
+    /**
+     * Parameter: bail amount
+     */
+    static final int BAIL = 0;
+
+    /**
+     * Parameter: reward for passing Go
+     */
+    static final int GO_REWARD = 1;
+
+    /**
+     * Parameter: starting balance
+     */
+    static final int STARTING_BALANCE = 2;
+
+    /**
+     * Parameter: mortgage interest
+     */
+    static final int MORTGAGE_INTEREST = 3;
+
+    /**
+     * CSV names of the parameters, indexed by parameter
+     */
+    static final String[] PARAMETERS = {"bail", "go_reward", "starting_balance", "mortgage_interest"};
+
+    /**
+     * Games per point
+     */
+    private final long games;
+
+    /**
+     * Number of players per game
+     */
+    private final int players;
+
+    /**
+     * Number of worker threads
+     */
+    private final int threads;
+
+    /**
+     * Master seed shared by every point
+     */
+    private final long seed;
+
+    /**
+     * Turn cap for a single game
+     */
+    private final int maxTurns;
+
+    /**
+     * Constructor for a sweep
+     * @param games games per point
+     * @param players number of players per game
+     * @param threads number of worker threads
+     * @param seed master seed shared by every point
+     * @param maxTurns turn cap for a single game
+     */
+    ParameterSweep(long games, int players, int threads, long seed, int maxTurns) {
+        this.games = games;
+        this.players = players;
+        this.threads = threads;
+        this.seed = seed;
+        this.maxTurns = maxTurns;
+    }
+
+    /**
+     * Parses a parameter's values for a grid
+     * @param spec comma separated values or a lo:hi range
+     * @param steps values a range is split into
+     * @return the values
+     */
+    static double[] grid(String spec, int steps) {
+        String[] range = spec.split(":");
+        if(range.length == 2) {
+            double lo = Double.parseDouble(range[0]), hi = Double.parseDouble(range[1]);
+            double[] values = new double[Math.max(1, steps)];
+            for(int i = 0; i < values.length; i++) {
+                values[i] = values.length == 1 ? lo : lo + (hi - lo) * i / (values.length - 1);
+            }
+            return values;
+        }
+        String[] parts = spec.split(",");
+        double[] values = new double[parts.length];
+        for(int i = 0; i < parts.length; i++) {
+            values[i] = Double.parseDouble(parts[i].trim());
+        }
+        return values;
+    }
+
+    /**
+     * Draws a parameter's value for a random point
+     * @param spec comma separated values or a lo:hi range
+     * @param rand random source of the draw
+     * @return the value
+     */
+    static double draw(String spec, Random rand) {
+        String[] range = spec.split(":");
+        if(range.length == 2) {
+            double lo = Double.parseDouble(range[0]), hi = Double.parseDouble(range[1]);
+            return lo + (hi - lo) * rand.nextDouble();
+        }
+        double[] values = grid(spec, 1);
+        return values[rand.nextInt(values.length)];
+    }
+
+    /**
+     * Lists the points of a sweep
+     * @param specs value spec of each parameter
+     * @param steps values a range is split into on a grid
+     * @param random number of random points, 0 for the grid
+     * @param rand random source of the random points
+     * @return each point's parameter values
+     */
+    static List<double[]> points(String[] specs, int steps, int random, Random rand) {
+        List<double[]> points = new ArrayList<>();
+        if(random > 0) {
+            for(int i = 0; i < random; i++) {
+                double[] point = new double[specs.length];
+                for(int p = 0; p < specs.length; p++) {
+                    point[p] = draw(specs[p], rand);
+                }
+                points.add(point);
+            }
+            return points;
+        }
+        double[][] values = new double[specs.length][];
+        int total = 1;
+        for(int p = 0; p < specs.length; p++) {
+            values[p] = grid(specs[p], steps);
+            total *= values[p].length;
+        }
+        for(int i = 0; i < total; i++) {
+            double[] point = new double[specs.length];
+            int rest = i;
+            for(int p = specs.length - 1; p >= 0; p--) {
+                point[p] = values[p][rest % values[p].length];
+                rest /= values[p].length;
+            }
+            points.add(point);
+        }
+        return points;
+    }
+
+    /**
+     * Gets the rules of a point, rounding the money amounts to whole dollars
+     * @param point the point's parameter values
+     * @return the rules
+     */
+    static GameRules rules(double[] point) {
+        return new GameRules((int) Math.round(point[BAIL]), (int) Math.round(point[GO_REWARD]),
+                (int) Math.round(point[STARTING_BALANCE]), point[MORTGAGE_INTEREST]);
+    }
+
+    /**
+     * Simulates one point
+     * @param rules the point's rules
+     * @return statistics of the point's games
+     */
+    SimulationStats simulate(GameRules rules) {
+        Simulator simulator = new Simulator(games, players, threads, seed, maxTurns, 256);
+        simulator.setRules(rules);
+        return simulator.run();
+    }
+
+    /**
+     * Gets the CSV header
+     * @return the header line
+     */
+    String header() {
+        StringBuilder line = new StringBuilder(String.join(",", PARAMETERS));
+        line.append(",games,mean_turns,median_turns,p99_turns,capped_pct");
+        for(int seat = 0; seat < players; seat++) {
+            line.append(",win_").append(seat + 1);
+        }
+        line.append(",seat_spread");
+        for(String cause : Game.BANKRUPTCY_CAUSES) {
+            line.append(",bankrupt_").append(cause.toLowerCase());
+        }
+        return line.toString();
+    }
+
+    /**
+     * Gets the CSV row of a point
+     * @param rules the point's rules
+     * @param stats statistics of the point's games
+     * @return the row
+     */
+    static String row(GameRules rules, SimulationStats stats) {
+        StringBuilder line = new StringBuilder();
+        line.append(rules.getBail()).append(',').append(rules.getGoReward()).append(',')
+                .append(rules.getStartingBalance()).append(',')
+                .append(String.format("%.4f", rules.getMortgageInterest()));
+        line.append(',').append(stats.getGames())
+                .append(',').append(String.format("%.2f", stats.getTurnMoments().getMean()))
+                .append(',').append(stats.getTurns().getQuantile(0.5))
+                .append(',').append(stats.getTurns().getQuantile(0.99))
+                .append(',').append(String.format("%.2f", stats.getGames() == 0 ? 0 : 100.0 * stats.getUnfinished() / stats.getGames()));
+        double best = 0, worst = 1;
+        for(int seat = 0; seat < stats.getSeats(); seat++) {
+            double rate = stats.getWinRate(seat);
+            line.append(',').append(String.format("%.4f", rate));
+            best = Math.max(best, rate);
+            worst = Math.min(worst, rate);
+        }
+        line.append(',').append(String.format("%.4f", best - worst));
+        for(int cause = 0; cause < Game.BANKRUPTCY_CAUSES.length; cause++) {
+            line.append(',').append(stats.getBankruptcies(cause));
+        }
+        return line.toString();
+    }
+
+    /**
+     * Simulates every point, writing a row as each finishes
+     * @param points each point's parameter values
+     * @param out where the CSV goes
+     * @throws IOException If the CSV can not be written
+     */
+    void run(List<double[]> points, Writer out) throws IOException {
+        out.write(header());
+        out.write('\n');
+        for(int i = 0; i < points.size(); i++) {
+            GameRules rules = rules(points.get(i));
+            long start = System.nanoTime();
+            out.write(row(rules, simulate(rules)));
+            out.write('\n');
+            out.flush();
+            System.err.printf("Point %d/%d (%s) in %.2fs%n", i + 1, points.size(), rules, (System.nanoTime() - start) / 1e9);
+        }
+    }
+
+    /**
+     * Main method for the sweep
+     * @param args cmd line inputs
+     */
+    public static void main(String[] args) {
+        GameRules standard = GameRules.STANDARD;
+        String[] specs = {String.valueOf(standard.getBail()), String.valueOf(standard.getGoReward()),
+                String.valueOf(standard.getStartingBalance()), String.valueOf(standard.getMortgageInterest())};
+        int steps = 5;
+        int random = 0;
+        long games = 10_000;
+        int players = 4;
+        int threads = Runtime.getRuntime().availableProcessors();
+        long seed = System.nanoTime();
+        int maxTurns = 1000;
+        File out = null;
+
+        for(int i = 0; i < args.length; i += 2) {
+            if(i + 1 == args.length) {
+                throw new IllegalArgumentException("Missing value for " + args[i]);
+            }
+            switch (args[i]) {
+                case "--bail":      specs[BAIL] = args[i + 1]; break;
+                case "--go":        specs[GO_REWARD] = args[i + 1]; break;
+                case "--start":     specs[STARTING_BALANCE] = args[i + 1]; break;
+                case "--interest":  specs[MORTGAGE_INTEREST] = args[i + 1]; break;
+                case "--steps":     steps = Integer.parseInt(args[i + 1]); break;
+                case "--random":    random = Integer.parseInt(args[i + 1]); break;
+                case "--games":     games = Long.parseLong(args[i + 1]); break;
+                case "--players":   players = Integer.parseInt(args[i + 1]); break;
+                case "--threads":   threads = Integer.parseInt(args[i + 1]); break;
+                case "--seed":      seed = Long.parseLong(args[i + 1]); break;
+                case "--max-turns": maxTurns = Integer.parseInt(args[i + 1]); break;
+                case "--out":       out = new File(args[i + 1]); break;
+                default: throw new IllegalArgumentException("Unknown option " + args[i]);
+            }
+        }
+
+        List<double[]> points = points(specs, steps, random, new Random(seed));
+        System.err.println("Sweeping " + points.size() + " points of " + games + " games of " + players
+                + " players on " + threads + " threads, seed " + seed);
+        ParameterSweep sweep = new ParameterSweep(games, players, threads, seed, maxTurns);
+        try (Writer writer = new BufferedWriter(out == null ? new OutputStreamWriter(System.out) : new FileWriter(out))) {
+            sweep.run(points, writer);
+        } catch (IOException e) {
+            System.err.println("Sweep results could not be written to " + (out == null ? "stdout" : out) + ". Full message:\n" + e);
+        }
+    }
+}
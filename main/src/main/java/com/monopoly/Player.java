@@ -7,6 +7,9 @@
 
 package com.monopoly;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import javafx.scene.image.ImageView;
 
 /**
@@ -64,21 +67,64 @@ final class Player extends Entity {
      */
     private final ImageView piece;
 
+    /**
+     * Provider of the player's decisions, null to use the game's
+     */
+    private DecisionProvider decisions;
+
+    /**
+     * Hash of the game the player is in, null until the game attaches it
+     */
+    private ZobristHash hash;
+
+    /**
+     * Development or liquidation options last asked for, refilled on every ask so a turn allocates no lists
+     */
+    private final List<Property> options = new ArrayList<>();
+
     /**
      * Parametrized constructor for Player object
      * @param name Player's name
      */
     Player(String name, Go location, ImageView piece) { 
-        super(name, 1500); 
+        this(name, location, piece, ID_COUNTER++);
+    } 
+
+    /**
+     * Constructor for a Player with a known seat, used for headless games where piece may be null
+     * @param name Player's name
+     * @param location Go space the player starts on
+     * @param piece Piece representing the player, or null when there is no board to draw on
+     * @param id Seat of the player at the table
+     */
+    Player(String name, Go location, ImageView piece, int id) { 
+        super(name, location.getRules().getStartingBalance()); 
         this.piece = piece;
+        ID = id;
         setInitialLocation(location);
         current = false;
         jailCardNum = 0;
         jail = false;
         jailTurns = 0;  
-        ID = ID_COUNTER++;
     } 
 
+    /**
+     * Copy constructor for a copied game, the copy has no piece and no location until the board is copied
+     * @param other player to copy
+     */
+    Player(Player other) {
+        super(other);
+        piece = null;
+        ID = other.ID;
+        current = other.current;
+        roll = other.roll;
+        jailCardNum = other.jailCardNum;
+        jail = other.jail;
+        jailTurns = other.jailTurns;
+        doubleCount = other.doubleCount;
+        decisions = other.decisions;
+    }
+
     /**
      * Checks double count for turn
      * @return int double count for turn
@@ -110,8 +156,9 @@ final class Player extends Entity {
      */
     int getTotalHouses() {
         int houses = 0;
-        for(Property p : getProperties()) {
-            houses += p.getHouses();
+        List<Property> owned = getProperties();
+        for(int i = 0; i < owned.size(); i++) {
+            houses += owned.get(i).getHouses();
         }
         return houses;
     }
@@ -122,8 +169,9 @@ final class Player extends Entity {
      */
     int getTotalHotels() {
         int hotels = 0;
-        for(Property p : getProperties()) {
-            hotels += p.hasHotel() ? 1 : 0;
+        List<Property> owned = getProperties();
+        for(int i = 0; i < owned.size(); i++) {
+            hotels += owned.get(i).hasHotel() ? 1 : 0;
         }
         return hotels;
     }
@@ -164,9 +212,11 @@ final class Player extends Entity {
      * @param newLoc New location of player
      */
     void setLocation(BoardSpace location) {
-        location.removeOccupant(this);
+        if(hash != null) {hash.move(this, this.location, location);}
+        this.location.removeOccupant(this);
         this.location = location;
         location.addOccupant(this);
+        location.addVisit();
     }
 
     /**
@@ -191,29 +241,133 @@ final class Player extends Entity {
     }
 
     /**
-     * Liquidates assets to achieve a set balance
+     * Gets the provider of the player's decisions
+     * @return the player's provider, null when the game's is used
+     */
+    DecisionProvider getDecisions() {
+        return decisions;
+    }
+
+    /**
+     * Sets the provider of the player's decisions
+     * @param decisions provider of the decisions, null to use the game's
+     */
+    void setDecisions(DecisionProvider decisions) {
+        this.decisions = decisions;
+    }
+
+    /**
+     * Gets the hash of the game the player is in
+     * @return the game's hash, null if the player is in no game
+     */
+    ZobristHash getHash() {
+        return hash;
+    }
+
+    /**
+     * Attaches the hash of the game the player joins, which the player keeps up to date from then on
+     * @param hash hash of the game, null when the player leaves it
+     */
+    void setHash(ZobristHash hash) {
+        this.hash = hash;
+    }
+
+    /**
+     * Moves the balance, moving the player's balance bucket in the hash
+     */
+    @Override
+    void adjustBalance(int amount) {
+        int before = getBalance();
+        super.adjustBalance(amount);
+        if(hash != null) {hash.balance(this, before, getBalance());}
+    }
+
+    /**
+     * Liquidates assets to achieve a set balance, selling developments and mortgaging as the player decides
      * @param required balance
+     * @return true for if the player can now afford the balance
      */
     boolean liquidate(int required, Game game) { 
+        DecisionProvider decisions = game.getDecisions(this);
+        while(!canAfford(required)) {
+            List<Property> options = getLiquidationOptions();
+            Property choice = options.isEmpty() ? null : decisions.liquidate(game, this, options, required);
+            if(choice == null || !options.contains(choice)) {
+                return false;
+            }
+            if(choice.developed()) {
+                choice.sellDevelopment();
+            } else {
+                choice.mortgage();
+            }
+        }
         return true;
     } 
 
+    /**
+     * Gets the properties the player may build on now: whole colour groups with nothing mortgaged, built evenly
+     * @return properties that can take another development, in a list the player's next call for options reuses
+     */
+    List<Property> getDevelopmentOptions() {
+        List<Property> owned = getProperties();
+        options.clear();
+        for(int i = 0; i < owned.size(); i++) {
+            Property p = owned.get(i);
+            if(p.isDevelopable() && !p.hasHotel() && !p.isMortgaged() && canAfford(p.getDevelopmentCost()) && ownsSetFor(p)) {
+                boolean even = true;
+                for(int j = 0; j < owned.size(); j++) {
+                    Property other = owned.get(j);
+                    if(other.getType().equals(p.getType()) && (other.isMortgaged() || other.getDevelopmentLevel() < p.getDevelopmentLevel())) {
+                        even = false;
+                    }
+                }
+                if(even) options.add(p);
+            }
+        }
+        return options;
+    }
+
+    /**
+     * Gets the properties the player may raise cash on: developments are sold evenly, and a property is only
+     * mortgaged once its group has no developments left
+     * @return properties to sell a development on or mortgage, in a list the player's next call for options reuses
+     */
+    List<Property> getLiquidationOptions() {
+        List<Property> owned = getProperties();
+        options.clear();
+        for(int i = 0; i < owned.size(); i++) {
+            Property p = owned.get(i);
+            if(p.isMortgaged()) continue;
+            boolean allowed = true;
+            for(int j = 0; j < owned.size(); j++) {
+                Property other = owned.get(j);
+                if(other.getType().equals(p.getType()) && other.getDevelopmentLevel() > p.getDevelopmentLevel()) {
+                    allowed = false;
+                }
+            }
+            if(allowed) options.add(p);
+        }
+        return options;
+    }
+
     /**
      * Handles bankruptcy casued by anotehr player
      * @param bankrupter the player who caused the bankruptcy
      */
     void bankrupted(Entity bankrupter, Game game) {  
 
-        for(Property p : getProperties()) {
-            bankrupter.addProperty(p);
+        // Each property leaves this player's list as it changes hands
+        while(!getProperties().isEmpty()) {
+            Property p = getProperties().get(0);
+            p.setOwner(bankrupter);
             //If property is mortgaged give option to pay it off
             if(p.isMortgaged()) {
-                System.out.print(p.toString()+"\nIs mortgaged, would you like to unmortgage it now, or do so later? ");
-                if(GameView.getBoolInput("Bankruptcy", p.toString()+" is mortgaged.", "Would you like to unmortgage it now, for "+(int) ((double) p.getMortgageValue() * 1.1)+", or wait until later and only pay the current intrest owing of "+(int) ((double) p.getMortgageValue() * 0.1)+".")) {
+                // The bank clears the mortgage of properties it takes back
+                if(!(bankrupter instanceof Player) || game.getDecisions(bankrupter).unmortgage(game, (Player) bankrupter, p)) {
                     p.unMortgage();
                 } else {
-                    System.out.println("Property remains mortgaged, intrest only payment made. ");
-                    bankrupter.debit((int) ((double) p.getMortgageValue() * 0.1));
+                    //Property remains mortgaged, intrest only payment made
+                    bankrupter.pay(game.getBanker(), game.getRules().getInterest(p.getMortgageValue()), Ledger.INTEREST);
                 }
             } 
             //Sell any developments back to the bank, balance goes to bankrupted player and is transfered over at the bottom of method along with balance at bankruptcy
@@ -222,7 +376,7 @@ final class Player extends Entity {
             }
         }
 
-        bankrupter.credit(getBalance());
+        pay(bankrupter, getBalance(), Ledger.ESTATE);
         game.removePlayer(this);
     } 
 
@@ -239,11 +393,9 @@ final class Player extends Entity {
      * @return true for if the action was succesful
      */
     void sell(Property property) { 
-        Banker banker = Banker.getInstance();
-        removeProperty(property);
+        Banker banker = property.getBanker();
         property.setOwner(banker);
-        credit((int) (property.getPrice() / 2));
-        banker.debit((int) (property.getPrice() / 2)); 
+        banker.pay(this, (int) (property.getPrice() / 2), Ledger.SALE);
     }
 
     /**
@@ -282,6 +434,7 @@ final class Player extends Entity {
     void flipJailed() {
         if(inJail()) {resetJailTurns();}
         jail = !jail;
+        if(hash != null) {hash.jail(this);}
     }
 
     /**
@@ -311,7 +464,8 @@ final class Player extends Entity {
      * @return whetehr or not the player could afford the purchase
      */
     void buy(Property newProperty) { 
-        debit(newProperty.getPrice());
+        GameEvents.trade(this, newProperty, newProperty.getPrice());
+        pay(newProperty.getBanker(), newProperty.getPrice(), Ledger.PURCHASE);
         newProperty.setOwner(this);  
     } 
 
@@ -74,7 +74,7 @@ public class PlayerBuilder {
                 pieces.add(new Image(in));
             }
         } catch (FileNotFoundException e) {
-            System.err.println("Error loading game pieces: " + e.getMessage());
+            Log.error("Error loading game pieces: %s", e.getMessage());
         }
         return pieces;
     }
@@ -185,7 +185,7 @@ public class PlayerBuilder {
         if (takenNames.size() < playerCount) {
             buildNameInputUI();
         } else {
-            System.out.println("All players created: " + takenNames); 
+            Log.info("All players created: %s", takenNames.toString());
             notifyPlayerSetupComplete();
         }
     }
@@ -72,13 +72,34 @@ public class Property extends BoardSpace{
      */
     private Entity owner; 
 
+    /**
+     * Banker of the game the property belongs to
+     */
+    private final Banker banker;
+
+    /**
+     * Total rent collected on the property
+     */
+    private int rentCollected;
+
+    /**
+     * Number of times a player bought the property from the bank
+     */
+    private int purchases;
+
+    /**
+     * Hash of the game the property belongs to, null until the game attaches it
+     */
+    private ZobristHash hash;
+
     /**
      * Default constructor for a properrty object
      */
-    Property(Entity owner, String name, String type, int setSize, int id, int rent, int h1, int h2, int h3,int h4, int hotel, int mortgage, int developmentCost, int price) {
+    Property(Banker banker, String name, String type, int setSize, int id, int rent, int h1, int h2, int h3,int h4, int hotel, int mortgage, int developmentCost, int price) {
         super(name, id);
         this.price = price;
-        setOwner(owner);
+        this.banker = banker;
+        setOwner(banker);
         this.type = type;
         this.setSize = setSize;
         defaultRent = rent;
@@ -91,13 +112,48 @@ public class Property extends BoardSpace{
     /**
      * Utility and Railroad constructor
      */
-    Property(String name, String type, int id, int price, Entity owner) {
+    Property(String name, String type, int id, int price, Banker banker) {
         super(name, id);
-        setOwner(owner);
+        this.banker = banker;
+        setOwner(banker);
         this.type = type;
         this.price = price; 
     } 
 
+    /**
+     * Copy constructor for a copied game, the copy is owned by the copy of the owner
+     * Rents are never changed, so the copy shares them
+     * @param other property to copy
+     * @param game the copied game
+     */
+    Property(Property other, Game game) {
+        super(other);
+        banker = game.getBanker();
+        owner = game.getCopyOf(other.owner);
+        type = other.type;
+        price = other.price;
+        setSize = other.setSize;
+        defaultRent = other.defaultRent;
+        houseRent = other.houseRent;
+        hotelRent = other.hotelRent;
+        mortgageValue = other.mortgageValue;
+        developmentCost = other.developmentCost;
+        houses = other.houses;
+        hotel = other.hotel;
+        mortgaged = other.mortgaged;
+        rentCollected = other.rentCollected;
+        purchases = other.purchases;
+        hash = game.getHash();
+    }
+
+    /**
+     * Copies the space into a copied game
+     */
+    @Override
+    BoardSpace copy(Game game) {
+        return new Property(this, game);
+    }
+
     /**
      * Gets the size of the set of properties of the same type
      * @return the size of the set of properties of the same type
@@ -106,6 +162,30 @@ public class Property extends BoardSpace{
         return setSize;
     }
 
+    /**
+     * Sets the size of the set of properties of the same type
+     * @param setSize number of properties in the set
+     */
+    void setSetSize(int setSize) {
+        this.setSize = setSize;
+    }
+
+    /**
+     * Gets the banker of the game the property belongs to
+     * @return the game's banker
+     */
+    Banker getBanker() {
+        return banker;
+    }
+
+    /**
+     * Attaches the hash of the game, which the property keeps up to date from then on
+     * @param hash hash of the game
+     */
+    void setHash(ZobristHash hash) {
+        this.hash = hash;
+    }
+
     /**
      * Gets the mortgage value for the property
      * @return Mortgage value of the property
@@ -116,11 +196,16 @@ public class Property extends BoardSpace{
 
     /**
      * Assign a new owner to the property
-     * Also adds the property to the new owner's list of properties
+     * Also moves the property from the old owner's list of properties to the new owner's, so it is only ever listed once
      * @param newOwner the new owner of the property
      */
     final void setOwner(Entity newOwner) {
-        if(getOwner() != null) {getOwner().adjustNetWorth((int) (getPrice() / -2));}
+        if(getOwner() != null) {
+            getOwner().removeProperty(this);
+            getOwner().adjustNetWorth((int) (getPrice() / -2));
+        }
+        if(newOwner instanceof Player && !(getOwner() instanceof Player)) {purchases++;}
+        if(hash != null) {hash.own(this, getOwner(), newOwner);}
         
         owner = newOwner;
         getOwner().addProperty(this);
@@ -132,10 +217,11 @@ public class Property extends BoardSpace{
      * @return true for if the action was succesful
      */
     void mortgage() { 
+        GameEvents.mortgage(this, getMortgageValue(), true);
         getOwner().adjustNetWorth((int) (getPrice() / 2) * -1);
-        getOwner().credit(getMortgageValue());
-        Banker.getInstance().debit(getMortgageValue());
+        getBanker().pay(getOwner(), getMortgageValue(), Ledger.MORTGAGE);
         mortgaged = true;
+        if(hash != null) {hash.mortgage(this);}
     }
 
     /**
@@ -143,9 +229,11 @@ public class Property extends BoardSpace{
      */
     void unMortgage() {
         getOwner().adjustNetWorth((int) (getPrice() / 2));
-        getOwner().debit((int) (getMortgageValue() * 1.1));
-        Banker.getInstance().credit((int) (getMortgageValue() * 1.1));
+        int cost = getBanker().getRules().getUnmortgageCost(getMortgageValue());
+        GameEvents.mortgage(this, cost, false);
+        getOwner().pay(getBanker(), cost, Ledger.UNMORTGAGE);
         mortgaged = false;
+        if(hash != null) {hash.mortgage(this);}
     } 
 
     /**
@@ -168,7 +256,7 @@ public class Property extends BoardSpace{
      * Getter for the default rent amount
      * @return the default rent amount
      */
-    private int getDefaultRent() {
+    int getDefaultRent() {
         return defaultRent;
     }
 
@@ -180,6 +268,22 @@ public class Property extends BoardSpace{
         return getHouses()!=0 || hasHotel();
     }
 
+    /**
+     * Whether houses and hotels can be built on the property, railroads and utilities can not be developed
+     * @return true for a colour group property
+     */
+    boolean isDevelopable() {
+        return !(this instanceof Railroad) && !(this instanceof Utility);
+    }
+
+    /**
+     * Gets the development on the property as a single number
+     * @return number of houses, 5 for a hotel
+     */
+    int getDevelopmentLevel() {
+        return hasHotel() ? 5 : getHouses();
+    }
+
     /**
      * Checks if the property is mortaged or not
      * @return true if the property is mortgaged
@@ -209,8 +313,8 @@ public class Property extends BoardSpace{
      */
     void buyDevelopment() {
         getOwner().adjustNetWorth((int) (getDevelopmentCost() / 2)); 
-        getOwner().debit(getDevelopmentCost());
-        Banker.getInstance().credit(getDevelopmentCost());
+        getOwner().pay(getBanker(), getDevelopmentCost(), Ledger.BUILD);
+        int level = getDevelopmentLevel();
 
         if(getHouses() == 4) {
             hotel = true;
@@ -218,15 +322,16 @@ public class Property extends BoardSpace{
         } else {
             houses++;
         }
+        if(hash != null) {hash.develop(this, level, getDevelopmentLevel());}
     }
 
     /**
      * Sells a development on the property
      */
     void sellDevelopment() {
-        Banker.getInstance().debit((int) (getDevelopmentCost() / 2));
-        getOwner().credit((int) (getDevelopmentCost() / 2));
+        getBanker().pay(getOwner(), (int) (getDevelopmentCost() / 2), Ledger.DEMOLISH);
         getOwner().adjustNetWorth((int) (getDevelopmentCost() / -2));
+        int level = getDevelopmentLevel();
 
         if(hasHotel()) {
             houses = 4;
@@ -234,6 +339,7 @@ public class Property extends BoardSpace{
         } else {
             houses--;
         }
+        if(hash != null) {hash.develop(this, level, getDevelopmentLevel());}
     }
 
     /**
@@ -249,8 +355,34 @@ public class Property extends BoardSpace{
      * No rent charged when banker owns the property
      */
     void chargeRent(Player renter) {
-        renter.debit(getRent());
-        getOwner().credit(getRent());
+        collectRent(renter, getRent());
+    }
+
+    /**
+     * Moves rent from the renter to the owner and counts it towards the property's rent collected
+     * @param renter player paying the rent
+     * @param rent amount of rent
+     */
+    final void collectRent(Player renter, int rent) {
+        GameEvents.rent(renter, this, rent);
+        renter.pay(getOwner(), rent, Ledger.RENT);
+        rentCollected += rent;
+    }
+
+    /**
+     * Gets the total rent collected on the property
+     * @return rent collected
+     */
+    int getRentCollected() {
+        return rentCollected;
+    }
+
+    /**
+     * Gets the number of times a player bought the property from the bank
+     * @return number of purchases
+     */
+    int getPurchases() {
+        return purchases;
     }
 
     /**
@@ -4,6 +4,8 @@
 
 package com.monopoly;
 
+import java.util.List;
+
 /**
  * Railroad class
  */
@@ -16,14 +18,32 @@ public final class Railroad extends Property{
         super(name, "Railroad", id, price, owner);
     }
 
+    /**
+     * Copy constructor for a copied game
+     * @param other space to copy
+     * @param game the copied game
+     */
+    private Railroad(Railroad other, Game game) {
+        super(other, game);
+    }
+
+    /**
+     * Copies the space into a copied game
+     */
+    @Override
+    BoardSpace copy(Game game) {
+        return new Railroad(this, game);
+    }
+
     /**
      * Gets the rent charged at the proerty
      */
     @Override
     int getRent() {
         double rent = 12.5;
-        for (Property p : getOwner().getProperties()) {
-            if (p instanceof Railroad) {
+        List<Property> owned = getOwner().getProperties();
+        for (int i = 0; i < owned.size(); i++) {
+            if (owned.get(i) instanceof Railroad) {
                 rent *= 2;
             }
         } 
@@ -36,8 +56,7 @@ public final class Railroad extends Property{
     @Override
     void chargeRent(Player player) {
         int rent = getRent();
-        player.debit(rent);
-        getOwner().credit(rent);
+        collectRent(player, rent);
     }
 
     /**
@@ -45,7 +64,6 @@ public final class Railroad extends Property{
      */
     void chargeChanceRent(Player player) {
         int rent = getRent() * 2;
-        player.debit(rent);
-        getOwner().credit(rent);
+        collectRent(player, rent);
     }
 }
\ No newline at end of file
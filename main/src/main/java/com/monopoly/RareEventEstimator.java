@@ -0,0 +1,218 @@
+/**
+ * Importance sampling estimates of rare bankruptcies
+ *
+ * @author Dale Urquhart
+ * @since 2026-10-19
+ */
+
+package com.monopoly;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Estimates the probability of an early bankruptcy: a bankruptcy (of a given cause, optionally on a given space)
+ * within the first turns of a game. Plain Monte Carlo sees such events in only a few games of every thousand, so
+ * games are played on dice and cards tilted towards them (see ImportanceSampler) and each event counted with its
+ * game's likelihood ratio, which keeps the estimate unbiased. Strong tilts over many turns degenerate (a few games
+ * carry all the weight), so the tilt is best kept mild and aimed with --space
+ * The report gives the estimate, its standard error, the mean weight of every game (1 in expectation, far from 1 when
+ * the tilt is too strong to trust) and the effective sample size
+ *
+ * Usage (from src/main/java, like App): java com.monopoly.RareEventEstimator [--games N] [--players P] [--within T]
+ *                                          [--cause any|rent|tax|bail] [--space ID] [--tilt X] [--threads T] [--seed S]
+ */
+public final class RareEventEstimator {
+
+    /**
+     * Any bankruptcy cause
+     */
+    static final int ANY = -1;
+
+    /**
+     * Number of players per game
+     */
+    private final int players;
+
+    /**
+     * Turns the event must happen within
+     */
+    private final int within;
+
+    /**
+     * Bankruptcy cause of the event, ANY for every cause
+     */
+    private final int cause;
+
+    /**
+     * Space the bankrupt player must be on, -1 for any
+     */
+    private final int space;
+
+    /**
+     * Strength of the tilt, 0 for plain Monte Carlo
+     */
+    private final double tilt;
+
+    /**
+     * Master seed every game seed is derived from
+     */
+    private final long seed;
+
+    /**
+     * Likelihood ratio of each game
+     */
+    private final double[] weights;
+
+    /**
+     * Whether the event happened in each game
+     */
+    private final boolean[] events;
+
+    /**
+     * Constructor for an estimator
+     * @param games number of games to play
+     * @param players number of players per game
+     * @param within turns the event must happen within
+     * @param cause bankruptcy cause of the event, ANY for every cause
+     * @param space space the bankrupt player must be on, -1 for any
+     * @param tilt strength of the tilt, 0 for plain Monte Carlo
+     * @param seed master seed
+     */
+    RareEventEstimator(int games, int players, int within, int cause, int space, double tilt, long seed) {
+        if(players < 2 || players > 4) {
+            throw new IllegalArgumentException("Player count must be between 2 and 4");
+        }
+        this.players = players;
+        this.within = within;
+        this.cause = cause;
+        this.space = space;
+        this.tilt = tilt;
+        this.seed = seed;
+        weights = new double[games];
+        events = new boolean[games];
+    }
+
+    /**
+     * Gets a cause by name
+     * @param name any, or the name of a bankruptcy cause
+     * @return the cause, ANY for any
+     */
+    static int cause(String name) {
+        if(name.equalsIgnoreCase("any")) {
+            return ANY;
+        }
+        for(int c = 0; c < Game.BANKRUPTCY_CAUSES.length; c++) {
+            if(Game.BANKRUPTCY_CAUSES[c].equalsIgnoreCase(name)) return c;
+        }
+        throw new IllegalArgumentException("Unknown bankruptcy cause " + name);
+    }
+
+    /**
+     * Counts the bankruptcies of the event's cause so far
+     * @param game the game
+     * @return bankruptcies of the cause
+     */
+    private int count(Game game) {
+        int total = 0;
+        for(int c = 0; c < Game.BANKRUPTCY_CAUSES.length; c++) {
+            if(cause == ANY || cause == c) total += game.getBankruptcies()[c];
+        }
+        return total;
+    }
+
+    /**
+     * Plays one game until the event happens or the turns run out
+     * @param index index of the game
+     */
+    void playGame(int index) {
+        Game game = Game.headless(new Random(Simulator.seedFor(seed, index)), GameRules.STANDARD, players);
+        ImportanceSampler sampler = new ImportanceSampler(game, tilt, space);
+        game.setSampler(sampler);
+        GameController controller = new GameController(game);
+
+        while(game.getPlayerCount() > 1 && game.getTurnsPlayed() < within && !events[index]) {
+            Player mover = game.getCurrentPlayer();
+            int before = count(game);
+            game.playTurn(controller);
+            events[index] = count(game) > before && (space < 0 || mover.getLocation().getId() == space);
+        }
+        weights[index] = sampler.getWeight();
+    }
+
+    /**
+     * Plays every game across the worker threads
+     * @param threads number of worker threads
+     */
+    void run(int threads) {
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            pool.invoke(new GameRangeTask(this::playGame, 0, weights.length));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Prints the estimate
+     * @param seconds wall clock time of the run
+     */
+    void report(double seconds) {
+        Moments estimate = new Moments(), weight = new Moments();
+        long hits = 0;
+        double sum = 0, squares = 0;
+        for(int i = 0; i < weights.length; i++) {
+            estimate.add(events[i] ? weights[i] : 0);
+            weight.add(weights[i]);
+            hits += events[i] ? 1 : 0;
+            sum += weights[i];
+            squares += weights[i] * weights[i];
+        }
+        double se = estimate.getStandardDeviation() / Math.sqrt(weights.length);
+        System.out.printf("Games: %d in %.2fs, %.0f games/s, %d with the event%n", weights.length, seconds, weights.length / seconds, hits);
+        System.out.printf("Probability: %.3e +/- %.3e (95%%), relative error %.1f%%%n", estimate.getMean(), 1.96 * se,
+                estimate.getMean() == 0 ? 0 : 100 * se / estimate.getMean());
+        System.out.printf("Mean weight %.3f (should be near 1), effective sample size %.0f%n",
+                weight.getMean(), squares == 0 ? 0 : sum * sum / squares);
+    }
+
+    /**
+     * Main method for the estimator
+     * @param args cmd line inputs
+     */
+    public static void main(String[] args) {
+        int games = 100_000;
+        int players = 4;
+        int within = 40;
+        int cause = ANY;
+        int space = -1;
+        double tilt = 2;
+        int threads = Runtime.getRuntime().availableProcessors();
+        long seed = System.nanoTime();
+
+        for(int i = 0; i < args.length; i += 2) {
+            if(i + 1 == args.length) {
+                throw new IllegalArgumentException("Missing value for " + args[i]);
+            }
+            switch (args[i]) {
+                case "--games":   games = Integer.parseInt(args[i + 1]); break;
+                case "--players": players = Integer.parseInt(args[i + 1]); break;
+                case "--within":  within = Integer.parseInt(args[i + 1]); break;
+                case "--cause":   cause = cause(args[i + 1]); break;
+                case "--space":   space = Integer.parseInt(args[i + 1]); break;
+                case "--tilt":    tilt = Double.parseDouble(args[i + 1]); break;
+                case "--threads": threads = Integer.parseInt(args[i + 1]); break;
+                case "--seed":    seed = Long.parseLong(args[i + 1]); break;
+                default: throw new IllegalArgumentException("Unknown option " + args[i]);
+            }
+        }
+
+        RareEventEstimator estimator = new RareEventEstimator(games, players, within, cause, space, tilt, seed);
+        System.out.println("Estimating bankruptcy (" + (cause == ANY ? "any cause" : Game.BANKRUPTCY_CAUSES[cause])
+                + (space < 0 ? "" : ", on space " + space) + ") within " + within + " turns over " + games
+                + " games, tilt " + tilt + ", seed " + seed);
+        long start = System.nanoTime();
+        estimator.run(threads);
+        estimator.report((System.nanoTime() - start) / 1e9);
+    }
+}
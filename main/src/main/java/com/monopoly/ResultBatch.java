@@ -0,0 +1,169 @@
+/**
+ * Finished games of one shard, on their way through the simulation pipeline
+ *
+ * @author Dale Urquhart
+ * @since 2026-10-19
+ */
+
+package com.monopoly;
+
+/**
+ * Rows of finished games kept in primitive arrays, together with the shard's statistics
+ * Batches are recycled by the pipeline, so playing games allocates no records
+ */
+final class ResultBatch {
+
+    /**
+     * Shard the batch holds, -1 for the batch that closes the pipeline
+     */
+    private int shard;
+
+    /**
+     * Number of rows in the batch
+     */
+    private int size;
+
+    /**
+     * Index of each game
+     */
+    private final long[] games;
+
+    /**
+     * Seed of each game
+     */
+    private final long[] seeds;
+
+    /**
+     * Turns played in each game
+     */
+    private final int[] turns;
+
+    /**
+     * Seat of each game's winner, -1 if it ended without one
+     */
+    private final int[] winners;
+
+    /**
+     * How each game ended
+     */
+    private final int[] endings;
+
+    /**
+     * Turn of each game's first monopoly, -1 if there was none
+     */
+    private final int[] firstMonopolies;
+
+    /**
+     * Number of bankruptcies in each game
+     */
+    private final int[] bankruptcies;
+
+    /**
+     * Final balance of each seat in each game, indexed by seat then row
+     */
+    private final int[][] balances;
+
+    /**
+     * Statistics of the batch's games
+     */
+    private final SimulationStats stats;
+
+    /**
+     * Constructor for an empty batch
+     * @param capacity number of rows the batch holds
+     * @param seats number of seats at the table
+     */
+    ResultBatch(int capacity, int seats) {
+        games = new long[capacity];
+        seeds = new long[capacity];
+        turns = new int[capacity];
+        winners = new int[capacity];
+        endings = new int[capacity];
+        firstMonopolies = new int[capacity];
+        bankruptcies = new int[capacity];
+        balances = new int[seats][capacity];
+        stats = new SimulationStats(seats);
+    }
+
+    /**
+     * Empties the batch for a new shard
+     * @param shard shard the batch will hold
+     */
+    void clear(int shard) {
+        this.shard = shard;
+        size = 0;
+        stats.clear();
+    }
+
+    /**
+     * Adds a finished game to the batch
+     * @param index index of the game
+     * @param seed seed of the game
+     * @param game the game played
+     */
+    void add(long index, long seed, Game game) {
+        stats.record(game, game.getTurnsPlayed());
+
+        int total = 0;
+        for(int count : game.getBankruptcies()) total += count;
+
+        games[size] = index;
+        seeds[size] = seed;
+        turns[size] = game.getTurnsPlayed();
+        winners[size] = game.getWinner() == null ? -1 : game.getWinner().getID();
+        endings[size] = game.getEnding();
+        firstMonopolies[size] = game.getFirstMonopolyTurn();
+        bankruptcies[size] = total;
+        for(int[] seat : balances) {
+            seat[size] = 0;
+        }
+        for(Player p : game.getPlayers()) {
+            balances[p.getID()][size] = p.getBalance();
+        }
+        size++;
+    }
+
+    /**
+     * Writes every row of the batch to a result file
+     * @param results result file, laid out by Simulator's columns
+     */
+    void write(ResultWriter results) {
+        for(int i = 0; i < size; i++) {
+            long row = games[i];
+            results.putLong(Simulator.COLUMN_GAME, row, row);
+            results.putLong(Simulator.COLUMN_SEED, row, seeds[i]);
+            results.putInt(Simulator.COLUMN_TURNS, row, turns[i]);
+            results.putInt(Simulator.COLUMN_WINNER, row, winners[i]);
+            results.putInt(Simulator.COLUMN_FIRST_MONOPOLY, row, firstMonopolies[i]);
+            results.putInt(Simulator.COLUMN_BANKRUPTCIES, row, bankruptcies[i]);
+            results.putInt(Simulator.COLUMN_ENDING, row, endings[i]);
+            for(int seat = 0; seat < balances.length; seat++) {
+                results.putInt(Simulator.COLUMN_BALANCE + seat, row, balances[seat][i]);
+            }
+        }
+    }
+
+    /**
+     * Gets the shard the batch holds
+     * @return index of the shard
+     */
+    int getShard() {
+        return shard;
+    }
+
+    /**
+     * Gets the number of rows in the batch
+     * @return number of rows
+     */
+    int getSize() {
+        return size;
+    }
+
+    /**
+     * Gets the statistics of the batch's games
+     * @return statistics of the batch
+     */
+    SimulationStats getStats() {
+        return stats;
+    }
+}
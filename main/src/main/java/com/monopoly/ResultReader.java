@@ -0,0 +1,211 @@
+/**
+ * Reader for columnar simulation result files
+ *
+ * @author Dale Urquhart
+ * @since 2026-10-19
+ */
+
+package com.monopoly;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Memory-maps a file written by ResultWriter, so a single column can be scanned without reading the others
+ *
+ * Usage (summarizes a column): java com.monopoly.ResultReader FILE [COLUMN]
+ */
+public final class ResultReader implements AutoCloseable {
+
+    /**
+     * File being read
+     */
+    private final RandomAccessFile file;
+
+    /**
+     * Number of rows
+     */
+    private final long rows;
+
+    /**
+     * Master seed of the run that wrote the file
+     */
+    private final long seed;
+
+    /**
+     * Names of the columns
+     */
+    private final String[] names;
+
+    /**
+     * Width of each column
+     */
+    private final int[] widths;
+
+    /**
+     * Rows per mapped segment as a power of two
+     */
+    private final int segmentBits;
+
+    /**
+     * Mask of a row's index within its segment
+     */
+    private final long segmentMask;
+
+    /**
+     * Mapped segments of each column, indexed by column then segment
+     */
+    private final MappedByteBuffer[][] segments;
+
+    /**
+     * Opens a result file
+     * @param path file to read
+     * @throws IOException If the file can not be read, or is not a result file
+     */
+    ResultReader(File path) throws IOException {
+        this(path, ResultWriter.SEGMENT_BITS);
+    }
+
+    /**
+     * Opens a result file, mapped in segments of a given size, whatever size it was written with
+     * @param path file to read
+     * @param segmentBits rows per mapped segment as a power of two
+     * @throws IOException If the file can not be read, or is not a result file
+     */
+    ResultReader(File path, int segmentBits) throws IOException {
+        this.segmentBits = segmentBits;
+        segmentMask = (1L << segmentBits) - 1;
+        file = new RandomAccessFile(path, "r");
+        FileChannel channel = file.getChannel();
+
+        ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, ResultWriter.HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        byte[] magic = new byte[ResultWriter.MAGIC.length];
+        header.get(magic);
+        if(!Arrays.equals(magic, ResultWriter.MAGIC) || header.getInt() != ResultWriter.VERSION) {
+            file.close();
+            throw new IOException(path + " is not a simulation result file");
+        }
+        int columns = header.getInt();
+        rows = header.getLong();
+        seed = header.getLong();
+
+        ByteBuffer entries = channel.map(FileChannel.MapMode.READ_ONLY, ResultWriter.HEADER_BYTES, (long) ResultWriter.ENTRY_BYTES * columns)
+                .order(ByteOrder.LITTLE_ENDIAN);
+        names = new String[columns];
+        widths = new int[columns];
+        segments = new MappedByteBuffer[columns][];
+        for(int c = 0; c < columns; c++) {
+            byte[] name = new byte[ResultWriter.NAME_BYTES];
+            entries.get(name);
+            int length = 0;
+            while(length < name.length && name[length] != 0) length++;
+            names[c] = new String(name, 0, length, StandardCharsets.UTF_8);
+            widths[c] = entries.getInt();
+            entries.getInt();
+            segments[c] = ResultWriter.map(channel, FileChannel.MapMode.READ_ONLY, entries.getLong(), widths[c], rows, segmentBits);
+        }
+    }
+
+    /**
+     * Gets the number of rows
+     * @return number of rows
+     */
+    long getRows() {
+        return rows;
+    }
+
+    /**
+     * Gets the master seed of the run that wrote the file
+     * @return the seed
+     */
+    long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Gets the names of the columns
+     * @return names of the columns
+     */
+    String[] getNames() {
+        return names.clone();
+    }
+
+    /**
+     * Gets the index of a column by name
+     * @param name name of the column
+     * @return index of the column, -1 if there is no such column
+     */
+    int getColumn(String name) {
+        for(int c = 0; c < names.length; c++) {
+            if(names[c].equals(name)) {
+                return c;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Reads a value of any column as a long
+     * @param column index of the column
+     * @param row index of the row
+     * @return the value
+     */
+    long get(int column, long row) {
+        MappedByteBuffer segment = segments[column][(int) (row >>> segmentBits)];
+        int index = (int) (row & segmentMask);
+        return widths[column] == ResultWriter.INT ? segment.getInt(index * ResultWriter.INT) : segment.getLong(index * ResultWriter.LONG);
+    }
+
+    /**
+     * Closes the file
+     * @throws IOException If the file can not be closed
+     */
+    @Override
+    public void close() throws IOException {
+        file.close();
+    }
+
+    /**
+     * Main method, lists the columns or summarizes one of them
+     * @param args cmd line inputs
+     */
+    public static void main(String[] args) {
+        if(args.length == 0) {
+            System.out.println("Usage: java com.monopoly.ResultReader FILE [COLUMN]");
+            return;
+        }
+
+        try (ResultReader reader = new ResultReader(new File(args[0]))) {
+            if(args.length == 1) {
+                System.out.println(reader.getRows() + " rows from seed " + reader.getSeed() + ", columns: " + String.join(", ", reader.getNames()));
+                return;
+            }
+
+            int column = reader.getColumn(args[1]);
+            if(column < 0) {
+                System.out.println("No column " + args[1] + ", columns: " + String.join(", ", reader.getNames()));
+                return;
+            }
+
+            Moments moments = new Moments();
+            LogHistogram histogram = new LogHistogram();
+            for(long row = 0; row < reader.getRows(); row++) {
+                long value = reader.get(column, row);
+                moments.add(value);
+                histogram.record(value);
+            }
+            System.out.printf("%s: %d rows, mean %.2f, sd %.2f, min %.0f, median %d, p90 %d, p99 %d, max %.0f%n",
+                    args[1], moments.getCount(), moments.getMean(), moments.getStandardDeviation(), moments.getMin(),
+                    histogram.getQuantile(0.5), histogram.getQuantile(0.9), histogram.getQuantile(0.99), moments.getMax());
+        } catch (IOException e) {
+            System.err.println("Result file could not be read. Full message:\n" + e);
+        }
+    }
+}
@@ -0,0 +1,297 @@
+/**
+ * Columnar binary file of per-game simulation results
+ *
+ * @author Dale Urquhart
+ * @since 2026-10-19
+ */
+
+package com.monopoly;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes one row per game into a file laid out column by column, every column a contiguous run of primitives
+ * The file is sized for every row up front and memory-mapped, so each game writes its own row by index
+ * without locks, and a resumed run rewrites only the rows it has not finished
+ * A run that is not resuming truncates the file, so no row of an earlier run can be mistaken for one of its own
+ *
+ * Layout (little-endian):
+ *   magic "MONOCOLS", int version, int column count, long row count, long master seed,
+ *   then per column: 32 byte UTF-8 name (zero padded), int width in bytes (4 or 8), int unused, long data offset,
+ *   then the columns, each starting on a page boundary
+ */
+final class ResultWriter implements AutoCloseable {
+
+    /**
+     * Magic bytes starting every result file
+     */
+    static final byte[] MAGIC = "MONOCOLS".getBytes(StandardCharsets.US_ASCII);
+
+    /**
+     * Version of the layout
+     */
+    static final int VERSION = 2;
+
+    /**
+     * Width of an int column
+     */
+    static final int INT = 4;
+
+    /**
+     * Width of a long column
+     */
+    static final int LONG = 8;
+
+    /**
+     * Bytes kept for a column name
+     */
+    static final int NAME_BYTES = 32;
+
+    /**
+     * Bytes of the header before the column entries
+     */
+    static final int HEADER_BYTES = 32;
+
+    /**
+     * Bytes of a column entry in the header
+     */
+    static final int ENTRY_BYTES = NAME_BYTES + 16;
+
+    /**
+     * Columns start on multiples of this
+     */
+    static final int PAGE = 4096;
+
+    /**
+     * Rows per mapped segment as a power of two, keeping each mapping under the 2GB limit
+     * The file's layout does not depend on it, only how much of a column each mapping covers
+     */
+    static final int SEGMENT_BITS = 27;
+
+    /**
+     * File being written
+     */
+    private final RandomAccessFile file;
+
+    /**
+     * Width of each column
+     */
+    private final int[] widths;
+
+    /**
+     * Rows per mapped segment as a power of two
+     */
+    private final int segmentBits;
+
+    /**
+     * Mask of a row's index within its segment
+     */
+    private final long segmentMask;
+
+    /**
+     * Mapped segments of each column, indexed by column then segment
+     */
+    private final MappedByteBuffer[][] segments;
+
+    /**
+     * Whether the file has been closed, every row already forced to disk
+     */
+    private boolean closed;
+
+    /**
+     * Opens a result file for writing
+     * @param path file to write
+     * @param names names of the columns
+     * @param widths width of each column (INT or LONG)
+     * @param rows number of rows
+     * @param seed master seed of the run
+     * @param keep whether to keep the rows already in the file, if it was made for the same columns, rows and seed;
+     *             only a run resuming from a checkpoint should keep them
+     * @throws IOException If the file can not be created or mapped
+     */
+    ResultWriter(File path, String[] names, int[] widths, long rows, long seed, boolean keep) throws IOException {
+        this(path, names, widths, rows, seed, keep, SEGMENT_BITS);
+    }
+
+    /**
+     * Opens a result file for writing, mapped in segments of a given size, small enough for a test to span several
+     * @param path file to write
+     * @param names names of the columns
+     * @param widths width of each column (INT or LONG)
+     * @param rows number of rows
+     * @param seed master seed of the run
+     * @param keep whether to keep the rows already in the file, if it was made for the same columns, rows and seed
+     * @param segmentBits rows per mapped segment as a power of two
+     * @throws IOException If the file can not be created or mapped
+     */
+    ResultWriter(File path, String[] names, int[] widths, long rows, long seed, boolean keep, int segmentBits) throws IOException {
+        this.widths = widths.clone();
+        this.segmentBits = segmentBits;
+        segmentMask = (1L << segmentBits) - 1;
+        ByteBuffer header = header(names, widths, rows, seed);
+        long[] offsets = offsets(widths, rows);
+        long length = offsets[widths.length];
+
+        file = new RandomAccessFile(path, "rw");
+        FileChannel channel = file.getChannel();
+        if(!keep || file.length() != length || !header.equals(readHeader(channel, header.capacity()))) {
+            file.setLength(0);
+            file.setLength(length);
+            channel.write(header.duplicate(), 0);
+        }
+
+        segments = new MappedByteBuffer[widths.length][];
+        for(int c = 0; c < widths.length; c++) {
+            segments[c] = map(channel, FileChannel.MapMode.READ_WRITE, offsets[c], widths[c], rows, segmentBits);
+        }
+    }
+
+    /**
+     * Builds the header of a result file
+     * @param names names of the columns
+     * @param widths width of each column
+     * @param rows number of rows
+     * @param seed master seed of the run
+     * @return the header, ready to be written
+     */
+    static ByteBuffer header(String[] names, int[] widths, long rows, long seed) {
+        long[] offsets = offsets(widths, rows);
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES + ENTRY_BYTES * names.length).order(ByteOrder.LITTLE_ENDIAN);
+        header.put(MAGIC).putInt(VERSION).putInt(names.length).putLong(rows).putLong(seed);
+        for(int c = 0; c < names.length; c++) {
+            byte[] name = names[c].getBytes(StandardCharsets.UTF_8);
+            if(name.length > NAME_BYTES) {
+                throw new IllegalArgumentException("Column name too long: " + names[c]);
+            }
+            header.put(name).put(new byte[NAME_BYTES - name.length]);
+            header.putInt(widths[c]).putInt(0).putLong(offsets[c]);
+        }
+        return header.flip();
+    }
+
+    /**
+     * Works out where each column starts
+     * @param widths width of each column
+     * @param rows number of rows
+     * @return offset of each column, followed by the length of the file
+     */
+    static long[] offsets(int[] widths, long rows) {
+        long[] offsets = new long[widths.length + 1];
+        long offset = align(HEADER_BYTES + (long) ENTRY_BYTES * widths.length);
+        for(int c = 0; c < widths.length; c++) {
+            offsets[c] = offset;
+            offset = align(offset + rows * widths[c]);
+        }
+        offsets[widths.length] = offset;
+        return offsets;
+    }
+
+    /**
+     * Rounds up to the next page
+     * @param offset offset to round
+     * @return the offset on a page boundary
+     */
+    private static long align(long offset) {
+        return (offset + PAGE - 1) / PAGE * PAGE;
+    }
+
+    /**
+     * Reads the start of a file to compare with a header
+     * @param channel file to read
+     * @param length bytes to read
+     * @return the bytes read
+     * @throws IOException If the file can not be read
+     */
+    private static ByteBuffer readHeader(FileChannel channel, int length) throws IOException {
+        ByteBuffer existing = ByteBuffer.allocate(length);
+        while(existing.hasRemaining() && channel.read(existing, existing.position()) > 0);
+        return existing.flip();
+    }
+
+    /**
+     * Maps a column in segments
+     * @param channel file the column is in
+     * @param mode read only or read write
+     * @param offset offset of the column
+     * @param width width of the column
+     * @param rows number of rows
+     * @param segmentBits rows per segment as a power of two
+     * @return the mapped segments
+     * @throws IOException If the column can not be mapped
+     */
+    static MappedByteBuffer[] map(FileChannel channel, FileChannel.MapMode mode, long offset, int width, long rows,
+            int segmentBits) throws IOException {
+        long segmentRows = 1L << segmentBits;
+        MappedByteBuffer[] mapped = new MappedByteBuffer[(int) ((rows + segmentRows - 1) / segmentRows)];
+        for(int s = 0; s < mapped.length; s++) {
+            long first = s * segmentRows;
+            long size = Math.min(segmentRows, rows - first) * width;
+            mapped[s] = channel.map(mode, offset + first * width, size);
+            mapped[s].order(ByteOrder.LITTLE_ENDIAN);
+        }
+        return mapped;
+    }
+
+    /**
+     * Writes an int value
+     * @param column index of the column
+     * @param row index of the row
+     * @param value value to write
+     */
+    void putInt(int column, long row, int value) {
+        segments[column][(int) (row >>> segmentBits)].putInt((int) (row & segmentMask) * INT, value);
+    }
+
+    /**
+     * Writes a long value
+     * @param column index of the column
+     * @param row index of the row
+     * @param value value to write
+     */
+    void putLong(int column, long row, long value) {
+        segments[column][(int) (row >>> segmentBits)].putLong((int) (row & segmentMask) * LONG, value);
+    }
+
+    /**
+     * Gets the number of columns
+     * @return number of columns
+     */
+    int getColumnCount() {
+        return widths.length;
+    }
+
+    /**
+     * Flushes every column to disk, nothing once the file is closed
+     */
+    void flush() {
+        if(closed) {
+            return;
+        }
+        for(MappedByteBuffer[] column : segments) {
+            for(MappedByteBuffer segment : column) {
+                segment.force();
+            }
+        }
+    }
+
+    /**
+     * Flushes and closes the file, nothing if it is already closed
+     * @throws IOException If the file can not be closed
+     */
+    @Override
+    public void close() throws IOException {
+        if(closed) {
+            return;
+        }
+        flush();
+        closed = true;
+        file.close();
+    }
+}
@@ -0,0 +1,159 @@
+/**
+ * Decisions read from a script
+ *
+ * @author Dale Urquhart
+ * @since 2026-10-19
+ */
+
+package com.monopoly;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Answers each decision with the next token of a script, so a game can be replayed exactly
+ * Yes/no decisions read y or n, bids and jail choices read a number, building and raising cash read an option index
+ * Once the script runs out, decisions are passed to a fallback provider
+ */
+final class ScriptedDecisions implements DecisionProvider {
+
+    /**
+     * Answers not yet used
+     */
+    private final Deque<String> script;
+
+    /**
+     * Provider asked once the script runs out
+     */
+    private final DecisionProvider fallback;
+
+    /**
+     * Constructor for scripted decisions
+     * @param script answers in the order the decisions are asked
+     * @param fallback provider asked once the script runs out
+     */
+    ScriptedDecisions(List<String> script, DecisionProvider fallback) {
+        this.script = new ArrayDeque<>(script);
+        this.fallback = fallback;
+    }
+
+    /**
+     * Reads a script of whitespace separated answers from a file
+     * @param path script file
+     * @param fallback provider asked once the script runs out
+     * @return the scripted decisions
+     * @throws IOException If the file can not be read
+     */
+    static ScriptedDecisions read(Path path, DecisionProvider fallback) throws IOException {
+        String text = new String(Files.readAllBytes(path)).trim();
+        return new ScriptedDecisions(text.isEmpty() ? List.of() : Arrays.asList(text.split("\\s+")), fallback);
+    }
+
+    /**
+     * Gets the number of answers not yet used
+     * @return answers left in the script
+     */
+    int getRemaining() {
+        return script.size();
+    }
+
+    /**
+     * Reads the next yes/no answer
+     * @return the answer
+     */
+    private boolean nextBoolean() {
+        String token = script.poll();
+        switch (token.toLowerCase()) {
+            case "y": case "yes": case "true":  return true;
+            case "n": case "no":  case "false": return false;
+            default: throw new IllegalArgumentException("Expected y or n in decision script, found " + token);
+        }
+    }
+
+    /**
+     * Reads the next numeric answer
+     * @return the answer
+     */
+    private int nextInt() {
+        String token = script.poll();
+        try {
+            return Integer.parseInt(token);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Expected a number in decision script, found " + token);
+        }
+    }
+
+    /**
+     * Reads the next answer as an index into the options, -1 for none
+     * @param options options to pick from
+     * @return the option picked, null for none
+     */
+    private Property nextOption(List<Property> options) {
+        int index = nextInt();
+        if(index < -1 || index >= options.size()) {
+            throw new IllegalArgumentException("Decision script picked option " + index + " of " + options.size());
+        }
+        return index == -1 ? null : options.get(index);
+    }
+
+    /**
+     * Answers with the next y or n
+     */
+    @Override
+    public boolean buyProperty(Game game, Player player, Property property, boolean liquidate) {
+        return script.isEmpty() ? fallback.buyProperty(game, player, property, liquidate) : nextBoolean();
+    }
+
+    /**
+     * Answers with the next number
+     */
+    @Override
+    public int bid(Game game, Player bidder, Property property, int bid, Entity highestBidder) {
+        return script.isEmpty() ? fallback.bid(game, bidder, property, bid, highestBidder) : nextInt();
+    }
+
+    /**
+     * Answers with the next y or n
+     */
+    @Override
+    public boolean acceptBid(Game game, Player owner, Property property, int bid, Player bidder) {
+        return script.isEmpty() ? fallback.acceptBid(game, owner, property, bid, bidder) : nextBoolean();
+    }
+
+    /**
+     * Answers with the next number
+     */
+    @Override
+    public int jailChoice(Game game, Player player, List<Integer> choices) {
+        return script.isEmpty() ? fallback.jailChoice(game, player, choices) : nextInt();
+    }
+
+    /**
+     * Answers with the next y or n
+     */
+    @Override
+    public boolean unmortgage(Game game, Player player, Property property) {
+        return script.isEmpty() ? fallback.unmortgage(game, player, property) : nextBoolean();
+    }
+
+    /**
+     * Answers with the next option index, -1 to stop building
+     */
+    @Override
+    public Property develop(Game game, Player player, List<Property> options) {
+        return script.isEmpty() ? fallback.develop(game, player, options) : nextOption(options);
+    }
+
+    /**
+     * Answers with the next option index, -1 to give up
+     */
+    @Override
+    public Property liquidate(Game game, Player player, List<Property> options, int required) {
+        return script.isEmpty() ? fallback.liquidate(game, player, options, required) : nextOption(options);
+    }
+}
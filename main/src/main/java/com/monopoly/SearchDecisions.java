@@ -0,0 +1,266 @@
+/**
+ * Decisions of the searching player inside a search rollout
+ *
+ * @author Dale Urquhart
+ * @since 2026-10-19
+ */
+
+package com.monopoly;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Walks the search tree as the rollout asks the searching player for decisions (open loop: nodes follow the player's
+ * own actions, the dice and the other players are sampled afresh every rollout)
+ * Inside the tree actions are picked by UCB1, the first untried action expands the tree by one node,
+ * and after that the rollout policy decides
+ */
+final class SearchDecisions implements DecisionProvider {
+
+    /**
+     * Decision kind: buy an unowned property
+     */
+    static final int BUY = 1;
+
+    /**
+     * Decision kind: raise the bid in an auction
+     */
+    static final int BID = 2;
+
+    /**
+     * Decision kind: accept the highest bid for one's own property
+     */
+    static final int ACCEPT = 3;
+
+    /**
+     * Decision kind: jail choice
+     */
+    static final int JAIL = 4;
+
+    /**
+     * Decision kind: build a development, or stop
+     */
+    static final int DEVELOP = 5;
+
+    /**
+     * Decision kind: raise cash on a property
+     */
+    static final int LIQUIDATE = 6;
+
+    /**
+     * Returned by select() once the rollout has left the tree
+     */
+    static final int NONE = Integer.MIN_VALUE;
+
+    /**
+     * UCB1 exploration constant, rewards are between 0 and 1
+     */
+    private static final double EXPLORATION = Math.sqrt(2);
+
+    /**
+     * Deepest path followed through the tree
+     */
+    private static final int MAX_DEPTH = 64;
+
+    /**
+     * Policy deciding outside the tree
+     */
+    private final DecisionProvider policy;
+
+    /**
+     * Random source breaking ties between untried actions
+     */
+    private final Random rand;
+
+    /**
+     * Nodes of the current rollout, root first
+     */
+    private final SearchNode[] path;
+
+    /**
+     * Number of nodes in the path
+     */
+    private int depth;
+
+    /**
+     * Whether the rollout has already expanded the tree
+     */
+    private boolean expanded;
+
+    /**
+     * Actions of the decision being made, reused between decisions
+     */
+    private int[] actions;
+
+    /**
+     * Constructor for a tree walker
+     * @param policy policy deciding outside the tree
+     * @param rand random source breaking ties between untried actions
+     */
+    SearchDecisions(DecisionProvider policy, Random rand) {
+        this.policy = policy;
+        this.rand = rand;
+        path = new SearchNode[MAX_DEPTH];
+        actions = new int[8];
+    }
+
+    /**
+     * Starts a rollout at the root
+     * @param root root of the tree
+     */
+    void start(SearchNode root) {
+        path[0] = root;
+        depth = 1;
+        expanded = false;
+    }
+
+    /**
+     * Adds a finished rollout's reward to every node it passed through
+     * @param reward reward of the rollout, between 0 and 1
+     */
+    void backpropagate(double reward) {
+        for(int i = 0; i < depth; i++) {
+            path[i].update(reward);
+        }
+    }
+
+    /**
+     * Makes room for a decision's actions
+     * @param count number of actions
+     * @return the reused action array
+     */
+    private int[] actions(int count) {
+        if(actions.length < count) {
+            actions = new int[Math.max(count, actions.length * 2)];
+        }
+        return actions;
+    }
+
+    /**
+     * Picks an action in the tree
+     * @param kind kind of the decision
+     * @param count number of actions in the action array
+     * @return the action, NONE once the rollout has left the tree
+     */
+    int select(int kind, int count) {
+        if(expanded || depth == MAX_DEPTH) {
+            return NONE;
+        }
+        SearchNode node = path[depth - 1];
+
+        // Try every action once before comparing them
+        int offset = rand.nextInt(count);
+        int total = 0;
+        for(int i = 0; i < count; i++) {
+            int action = actions[(i + offset) % count];
+            SearchNode child = node.getChild(SearchNode.key(kind, action));
+            if(child == null) {
+                path[depth++] = node.addChild(SearchNode.key(kind, action));
+                expanded = true;
+                return action;
+            }
+            total += child.getVisits();
+        }
+
+        double log = Math.log(total);
+        SearchNode best = null;
+        int bestAction = NONE;
+        double bestScore = Double.NEGATIVE_INFINITY;
+        for(int i = 0; i < count; i++) {
+            SearchNode child = node.getChild(SearchNode.key(kind, actions[i]));
+            double score = child.getMean() + EXPLORATION * Math.sqrt(log / child.getVisits());
+            if(score > bestScore) {
+                bestScore = score;
+                best = child;
+                bestAction = actions[i];
+            }
+        }
+        path[depth++] = best;
+        return bestAction;
+    }
+
+    /**
+     * Buys or declines in the tree, the policy decides purchases needing liquidation
+     */
+    @Override
+    public boolean buyProperty(Game game, Player player, Property property, boolean liquidate) {
+        if(!liquidate) {
+            int[] a = actions(2);
+            a[0] = 0;
+            a[1] = 1;
+            int action = select(BUY, 2);
+            if(action != NONE) return action == 1;
+        }
+        return policy.buyProperty(game, player, property, liquidate);
+    }
+
+    /**
+     * Raises by BotDecisions.BID_STEP or passes in the tree
+     */
+    @Override
+    public int bid(Game game, Player bidder, Property property, int bid, Entity highestBidder) {
+        if(bidder.canAfford(bid + BotDecisions.BID_STEP)) {
+            int[] a = actions(2);
+            a[0] = 0;
+            a[1] = 1;
+            int action = select(BID, 2);
+            if(action != NONE) return action == 1 ? bid + BotDecisions.BID_STEP : bid;
+        }
+        return policy.bid(game, bidder, property, bid, highestBidder);
+    }
+
+    /**
+     * Accepts or declines in the tree
+     */
+    @Override
+    public boolean acceptBid(Game game, Player owner, Property property, int bid, Player bidder) {
+        int[] a = actions(2);
+        a[0] = 0;
+        a[1] = 1;
+        int action = select(ACCEPT, 2);
+        return action == NONE ? policy.acceptBid(game, owner, property, bid, bidder) : action == 1;
+    }
+
+    /**
+     * Picks one of the valid jail choices in the tree
+     */
+    @Override
+    public int jailChoice(Game game, Player player, List<Integer> choices) {
+        int[] a = actions(choices.size());
+        for(int i = 0; i < choices.size(); i++) a[i] = choices.get(i);
+        int action = select(JAIL, choices.size());
+        return action == NONE ? policy.jailChoice(game, player, choices) : action;
+    }
+
+    /**
+     * Unmortgaging happens part way through a transfer, so it is left to the policy
+     */
+    @Override
+    public boolean unmortgage(Game game, Player player, Property property) {
+        return policy.unmortgage(game, player, property);
+    }
+
+    /**
+     * Picks an option, or stopping (the last action), in the tree
+     */
+    @Override
+    public Property develop(Game game, Player player, List<Property> options) {
+        int[] a = actions(options.size() + 1);
+        for(int i = 0; i <= options.size(); i++) a[i] = i;
+        int action = select(DEVELOP, options.size() + 1);
+        if(action == NONE) return policy.develop(game, player, options);
+        return action == options.size() ? null : options.get(action);
+    }
+
+    /**
+     * Picks an option in the tree, giving up is never searched
+     */
+    @Override
+    public Property liquidate(Game game, Player player, List<Property> options, int required) {
+        int[] a = actions(options.size());
+        for(int i = 0; i < options.size(); i++) a[i] = i;
+        int action = select(LIQUIDATE, options.size());
+        return action == NONE ? policy.liquidate(game, player, options, required) : options.get(action);
+    }
+}
@@ -0,0 +1,141 @@
+/**
+ * Node of a Monte Carlo search tree
+ *
+ * @author Dale Urquhart
+ * @since 2026-10-19
+ */
+
+package com.monopoly;
+
+import java.util.Arrays;
+
+/**
+ * Statistics of one line of play: the searching player's decisions from the root, whatever the dice did between them
+ * Children are kept in small parallel arrays keyed by (decision kind, action), as nodes rarely have more than a few
+ */
+final class SearchNode {
+
+    /**
+     * Key of each child
+     */
+    private long[] keys;
+
+    /**
+     * Each child, in the order they were added
+     */
+    private SearchNode[] children;
+
+    /**
+     * Number of children
+     */
+    private int size;
+
+    /**
+     * Number of rollouts through the node
+     */
+    private int visits;
+
+    /**
+     * Sum of the rewards of the rollouts through the node
+     */
+    private double reward;
+
+    /**
+     * Constructor for a node with no children
+     */
+    SearchNode() {
+        keys = new long[2];
+        children = new SearchNode[2];
+    }
+
+    /**
+     * Builds the key of a child
+     * @param kind kind of decision taken at the node
+     * @param action action taken
+     * @return the child's key
+     */
+    static long key(int kind, int action) {
+        return ((long) kind << 32) | (action & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Gets a child by key
+     * @param key key of the child
+     * @return the child, null if it was never added
+     */
+    SearchNode getChild(long key) {
+        for(int i = 0; i < size; i++) {
+            if(keys[i] == key) {
+                return children[i];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Adds a child
+     * @param key key of the child
+     * @return the new child
+     */
+    SearchNode addChild(long key) {
+        if(size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            children = Arrays.copyOf(children, size * 2);
+        }
+        SearchNode child = new SearchNode();
+        keys[size] = key;
+        children[size++] = child;
+        return child;
+    }
+
+    /**
+     * Gets the number of children
+     * @return number of children
+     */
+    int getChildCount() {
+        return size;
+    }
+
+    /**
+     * Gets the key of a child by position
+     * @param i position of the child
+     * @return the child's key
+     */
+    long getKey(int i) {
+        return keys[i];
+    }
+
+    /**
+     * Gets a child by position
+     * @param i position of the child
+     * @return the child
+     */
+    SearchNode getChildAt(int i) {
+        return children[i];
+    }
+
+    /**
+     * Counts a rollout through the node
+     * @param result reward of the rollout, between 0 and 1
+     */
+    void update(double result) {
+        visits++;
+        reward += result;
+    }
+
+    /**
+     * Gets the number of rollouts through the node
+     * @return visits of the node
+     */
+    int getVisits() {
+        return visits;
+    }
+
+    /**
+     * Gets the mean reward of the rollouts through the node
+     * @return mean reward, 0 when never visited
+     */
+    double getMean() {
+        return visits == 0 ? 0 : reward / visits;
+    }
+}
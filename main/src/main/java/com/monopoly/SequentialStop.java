@@ -0,0 +1,223 @@
+/**
+ * Early stopping rule for simulation runs
+ *
+ * @author Dale Urquhart
+ * @since 2026-10-19
+ */
+
+package com.monopoly;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * Looks at a running simulation's totals every so many games and decides whether the answer is already known:
+ * either the confidence interval of the target metric is as narrow as asked, or it excludes a value being tested
+ * Every look spends part of the error rate (alpha / (k (k + 1)) at look k, which sums to alpha), so however many
+ * looks a run takes, the interval it stops on still covers the true value with probability at least 1 - alpha
+ * The looks taken are saved with a checkpoint, and a resumed run repeats the last look on the games it already had
+ * rather than spending more of the error rate on them, so it stops where the run would have without the interruption
+ */
+final class SequentialStop {
+
+    /**
+     * Target metric: win rate of the first seat
+     */
+    static final int WIN_RATE = 0;
+
+    /**
+     * Target metric: mean game length in turns
+     */
+    static final int TURNS = 1;
+
+    /**
+     * Names of the target metrics, indexed by metric
+     */
+    static final String[] METRICS = {"win-rate", "turns"};
+
+    /**
+     * Target metric
+     */
+    private final int metric;
+
+    /**
+     * Half-width of the interval to stop at, 0 to not stop on precision
+     */
+    private final double precision;
+
+    /**
+     * Value tested against, stopping once the interval excludes it, NaN to not test
+     */
+    private final double nullValue;
+
+    /**
+     * Error rate across every look
+     */
+    private final double alpha;
+
+    /**
+     * Games between looks
+     */
+    private final long lookGames;
+
+    /**
+     * Looks taken so far
+     */
+    private int looks;
+
+    /**
+     * Games played at the last look
+     */
+    private long lookedAt;
+
+    /**
+     * Estimate of the metric at the last look
+     */
+    private double estimate;
+
+    /**
+     * Half-width of the interval at the last look
+     */
+    private double halfWidth;
+
+    /**
+     * Why the run stopped, null while it should go on
+     */
+    private String decision;
+
+    /**
+     * Constructor for a stopping rule
+     * @param metric target metric (WIN_RATE or TURNS)
+     * @param precision half-width of the interval to stop at, 0 to not stop on precision
+     * @param nullValue value tested against, NaN to not test
+     * @param alpha error rate across every look
+     * @param lookGames games between looks
+     */
+    SequentialStop(int metric, double precision, double nullValue, double alpha, long lookGames) {
+        if(precision <= 0 && Double.isNaN(nullValue)) {
+            throw new IllegalArgumentException("A precision or a value to test against is needed to stop early");
+        }
+        if(alpha <= 0 || alpha >= 1 || lookGames < 1) {
+            throw new IllegalArgumentException("Alpha must be between 0 and 1, and looks at least a game apart");
+        }
+        this.metric = metric;
+        this.precision = precision;
+        this.nullValue = nullValue;
+        this.alpha = alpha;
+        this.lookGames = lookGames;
+    }
+
+    /**
+     * Gets a metric by name
+     * @param name name of the metric
+     * @return the metric
+     */
+    static int metric(String name) {
+        for(int m = 0; m < METRICS.length; m++) {
+            if(METRICS[m].equals(name)) return m;
+        }
+        throw new IllegalArgumentException("Unknown metric " + name);
+    }
+
+    /**
+     * Looks at the totals so far
+     * Totals no larger than at the last look repeat that look, as a resumed run does for the waves it already had
+     * @param stats totals of every game played so far
+     * @return true once the run can stop
+     */
+    boolean look(SimulationStats stats) {
+        if(stats.getGames() > lookedAt) {
+            looks++;
+            lookedAt = stats.getGames();
+        }
+        double n = stats.getGames();
+        double se;
+        if(metric == WIN_RATE) {
+            estimate = stats.getWinRate(0);
+            se = Math.sqrt(estimate * (1 - estimate) / n);
+        } else {
+            estimate = stats.getTurnMoments().getMean();
+            se = stats.getTurnMoments().getStandardDeviation() / Math.sqrt(n);
+        }
+        halfWidth = normalQuantile(1 - alpha / ((double) looks * (looks + 1)) / 2) * se;
+
+        if(!Double.isNaN(nullValue) && se > 0 && Math.abs(estimate - nullValue) > halfWidth) {
+            decision = "interval excludes " + nullValue;
+        } else if(precision > 0 && se > 0 && halfWidth <= precision) {
+            decision = "interval within +/- " + precision;
+        }
+        return decision != null;
+    }
+
+    /**
+     * Gets the games between looks
+     * @return games per look
+     */
+    long getLookGames() {
+        return lookGames;
+    }
+
+    /**
+     * Writes the rule and the looks taken to a checkpoint
+     * @param out stream to write to
+     * @throws IOException If the checkpoint can not be written
+     */
+    void write(DataOutputStream out) throws IOException {
+        out.writeInt(metric);
+        out.writeDouble(precision);
+        out.writeDouble(nullValue);
+        out.writeDouble(alpha);
+        out.writeLong(lookGames);
+        out.writeInt(looks);
+        out.writeLong(lookedAt);
+    }
+
+    /**
+     * Resumes the looks taken from a checkpoint written by write()
+     * @param in stream to read from
+     * @return false if the checkpoint was written with a different rule, which is left as it was
+     * @throws IOException If the checkpoint can not be read
+     */
+    boolean read(DataInputStream in) throws IOException {
+        if(in.readInt() != metric || Double.compare(in.readDouble(), precision) != 0
+                || Double.compare(in.readDouble(), nullValue) != 0 || Double.compare(in.readDouble(), alpha) != 0
+                || in.readLong() != lookGames) {
+            return false;
+        }
+        looks = in.readInt();
+        lookedAt = in.readLong();
+        return true;
+    }
+
+    /**
+     * Describes the last look
+     * @return the estimate, its interval and the decision
+     */
+    String describe() {
+        return String.format("%s %.4f +/- %.4f after %d looks, %s", METRICS[metric], estimate, halfWidth, looks,
+                decision == null ? "no decision reached" : "stopped: " + decision);
+    }
+
+    /**
+     * Inverse of the standard normal distribution function (Acklam's rational approximation, error below 1.2e-9)
+     * @param p probability, between 0 and 1
+     * @return the quantile
+     */
+    static double normalQuantile(double p) {
+        double[] a = {-3.969683028665376e+01, 2.209460984245205e+02, -2.759285104469687e+02, 1.383577518672690e+02, -3.066479806614716e+01, 2.506628277459239e+00};
+        double[] b = {-5.447609879822406e+01, 1.615858368580409e+02, -1.556989798598866e+02, 6.680131188771972e+01, -1.328068155288572e+01};
+        double[] c = {-7.784894002430293e-03, -3.223964580411365e-01, -2.400758277161838e+00, -2.549732539343734e+00, 4.374664141464968e+00, 2.938163982698783e+00};
+        double[] d = {7.784695709041462e-03, 3.224671290700398e-01, 2.445134137142996e+00, 3.754408661907416e+00};
+        if(p < 0.02425) {
+            double q = Math.sqrt(-2 * Math.log(p));
+            return (((((c[0] * q + c[1]) * q + c[2]) * q + c[3]) * q + c[4]) * q + c[5]) / ((((d[0] * q + d[1]) * q + d[2]) * q + d[3]) * q + 1);
+        }
+        if(p > 1 - 0.02425) {
+            return -normalQuantile(1 - p);
+        }
+        double q = p - 0.5, r = q * q;
+        return (((((a[0] * r + a[1]) * r + a[2]) * r + a[3]) * r + a[4]) * r + a[5]) * q
+                / (((((b[0] * r + b[1]) * r + b[2]) * r + b[3]) * r + b[4]) * r + 1);
+    }
+}
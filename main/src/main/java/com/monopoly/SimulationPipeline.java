@@ -0,0 +1,274 @@
+/**
+ * Bounded pipeline carrying finished games from the simulation workers to the writer and aggregator
+ *
+ * @author Dale Urquhart
+ * @since 2026-10-19
+ */
+
+package com.monopoly;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Workers fill a batch per shard and hand it to the writer stage, which writes its rows to the result file,
+ * then to the aggregator stage, which merges it into the run's totals and returns it to the free pool
+ * Only a fixed number of batches exist, so when the disk falls behind the workers block on taking a free batch
+ * instead of the heap growing, and each stage runs on its own thread so the workers never wait on a merge or a write
+ * A worker that fails mid shard releases its batch back to the pool, so no batch is lost and a drain still finishes,
+ * and the stage threads are daemons, so a run that ends in an exception can not keep the JVM alive
+ */
+final class SimulationPipeline {
+
+    /**
+     * Simulator whose stages the pipeline runs
+     */
+    private final Simulator simulator;
+
+    /**
+     * Empty batches ready for a worker
+     */
+    private final BlockingQueue<ResultBatch> free;
+
+    /**
+     * Filled batches waiting for the writer stage
+     */
+    private final BlockingQueue<ResultBatch> writeQueue;
+
+    /**
+     * Written batches waiting for the aggregator stage
+     */
+    private final BlockingQueue<ResultBatch> aggregateQueue;
+
+    /**
+     * Number of batches in flight
+     */
+    private final int batches;
+
+    /**
+     * Batch sent through the stages to close them
+     */
+    private final ResultBatch poison;
+
+    /**
+     * Thread of the writer stage
+     */
+    private final Thread writer;
+
+    /**
+     * Thread of the aggregator stage
+     */
+    private final Thread aggregator;
+
+    /**
+     * Games handed over by the workers
+     */
+    private final LongAdder produced = new LongAdder();
+
+    /**
+     * Games through the writer stage
+     */
+    private final LongAdder written = new LongAdder();
+
+    /**
+     * Games through the aggregator stage
+     */
+    private final LongAdder aggregated = new LongAdder();
+
+    /**
+     * Nanoseconds workers spent waiting for a free batch
+     */
+    private final LongAdder stalled = new LongAdder();
+
+    /**
+     * Constructor for a pipeline, starting its stage threads
+     * @param simulator simulator whose stages the pipeline runs
+     * @param batches number of batches in flight, bounding the memory held by the pipeline
+     * @param capacity games per batch
+     * @param seats number of seats at the table
+     */
+    SimulationPipeline(Simulator simulator, int batches, int capacity, int seats) {
+        this.simulator = simulator;
+        this.batches = batches;
+        free = new ArrayBlockingQueue<>(batches);
+        writeQueue = new ArrayBlockingQueue<>(batches + 1);
+        aggregateQueue = new ArrayBlockingQueue<>(batches + 1);
+        for(int i = 0; i < batches; i++) {
+            free.add(new ResultBatch(capacity, seats));
+        }
+        poison = new ResultBatch(0, seats);
+        poison.clear(-1);
+
+        writer = new Thread(this::write, "simulation-writer");
+        aggregator = new Thread(this::aggregate, "simulation-aggregator");
+        writer.setDaemon(true);
+        aggregator.setDaemon(true);
+        writer.start();
+        aggregator.start();
+    }
+
+    /**
+     * Takes an empty batch for a shard, waiting while every batch is in flight
+     * @param shard shard the batch will hold
+     * @return the empty batch
+     * @throws InterruptedException If the worker is interrupted while waiting
+     */
+    ResultBatch take(int shard) throws InterruptedException {
+        ResultBatch batch = free.poll();
+        if(batch == null) {
+            long start = System.nanoTime();
+            batch = free.take();
+            stalled.add(System.nanoTime() - start);
+        }
+        batch.clear(shard);
+        return batch;
+    }
+
+    /**
+     * Hands a filled batch to the stages
+     * @param batch the filled batch
+     * @throws InterruptedException If the worker is interrupted while waiting
+     */
+    void submit(ResultBatch batch) throws InterruptedException {
+        produced.add(batch.getSize());
+        writeQueue.put(batch);
+    }
+
+    /**
+     * Returns a batch a worker took but could not fill, so it is free again without passing through the stages
+     * @param batch the batch taken
+     */
+    void release(ResultBatch batch) {
+        free.add(batch);
+    }
+
+    /**
+     * Writer stage, writes each batch's rows then passes it on
+     */
+    private void write() {
+        try {
+            while(true) {
+                ResultBatch batch = writeQueue.take();
+                if(batch != poison) {
+                    try {
+                        simulator.writeBatch(batch);
+                    } catch (RuntimeException e) {
+                        Log.error("Shard %d could not be written. Full message:\n%s", batch.getShard(), e);
+                    }
+                    written.add(batch.getSize());
+                }
+                aggregateQueue.put(batch);
+                if(batch == poison) {
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Aggregator stage, merges each batch into the run's totals then frees it
+     */
+    private void aggregate() {
+        try {
+            while(true) {
+                ResultBatch batch = aggregateQueue.take();
+                if(batch == poison) {
+                    return;
+                }
+                try {
+                    simulator.aggregateBatch(batch);
+                } catch (RuntimeException e) {
+                    Log.error("Shard %d could not be aggregated. Full message:\n%s", batch.getShard(), e);
+                }
+                aggregated.add(batch.getSize());
+                free.put(batch);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Waits for every submitted batch to pass through the stages, leaving them running
+     * Only the caller may take batches while it waits, so no worker may be submitting
+     * @throws InterruptedException If interrupted while waiting
+     */
+    void drain() throws InterruptedException {
+        List<ResultBatch> held = new ArrayList<>(batches);
+        for(int i = 0; i < batches; i++) {
+            held.add(free.take());
+        }
+        free.addAll(held);
+    }
+
+    /**
+     * Waits for every submitted batch to pass through the stages, then stops them
+     * @throws InterruptedException If interrupted while waiting
+     */
+    void close() throws InterruptedException {
+        writeQueue.put(poison);
+        writer.join();
+        aggregator.join();
+    }
+
+    /**
+     * Gets the number of games handed over by the workers
+     * @return games produced
+     */
+    long getProduced() {
+        return produced.sum();
+    }
+
+    /**
+     * Gets the number of games through the writer stage
+     * @return games written
+     */
+    long getWritten() {
+        return written.sum();
+    }
+
+    /**
+     * Gets the number of games through the aggregator stage
+     * @return games aggregated
+     */
+    long getAggregated() {
+        return aggregated.sum();
+    }
+
+    /**
+     * Gets the time workers spent waiting for a free batch
+     * @return nanoseconds stalled by backpressure
+     */
+    long getStalled() {
+        return stalled.sum();
+    }
+
+    /**
+     * Gets the number of batches waiting for the writer stage
+     * @return depth of the write queue
+     */
+    int getWriteDepth() {
+        return writeQueue.size();
+    }
+
+    /**
+     * Gets the number of batches waiting for the aggregator stage
+     * @return depth of the aggregate queue
+     */
+    int getAggregateDepth() {
+        return aggregateQueue.size();
+    }
+
+    /**
+     * Gets the number of batches free for the workers
+     * @return free batches
+     */
+    int getFree() {
+        return free.size();
+    }
+}
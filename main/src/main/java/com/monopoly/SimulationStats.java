@@ -0,0 +1,365 @@
+/**
+ * Statistics gathered over simulated games
+ *
+ * @author Dale Urquhart
+ * @since 2026-10-19
+ */
+
+package com.monopoly;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Counts kept while playing a shard of games, merged into the run's totals as each shard finishes
+ * Only histograms, moments and per-space arrays are kept, so memory does not grow with the number of games
+ */
+final class SimulationStats {
+
+    /**
+     * Number of seats at the table
+     */
+    private final int seats;
+
+    /**
+     * Number of games recorded
+     */
+    private long games;
+
+    /**
+     * Number of games that ended without a winner
+     */
+    private long unfinished;
+
+    /**
+     * Game lengths in turns
+     */
+    private final LogHistogram turns;
+
+    /**
+     * Moments of the game lengths
+     */
+    private final Moments turnMoments;
+
+    /**
+     * Balances of the players left at the end of each game
+     */
+    private final LogHistogram balances;
+
+    /**
+     * Moments of the final balances
+     */
+    private final Moments balanceMoments;
+
+    /**
+     * Number of games won, indexed by seat
+     */
+    private final long[] wins;
+
+    /**
+     * Number of bankruptcies, indexed by cause
+     */
+    private final long[] bankruptcies;
+
+    /**
+     * Number of games by how they ended, indexed by ending
+     */
+    private final long[] endings;
+
+    /**
+     * Number of times players moved onto each space, indexed by space
+     */
+    private final long[] visits;
+
+    /**
+     * Rent collected on each space, indexed by space
+     */
+    private final long[] rent;
+
+    /**
+     * Number of times each space was bought from the bank, indexed by space
+     */
+    private final long[] purchases;
+
+    /**
+     * Constructor for empty statistics
+     * @param seats number of seats at the table
+     */
+    SimulationStats(int seats) {
+        this.seats = seats;
+        turns = new LogHistogram();
+        turnMoments = new Moments();
+        balances = new LogHistogram();
+        balanceMoments = new Moments();
+        wins = new long[seats];
+        bankruptcies = new long[Game.BANKRUPTCY_CAUSES.length];
+        endings = new long[Game.ENDINGS.length];
+        visits = new long[Game.BOARD_SIZE];
+        rent = new long[Game.BOARD_SIZE];
+        purchases = new long[Game.BOARD_SIZE];
+    }
+
+    /**
+     * Records the outcome of a finished game
+     * @param game the game played
+     * @param turnsPlayed number of turns the game lasted
+     */
+    void record(Game game, int turnsPlayed) {
+        games++;
+        turns.record(turnsPlayed);
+        turnMoments.add(turnsPlayed);
+
+        Player winner = game.getWinner();
+        if(winner != null) {
+            wins[winner.getID()]++;
+        } else {
+            unfinished++;
+        }
+        endings[game.getEnding()]++;
+
+        for(int i = 0; i < game.getPlayerCount(); i++) {
+            int balance = game.getPlayer(i).getBalance();
+            balances.record(balance);
+            balanceMoments.add(balance);
+        }
+
+        int[] causes = game.getBankruptcies();
+        for(int i = 0; i < causes.length; i++) {
+            bankruptcies[i] += causes[i];
+        }
+
+        BoardSpace[] map = game.getMap();
+        for(int i = 0; i < map.length; i++) {
+            visits[i] += map[i].getVisits();
+            if(map[i] instanceof Property) {
+                Property property = (Property) map[i];
+                rent[i] += property.getRentCollected();
+                purchases[i] += property.getPurchases();
+            }
+        }
+    }
+
+    /**
+     * Adds another shard's statistics to these
+     * @param other statistics to merge in
+     */
+    void merge(SimulationStats other) {
+        games += other.games;
+        unfinished += other.unfinished;
+        turns.merge(other.turns);
+        turnMoments.merge(other.turnMoments);
+        balances.merge(other.balances);
+        balanceMoments.merge(other.balanceMoments);
+        add(wins, other.wins);
+        add(bankruptcies, other.bankruptcies);
+        add(endings, other.endings);
+        add(visits, other.visits);
+        add(rent, other.rent);
+        add(purchases, other.purchases);
+    }
+
+    /**
+     * Empties the statistics so they can be reused for another shard
+     */
+    void clear() {
+        games = 0;
+        unfinished = 0;
+        turns.clear();
+        turnMoments.clear();
+        balances.clear();
+        balanceMoments.clear();
+        Arrays.fill(wins, 0);
+        Arrays.fill(bankruptcies, 0);
+        Arrays.fill(endings, 0);
+        Arrays.fill(visits, 0);
+        Arrays.fill(rent, 0);
+        Arrays.fill(purchases, 0);
+    }
+
+    /**
+     * Adds counts to counts of the same shape
+     * @param into counts to add to
+     * @param from counts to add
+     */
+    private static void add(long[] into, long[] from) {
+        for(int i = 0; i < into.length; i++) {
+            into[i] += from[i];
+        }
+    }
+
+    /**
+     * Gets the number of games recorded
+     * @return number of games recorded
+     */
+    long getGames() {
+        return games;
+    }
+
+    /**
+     * Gets the number of games that ended without a winner
+     * @return number of unfinished games
+     */
+    long getUnfinished() {
+        return unfinished;
+    }
+
+    /**
+     * Gets the game length histogram
+     * @return game lengths in turns
+     */
+    LogHistogram getTurns() {
+        return turns;
+    }
+
+    /**
+     * Gets the moments of the game lengths
+     * @return moments of the game lengths
+     */
+    Moments getTurnMoments() {
+        return turnMoments;
+    }
+
+    /**
+     * Gets the final balance histogram
+     * @return balances of the players left at the end of each game
+     */
+    LogHistogram getBalances() {
+        return balances;
+    }
+
+    /**
+     * Gets the moments of the final balances
+     * @return moments of the final balances
+     */
+    Moments getBalanceMoments() {
+        return balanceMoments;
+    }
+
+    /**
+     * Gets the share of games won by a seat
+     * @param seat seat at the table
+     * @return win rate of the seat
+     */
+    double getWinRate(int seat) {
+        return games == 0 ? 0 : (double) wins[seat] / games;
+    }
+
+    /**
+     * Gets the number of bankruptcies by a cause
+     * @param cause bankruptcy cause from Game
+     * @return number of bankruptcies
+     */
+    long getBankruptcies(int cause) {
+        return bankruptcies[cause];
+    }
+
+    /**
+     * Gets the number of games that ended a way
+     * @param ending ending from Game
+     * @return number of games
+     */
+    long getEndings(int ending) {
+        return endings[ending];
+    }
+
+    /**
+     * Gets the number of times players moved onto a space
+     * @param space index of the space
+     * @return number of visits
+     */
+    long getVisits(int space) {
+        return visits[space];
+    }
+
+    /**
+     * Gets the rent collected on a space
+     * @param space index of the space
+     * @return rent collected
+     */
+    long getRent(int space) {
+        return rent[space];
+    }
+
+    /**
+     * Gets the number of times a space was bought from the bank
+     * @param space index of the space
+     * @return number of purchases
+     */
+    long getPurchases(int space) {
+        return purchases[space];
+    }
+
+    /**
+     * Gets the number of seats at the table
+     * @return number of seats
+     */
+    int getSeats() {
+        return seats;
+    }
+
+    /**
+     * Writes the statistics to a checkpoint
+     * @param out stream to write to
+     * @throws IOException If the checkpoint can not be written
+     */
+    void write(DataOutputStream out) throws IOException {
+        out.writeInt(seats);
+        out.writeLong(games);
+        out.writeLong(unfinished);
+        turns.write(out);
+        turnMoments.write(out);
+        balances.write(out);
+        balanceMoments.write(out);
+        write(out, wins);
+        write(out, bankruptcies);
+        write(out, endings);
+        write(out, visits);
+        write(out, rent);
+        write(out, purchases);
+    }
+
+    /**
+     * Writes counts to a checkpoint
+     * @param out stream to write to
+     * @param counts counts to write
+     * @throws IOException If the checkpoint can not be written
+     */
+    private static void write(DataOutputStream out, long[] counts) throws IOException {
+        for(long count : counts) out.writeLong(count);
+    }
+
+    /**
+     * Reads statistics written by write()
+     * @param in stream to read from
+     * @return the statistics read
+     * @throws IOException If the checkpoint can not be read
+     */
+    static SimulationStats read(DataInputStream in) throws IOException {
+        SimulationStats stats = new SimulationStats(in.readInt());
+        stats.games = in.readLong();
+        stats.unfinished = in.readLong();
+        stats.turns.merge(LogHistogram.read(in));
+        stats.turnMoments.merge(Moments.read(in));
+        stats.balances.merge(LogHistogram.read(in));
+        stats.balanceMoments.merge(Moments.read(in));
+        read(in, stats.wins);
+        read(in, stats.bankruptcies);
+        read(in, stats.endings);
+        read(in, stats.visits);
+        read(in, stats.rent);
+        read(in, stats.purchases);
+        return stats;
+    }
+
+    /**
+     * Reads counts written by write()
+     * @param in stream to read from
+     * @param counts counts to fill
+     * @throws IOException If the checkpoint can not be read
+     */
+    private static void read(DataInputStream in, long[] counts) throws IOException {
+        for(int i = 0; i < counts.length; i++) counts[i] = in.readLong();
+    }
+}
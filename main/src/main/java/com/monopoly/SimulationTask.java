@@ -0,0 +1,58 @@
+/**
+ * Fork/join task over shards of simulated games
+ *
+ * @author Dale Urquhart
+ * @since 2026-10-19
+ */
+
+package com.monopoly;
+
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Plays a range of shards, splitting it in half until a single shard is left
+ * Idle workers steal the unsplit halves, so uneven game lengths still keep every core busy
+ */
+final class SimulationTask extends RecursiveAction {
+
+    /**
+     * Simulator the games are played for
+     */
+    private final Simulator simulator;
+
+    /**
+     * First shard of the range
+     */
+    private final int from;
+
+    /**
+     * Shard after the last shard of the range
+     */
+    private final int to;
+
+    /**
+     * Constructor for a task over shards [from, to)
+     * @param simulator Simulator the games are played for
+     * @param from first shard
+     * @param to shard after the last shard
+     */
+    SimulationTask(Simulator simulator, int from, int to) {
+        this.simulator = simulator;
+        this.from = from;
+        this.to = to;
+    }
+
+    /**
+     * Plays the shards of the range, each finished shard is handed to the simulator
+     */
+    @Override
+    protected void compute() {
+        if(to - from == 1) {
+            simulator.playShard(from);
+            return;
+        }
+
+        int mid = (from + to) >>> 1;
+        invokeAll(new SimulationTask(simulator, from, mid), new SimulationTask(simulator, mid, to));
+    }
+}
@@ -0,0 +1,844 @@
+/**
+ * Command line batch simulator, plays headless games with no GUI
+ *
+ * @author Dale Urquhart
+ * @since 2026-10-19
+ */
+
+package com.monopoly;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.ToDoubleBiFunction;
+
+/**
+ * Runs many headless games across a ForkJoinPool and reports the merged statistics
+ * Every game is seeded from (master seed, game index), so a run plays out the same regardless of thread count
+ * With a checkpoint file the run's totals and finished shards are saved periodically, and an interrupted run
+ * resumes from the file, giving the same results as if it had never stopped
+ * Finished shards go through a bounded SimulationPipeline, so writing and merging never hold up the workers
+ * and a slow disk slows the workers down rather than filling the heap
+ * With a stopping rule the shards are played in waves of --look games, and after each wave the rule decides from the
+ * totals whether to go on, so a run stops at the same game whatever the thread count (see SequentialStop)
+ *
+ * Usage (from src/main/java, like App): java com.monopoly.Simulator [--games N] [--players P] [--threads T]
+ *                                          [--seed S] [--max-turns M] [--shard-size K]
+ *                                          [--stall W] [--stall-tolerance X] [--stall-rule draw|tiebreak]
+ *                                          [--checkpoint FILE] [--checkpoint-interval SECONDS]
+ *                                          [--results FILE] [--progress SECONDS]
+ *                                          [--stop METRIC] [--precision H] [--null V] [--alpha A] [--look N]
+ *                                          [--metrics PORT] [--check-money true]
+ * With --stall a game whose board made no progress for W turns is ended by the --stall-rule, see StallDetector
+ * With a results file every game also gets a row in a columnar file, see ResultWriter and ResultReader
+ * (rows of games a stopped run never played stay zero)
+ * With --metrics the run's counters, gauges and turn latencies are served for scraping, see MetricsServer
+ * With --check-money true every game checks that its balances match its ledger after each phase, see MoneyCheck
+ */
+public final class Simulator {
+
+    /**
+     * Simulator whose run the simulation gauges read, null while none is going
+     * Cleared as the run ends, so the gauges keep no finished run's pipeline alive
+     */
+    private static final AtomicReference<Simulator> GAUGED = new AtomicReference<>();
+
+    /**
+     * Games simulated by every run in the process
+     */
+    private static final Metrics.Counter GAMES = Metrics.DEFAULT.counter("monopoly_simulated_games_total",
+        "Games simulated and merged into a run's totals");
+
+    /**
+     * Number of games to play
+     */
+    private final long games;
+
+    /**
+     * Number of players per game
+     */
+    private final int players;
+
+    /**
+     * Number of worker threads
+     */
+    private final int threads;
+
+    /**
+     * Master seed every game seed is derived from
+     */
+    private final long seed;
+
+    /**
+     * Turn cap for a single game
+     */
+    private final int maxTurns;
+
+    /**
+     * Number of games per shard
+     */
+    private final int shardSize;
+
+    /**
+     * Result file column: index of the game
+     */
+    static final int COLUMN_GAME = 0;
+
+    /**
+     * Result file column: seed of the game
+     */
+    static final int COLUMN_SEED = 1;
+
+    /**
+     * Result file column: turns played
+     */
+    static final int COLUMN_TURNS = 2;
+
+    /**
+     * Result file column: seat of the winner, -1 if the game ended without one
+     */
+    static final int COLUMN_WINNER = 3;
+
+    /**
+     * Result file column: turn of the first monopoly, -1 if there was none
+     */
+    static final int COLUMN_FIRST_MONOPOLY = 4;
+
+    /**
+     * Result file column: number of bankruptcies
+     */
+    static final int COLUMN_BANKRUPTCIES = 5;
+
+    /**
+     * Result file column: how the game ended, an ending from Game
+     */
+    static final int COLUMN_ENDING = 6;
+
+    /**
+     * Result file column: final balance of the first seat, later seats follow, 0 once bankrupt
+     */
+    static final int COLUMN_BALANCE = 7;
+
+    /**
+     * Per-game result file, or null to not write one
+     */
+    private ResultWriter results;
+
+    /**
+     * Statistics of every finished shard
+     */
+    private SimulationStats total;
+
+    /**
+     * Shards finished so far
+     */
+    private final BitSet completed;
+
+    /**
+     * Shards already finished when the run was resumed, never changes while the run is going
+     */
+    private BitSet resumed;
+
+    /**
+     * Number of games played since the run was (re)started
+     */
+    private long played;
+
+    /**
+     * Checkpoint file, or null to not checkpoint
+     */
+    private File checkpoint;
+
+    /**
+     * Time between checkpoints in nanoseconds
+     */
+    private long checkpointInterval;
+
+    /**
+     * Time of the last checkpoint in nanoseconds
+     */
+    private long lastCheckpoint;
+
+    /**
+     * Seconds between progress lines, 0 to print none
+     */
+    private long progressInterval;
+
+    /**
+     * Pipeline of the run in progress, null when no run is going
+     */
+    private volatile SimulationPipeline pipeline;
+
+    /**
+     * Start of the run in progress in nanoseconds
+     */
+    private volatile long started;
+
+    /**
+     * Rule stopping the run early, null to play every game
+     */
+    private SequentialStop stop;
+
+    /**
+     * Rules every game is played with
+     */
+    private GameRules rules = GameRules.STANDARD;
+
+    /**
+     * Turns without progress before a game is stalled, 0 to play every game to the end or the turn cap
+     */
+    private int stallWindow;
+
+    /**
+     * Share of net worth a player may lose over the stall window and still be stalled
+     */
+    private double stallTolerance;
+
+    /**
+     * Rule stalled games are ended by
+     */
+    private int stallRule;
+
+    /**
+     * Whether every game checks that its balances match its ledger
+     */
+    private boolean checkMoney;
+
+    /**
+     * Number of games whose balances did not match their ledger
+     */
+    private long unbalanced;
+
+    /**
+     * Index of the first game whose balances did not match their ledger, -1 for none
+     */
+    private long firstUnbalanced = -1;
+
+    /**
+     * What did not match in that game
+     */
+    private String firstUnbalancedReport;
+
+    /**
+     * Constructor for a simulator
+     * @param games number of games to play
+     * @param players number of players per game
+     * @param threads number of worker threads
+     * @param seed master seed
+     * @param maxTurns turn cap for a single game
+     * @param shardSize number of games per shard
+     */
+    Simulator(long games, int players, int threads, long seed, int maxTurns, int shardSize) {
+        if(players < 2 || players > 4) {
+            throw new IllegalArgumentException("Player count must be between 2 and 4");
+        }
+        this.games = games;
+        this.players = players;
+        this.threads = threads;
+        this.seed = seed;
+        this.maxTurns = maxTurns;
+        this.shardSize = shardSize;
+        total = new SimulationStats(players);
+        completed = new BitSet();
+        resumed = new BitSet();
+    }
+
+    /**
+     * Periodically saves the run to a checkpoint file, resuming from it if it already exists
+     * Set after the rules, the money check and the stopping rule, which a resumed checkpoint must have been written with
+     * and whose looks are resumed with the run
+     * @param file checkpoint file
+     * @param intervalSeconds time between checkpoints
+     * @throws IOException If an existing checkpoint can not be read
+     */
+    void setCheckpoint(File file, long intervalSeconds) throws IOException {
+        checkpoint = file;
+        checkpointInterval = intervalSeconds * 1_000_000_000L;
+        lastCheckpoint = System.nanoTime();
+        if(file.exists()) {
+            readCheckpoint();
+        }
+    }
+
+    /**
+     * Writes a row per game to a columnar result file, keeping the rows of the run being resumed
+     * Set after the checkpoint, which says whether the run is resuming; a run that is not starts the file over
+     * @param file result file
+     * @throws IOException If the file can not be created
+     */
+    void setResults(File file) throws IOException {
+        String[] names = new String[COLUMN_BALANCE + players];
+        int[] widths = new int[names.length];
+        names[COLUMN_GAME] = "game";
+        names[COLUMN_SEED] = "seed";
+        names[COLUMN_TURNS] = "turns";
+        names[COLUMN_WINNER] = "winner";
+        names[COLUMN_FIRST_MONOPOLY] = "turns_until_first_monopoly";
+        names[COLUMN_BANKRUPTCIES] = "bankruptcies";
+        names[COLUMN_ENDING] = "ending";
+        for(int seat = 0; seat < players; seat++) {
+            names[COLUMN_BALANCE + seat] = "balance_" + (seat + 1);
+        }
+        Arrays.fill(widths, ResultWriter.INT);
+        widths[COLUMN_GAME] = ResultWriter.LONG;
+        widths[COLUMN_SEED] = ResultWriter.LONG;
+        results = new ResultWriter(file, names, widths, games, seed, !resumed.isEmpty());
+    }
+
+    /**
+     * Prints the pipeline's queue depths and stage throughput periodically while running
+     * @param intervalSeconds time between progress lines, 0 to print none
+     */
+    void setProgress(long intervalSeconds) {
+        progressInterval = intervalSeconds;
+    }
+
+    /**
+     * Stops the run once a rule decides the answer is known
+     * @param stop the stopping rule, null to play every game
+     */
+    void setStop(SequentialStop stop) {
+        this.stop = stop;
+    }
+
+    /**
+     * Plays every game with the given rules
+     * @param rules the rules, shared by every game
+     */
+    void setRules(GameRules rules) {
+        this.rules = rules;
+    }
+
+    /**
+     * Ends games that stall before the turn cap
+     * @param window turns without progress before a game is stalled, 0 to not look for stalls
+     * @param tolerance share of net worth a player may lose over the window and still be stalled
+     * @param rule rule stalled games are ended by, from StallDetector
+     */
+    void setStall(int window, double tolerance, int rule) {
+        stallWindow = window;
+        stallTolerance = tolerance;
+        stallRule = rule;
+    }
+
+    /**
+     * Checks every game's balances against its ledger, reporting the first game that does not
+     * @param checkMoney whether to check
+     */
+    void setCheckMoney(boolean checkMoney) {
+        this.checkMoney = checkMoney;
+    }
+
+    /**
+     * Gets the number of games whose balances did not match their ledger
+     * @return the number of games, 0 when not checking
+     */
+    synchronized long getUnbalanced() {
+        return unbalanced;
+    }
+
+    /**
+     * Describes the first game, by index, whose balances did not match their ledger
+     * @return the game and its first difference, null if there was none
+     */
+    synchronized String getFirstUnbalanced() {
+        return firstUnbalanced < 0 ? null : "game " + firstUnbalanced + ", " + firstUnbalancedReport;
+    }
+
+    /**
+     * Records a game whose balances did not match their ledger
+     * @param index index of the game
+     * @param report its first difference
+     */
+    private synchronized void unbalanced(long index, String report) {
+        unbalanced++;
+        if(firstUnbalanced < 0 || index < firstUnbalanced) {
+            firstUnbalanced = index;
+            firstUnbalancedReport = report;
+        }
+    }
+
+    /**
+     * Gets the number of shards the games are split into
+     * @return number of shards
+     */
+    int getShardCount() {
+        return (int) ((games + shardSize - 1) / shardSize);
+    }
+
+    /**
+     * Derives the seed of a game from the master seed and the game's index (SplitMix64 finalizer)
+     * @param seed master seed
+     * @param index index of the game
+     * @return seed of the game
+     */
+    static long seedFor(long seed, long index) {
+        long z = seed + (index + 1) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Plays every game of a shard, unless it was finished before the run was resumed
+     * A game that throws ends the shard, and its batch goes back to the pipeline unsubmitted
+     * @param shard index of the shard
+     */
+    void playShard(int shard) {
+        if(resumed.get(shard)) {
+            return;
+        }
+
+        try {
+            SimulationPipeline running = pipeline;
+            ResultBatch batch = running.take(shard);
+            boolean submitted = false;
+            try {
+                long first = (long) shard * shardSize;
+                long last = Math.min(first + shardSize, games);
+                for(long index = first; index < last; index++) {
+                    batch.add(index, seedFor(seed, index), playGame(index));
+                }
+                running.submit(batch);
+                submitted = true;
+            } finally {
+                if(!submitted) {
+                    running.release(batch);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while playing shard " + shard, e);
+        }
+    }
+
+    /**
+     * Writer stage: writes a finished shard's rows to the result file
+     * @param batch the finished shard
+     */
+    void writeBatch(ResultBatch batch) {
+        if(results != null) {
+            batch.write(results);
+        }
+    }
+
+    /**
+     * Aggregator stage: merges a finished shard into the run's totals, and checkpoints when it is due
+     * Totals and finished shards change together, so a checkpoint always holds whole shards
+     * With a stopping rule the run checkpoints after each look instead, so a checkpoint holds whole waves
+     * @param batch the finished shard, already through the writer stage
+     */
+    synchronized void aggregateBatch(ResultBatch batch) {
+        total.merge(batch.getStats());
+        completed.set(batch.getShard());
+        played += batch.getSize();
+        GAMES.add(batch.getSize());
+
+        if(stop == null && isCheckpointDue()) {
+            writeCheckpoint();
+        }
+    }
+
+    /**
+     * Checks whether a checkpoint is due
+     * @return true if checkpointing and the interval has passed since the last one
+     */
+    private boolean isCheckpointDue() {
+        return checkpoint != null && System.nanoTime() - lastCheckpoint >= checkpointInterval;
+    }
+
+    /**
+     * Writes the run's totals and finished shards to the checkpoint file
+     * Written to a temporary file first, so an interruption mid write leaves the last checkpoint intact
+     */
+    private synchronized void writeCheckpoint() {
+        // Rows of the finished shards must be on disk before the checkpoint says they are finished
+        if(results != null) {
+            results.flush();
+        }
+        File tmp = new File(checkpoint.getPath() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmp)))) {
+            out.writeLong(games);
+            out.writeInt(players);
+            out.writeLong(seed);
+            out.writeInt(maxTurns);
+            out.writeInt(shardSize);
+            out.writeInt(stallWindow);
+            out.writeDouble(stallTolerance);
+            out.writeInt(stallRule);
+            out.writeInt(rules.getBail());
+            out.writeInt(rules.getGoReward());
+            out.writeInt(rules.getStartingBalance());
+            out.writeDouble(rules.getMortgageInterest());
+            out.writeBoolean(checkMoney);
+            out.writeBoolean(stop != null);
+            if(stop != null) {
+                stop.write(out);
+            }
+            long[] words = completed.toLongArray();
+            out.writeInt(words.length);
+            for(long word : words) out.writeLong(word);
+            total.write(out);
+        } catch (IOException e) {
+            System.err.println("Checkpoint could not be written, the run continues. Full message:\n" + e);
+            return;
+        }
+
+        try {
+            Files.move(tmp.toPath(), checkpoint.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            lastCheckpoint = System.nanoTime();
+        } catch (IOException e) {
+            System.err.println("Checkpoint could not be replaced, the run continues. Full message:\n" + e);
+        }
+    }
+
+    /**
+     * Reads the run's totals and finished shards from the checkpoint file
+     * @throws IOException If the checkpoint can not be read, or was written for a different run
+     */
+    private void readCheckpoint() throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(checkpoint)))) {
+            if(in.readLong() != games || in.readInt() != players || in.readLong() != seed
+                    || in.readInt() != maxTurns || in.readInt() != shardSize || in.readInt() != stallWindow
+                    || in.readDouble() != stallTolerance || in.readInt() != stallRule
+                    || in.readInt() != rules.getBail() || in.readInt() != rules.getGoReward()
+                    || in.readInt() != rules.getStartingBalance() || in.readDouble() != rules.getMortgageInterest()
+                    || in.readBoolean() != checkMoney) {
+                throw new IOException("Checkpoint " + checkpoint + " was written with different run options");
+            }
+            if(in.readBoolean() != (stop != null) || (stop != null && !stop.read(in))) {
+                throw new IOException("Checkpoint " + checkpoint + " was written with a different stopping rule");
+            }
+            long[] words = new long[in.readInt()];
+            for(int i = 0; i < words.length; i++) words[i] = in.readLong();
+            completed.or(BitSet.valueOf(words));
+            resumed = (BitSet) completed.clone();
+            total = SimulationStats.read(in);
+        }
+    }
+
+    /**
+     * Plays a single headless game until one player is left, it stalls or the turn cap is hit
+     * @param index index of the game
+     * @return the finished game
+     */
+    Game playGame(long index) {
+        Game game = Game.headless(new Random(seedFor(seed, index)), rules, players);
+        GameController controller = new GameController(game);
+        if(stallWindow > 0) {
+            game.setStallDetector(new StallDetector(game, stallWindow, stallTolerance, stallRule));
+        }
+        MoneyCheck money = checkMoney ? game.checkMoney() : null;
+
+        while(!game.isOver()) {
+            if(game.getTurnsPlayed() >= maxTurns) {
+                game.end(Game.ENDED_TURN_CAP, false);
+                break;
+            }
+            game.playTurn(controller);
+        }
+        if(money != null && money.getViolations() > 0) {
+            unbalanced(index, money.getFirstViolation());
+        }
+        return game;
+    }
+
+    /**
+     * Plays every game across the worker threads
+     * @return merged statistics of every game
+     */
+    SimulationStats run() {
+        // Two batches per worker, so a worker can fill one while its last is still in the stages
+        SimulationPipeline running = new SimulationPipeline(this, threads * 2, shardSize, players);
+        started = System.nanoTime();
+        pipeline = running;
+        GAUGED.set(this);
+        registerMetrics();
+        ScheduledExecutorService progress = null;
+        if(progressInterval > 0) {
+            progress = Executors.newSingleThreadScheduledExecutor(task -> {
+                Thread thread = new Thread(task, "simulation-progress");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long start = System.nanoTime();
+            progress.scheduleAtFixedRate(() -> printProgress(running, start), progressInterval, progressInterval, TimeUnit.SECONDS);
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        int shards = getShardCount();
+        int wave = stop == null ? shards : (int) Math.max(1, Math.min(shards, stop.getLookGames() / shardSize));
+        // Whether the run ended on a wave, as a checkpoint with a stopping rule must
+        boolean whole = true;
+        try {
+            try {
+                for(int from = 0; from < shards; from += wave) {
+                    pool.invoke(new SimulationTask(this, from, Math.min(from + wave, shards)));
+                    if(stop != null) {
+                        running.drain();
+                        boolean stopped = stop.look(total);
+                        if(isCheckpointDue()) {
+                            writeCheckpoint();
+                        }
+                        if(stopped) break;
+                    }
+                }
+            } finally {
+                // Even when a game threw, the shards already submitted pass through the stages before they stop
+                running.close();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            whole = stop == null;
+            System.err.println("Interrupted before the pipeline drained, the last checkpoint may be behind");
+        } finally {
+            pool.shutdown();
+            if(progress != null) {
+                progress.shutdownNow();
+            }
+            pipeline = null;
+            GAUGED.compareAndSet(this, null);
+            if(results != null) {
+                try {
+                    results.close();
+                } catch (IOException e) {
+                    System.err.println("Result file could not be closed. Full message:\n" + e);
+                }
+            }
+        }
+        if(checkpoint != null && whole) {
+            writeCheckpoint();
+        }
+        return total;
+    }
+
+    /**
+     * Points the simulation gauges at the run in progress: its throughput, queue depths and time lost to backpressure
+     * They read 0 between runs
+     */
+    private static void registerMetrics() {
+        Metrics.DEFAULT.gauge("monopoly_simulation_games_per_second", "Games a run has merged per second since it started",
+            () -> gauged((running, seconds) -> running.getAggregated() / seconds));
+        Metrics.DEFAULT.gauge("monopoly_simulation_write_queue_depth", "Finished shards waiting for the writer stage",
+            () -> gauged((running, seconds) -> running.getWriteDepth()));
+        Metrics.DEFAULT.gauge("monopoly_simulation_aggregate_queue_depth", "Written shards waiting for the aggregator stage",
+            () -> gauged((running, seconds) -> running.getAggregateDepth()));
+        Metrics.DEFAULT.gauge("monopoly_simulation_free_batches", "Empty shard batches waiting for a worker",
+            () -> gauged((running, seconds) -> running.getFree()));
+        Metrics.DEFAULT.gauge("monopoly_simulation_stalled_seconds", "Time workers have spent blocked on a full pipeline",
+            () -> gauged((running, seconds) -> running.getStalled() / 1e9));
+    }
+
+    /**
+     * Reads a gauge of the run in progress
+     * @param read reads the gauge from the run's pipeline and its seconds running
+     * @return the gauge, 0 while no run is going
+     */
+    private static double gauged(ToDoubleBiFunction<SimulationPipeline, Double> read) {
+        Simulator simulator = GAUGED.get();
+        SimulationPipeline running = simulator == null ? null : simulator.pipeline;
+        return running == null ? 0 : read.applyAsDouble(running, (System.nanoTime() - simulator.started) / 1e9);
+    }
+
+    /**
+     * Prints a progress line: games through each stage, queue depths and time lost to backpressure
+     * @param running pipeline of the run
+     * @param start start of the run in nanoseconds
+     */
+    private static void printProgress(SimulationPipeline running, long start) {
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("Produced %d (%.0f/s), written %d (%.0f/s), aggregated %d (%.0f/s); "
+                        + "queued to write %d, to aggregate %d, free %d; workers stalled %.2fs%n",
+                running.getProduced(), running.getProduced() / seconds,
+                running.getWritten(), running.getWritten() / seconds,
+                running.getAggregated(), running.getAggregated() / seconds,
+                running.getWriteDepth(), running.getAggregateDepth(), running.getFree(),
+                running.getStalled() / 1e9);
+    }
+
+    /**
+     * Gets the number of games played since the run was (re)started
+     * @return games played by this process
+     */
+    synchronized long getPlayed() {
+        return played;
+    }
+
+    /**
+     * Prints the report of a finished run
+     * @param stats merged statistics of the run
+     * @param played games played by this process, less than the total when resumed
+     * @param seconds wall clock time of the run
+     * @param map board the games were played on, for space and group names
+     */
+    static void report(SimulationStats stats, long played, double seconds, BoardSpace[] map) {
+        System.out.printf("Games: %d (%d without a winner), %d played in %.2fs, %.0f games/s%n",
+                stats.getGames(), stats.getUnfinished(), played, seconds, played / seconds);
+        System.out.printf("Turns: median %d, p99 %d, mean %.1f, sd %.1f%n",
+                stats.getTurns().getQuantile(0.5), stats.getTurns().getQuantile(0.99),
+                stats.getTurnMoments().getMean(), stats.getTurnMoments().getStandardDeviation());
+        System.out.printf("Final balances: median %d, p99 %d, mean %.0f, sd %.0f%n",
+                stats.getBalances().getQuantile(0.5), stats.getBalances().getQuantile(0.99),
+                stats.getBalanceMoments().getMean(), stats.getBalanceMoments().getStandardDeviation());
+
+        System.out.print("Win rate by seat:");
+        for(int seat = 0; seat < stats.getSeats(); seat++) {
+            System.out.printf(" %d: %.2f%%", seat + 1, stats.getWinRate(seat) * 100);
+        }
+        System.out.println();
+
+        System.out.print("Endings:");
+        for(int ending = 0; ending < Game.ENDINGS.length; ending++) {
+            System.out.print(" " + Game.ENDINGS[ending] + ": " + stats.getEndings(ending));
+        }
+        System.out.println();
+
+        System.out.print("Bankruptcies:");
+        for(int cause = 0; cause < Game.BANKRUPTCY_CAUSES.length; cause++) {
+            System.out.print(" " + Game.BANKRUPTCY_CAUSES[cause] + ": " + stats.getBankruptcies(cause));
+        }
+        System.out.println();
+
+        // Rent and cost summed per group, as {rent, cost of every purchase}
+        Map<String, long[]> groups = new LinkedHashMap<>();
+        for(BoardSpace space : map) {
+            if(space instanceof Property) {
+                Property property = (Property) space;
+                long[] group = groups.computeIfAbsent(property.getType(), type -> new long[2]);
+                group[0] += stats.getRent(space.getId());
+                group[1] += stats.getPurchases(space.getId()) * property.getPrice();
+            }
+        }
+
+        System.out.println("Rent by group (per game, return on purchase price):");
+        for(Map.Entry<String, long[]> group : groups.entrySet()) {
+            long[] totals = group.getValue();
+            System.out.printf("  %-10s $%.1f, %.1f%%%n", group.getKey(),
+                    stats.getGames() == 0 ? 0 : (double) totals[0] / stats.getGames(),
+                    totals[1] == 0 ? 0 : 100.0 * totals[0] / totals[1]);
+        }
+    }
+
+    /**
+     * Main method for the batch simulator
+     * @param args cmd line inputs
+     */
+    public static void main(String[] args) {
+        long games = 10_000;
+        int players = 4;
+        int threads = Runtime.getRuntime().availableProcessors();
+        long seed = System.nanoTime();
+        int maxTurns = 1000;
+        int shardSize = 256;
+        File checkpoint = null;
+        File results = null;
+        long checkpointInterval = 60;
+        long progress = 0;
+        String stopMetric = null;
+        double precision = 0;
+        double nullValue = Double.NaN;
+        double alpha = 0.05;
+        long look = 10_000;
+        int stallWindow = 0;
+        double stallTolerance = 0.1;
+        int stallRule = StallDetector.DRAW;
+        int metricsPort = -1;
+        boolean checkMoney = false;
+
+        for(int i = 0; i < args.length; i += 2) {
+            if(i + 1 == args.length) {
+                throw new IllegalArgumentException("Missing value for " + args[i]);
+            }
+            switch (args[i]) {
+                case "--games":      games = Long.parseLong(args[i + 1]); break;
+                case "--players":    players = Integer.parseInt(args[i + 1]); break;
+                case "--threads":    threads = Integer.parseInt(args[i + 1]); break;
+                case "--seed":       seed = Long.parseLong(args[i + 1]); break;
+                case "--max-turns":  maxTurns = Integer.parseInt(args[i + 1]); break;
+                case "--shard-size": shardSize = Integer.parseInt(args[i + 1]); break;
+                case "--checkpoint": checkpoint = new File(args[i + 1]); break;
+                case "--checkpoint-interval": checkpointInterval = Long.parseLong(args[i + 1]); break;
+                case "--results":    results = new File(args[i + 1]); break;
+                case "--progress":   progress = Long.parseLong(args[i + 1]); break;
+                case "--stop":       stopMetric = args[i + 1]; break;
+                case "--precision":  precision = Double.parseDouble(args[i + 1]); break;
+                case "--null":       nullValue = Double.parseDouble(args[i + 1]); break;
+                case "--alpha":      alpha = Double.parseDouble(args[i + 1]); break;
+                case "--look":       look = Long.parseLong(args[i + 1]); break;
+                case "--stall":      stallWindow = Integer.parseInt(args[i + 1]); break;
+                case "--stall-tolerance": stallTolerance = Double.parseDouble(args[i + 1]); break;
+                case "--stall-rule": stallRule = StallDetector.rule(args[i + 1]); break;
+                case "--metrics":    metricsPort = Integer.parseInt(args[i + 1]); break;
+                case "--check-money": checkMoney = Boolean.parseBoolean(args[i + 1]); break;
+                default: throw new IllegalArgumentException("Unknown option " + args[i]);
+            }
+        }
+
+        MetricsServer metrics = null;
+        if(metricsPort >= 0) {
+            try {
+                metrics = new MetricsServer(Metrics.DEFAULT, metricsPort);
+                metrics.start();
+                System.out.println("Serving metrics at http://localhost:" + metrics.getPort() + MetricsServer.PATH);
+            } catch (IOException e) {
+                System.err.println("Metrics could not be served on port " + metricsPort + ", the run continues. Full message:\n" + e);
+            }
+        }
+
+        System.out.println("Simulating " + games + " games of " + players + " players on " + threads + " threads, seed " + seed);
+        Simulator simulator = new Simulator(games, players, threads, seed, maxTurns, shardSize);
+        simulator.setProgress(progress);
+        simulator.setStall(stallWindow, stallTolerance, stallRule);
+        simulator.setCheckMoney(checkMoney);
+        SequentialStop stop = stopMetric == null ? null
+                : new SequentialStop(SequentialStop.metric(stopMetric), precision, nullValue, alpha, look);
+        simulator.setStop(stop);
+        if(checkpoint != null) {
+            try {
+                simulator.setCheckpoint(checkpoint, checkpointInterval);
+            } catch (IOException e) {
+                System.err.println("Checkpoint " + checkpoint + " could not be resumed. Full message:\n" + e);
+                return;
+            }
+        }
+        if(results != null) {
+            try {
+                simulator.setResults(results);
+            } catch (IOException e) {
+                System.err.println("Result file " + results + " could not be created. Full message:\n" + e);
+                return;
+            }
+        }
+
+        long start = System.nanoTime();
+        SimulationStats stats = simulator.run();
+        report(stats, simulator.getPlayed(), (System.nanoTime() - start) / 1e9, new Game().getMap());
+        if(stop != null) {
+            System.out.println("Stopping rule: " + stop.describe());
+        }
+        if(checkMoney) {
+            System.out.println("Balances matched the ledger in " + (simulator.getPlayed() - simulator.getUnbalanced()) + " of "
+                    + simulator.getPlayed() + " games" + (simulator.getUnbalanced() == 0 ? "" : ", first not: " + simulator.getFirstUnbalanced()));
+        }
+        if(metrics != null) {
+            metrics.stop();
+        }
+    }
+}
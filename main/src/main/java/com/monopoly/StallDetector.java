@@ -0,0 +1,195 @@
+/**
+ * Detection of games that can no longer end
+ *
+ * @author Dale Urquhart
+ * @since 2026-10-19
+ */
+
+package com.monopoly;
+
+/**
+ * Watches a game for stalls: the board (ownership, development, mortgages) has made no progress for a window of turns,
+ * and over that window no player's net worth fell by more than a tolerance. Between bots that never trade this is the
+ * common end of a game, every player passing Go faster than rent can take it away, and such a game would otherwise
+ * play on to the turn cap
+ * The board is watched through the game's board hash, so a check costs a comparison per turn. A board going back to
+ * one of its recent states (mortgaging and unmortgaging the same property, say) is a cycle, not progress, and a stall
+ * whose window saw a cycle is recorded as one
+ * A detected stall is ended by the rule given: as a draw, like the turn cap, or won by the richest player left
+ */
+final class StallDetector {
+
+    /**
+     * Rule for a stalled game: end it without a winner
+     */
+    static final int DRAW = 0;
+
+    /**
+     * Rule for a stalled game: the player with the highest net worth wins
+     */
+    static final int TIEBREAK = 1;
+
+    /**
+     * Names of the rules, indexed by rule
+     */
+    static final String[] RULES = {"draw", "tiebreak"};
+
+    /**
+     * Number of recent board states a repeat is looked for in
+     */
+    private static final int RECENT = 16;
+
+    /**
+     * Game watched
+     */
+    private final Game game;
+
+    /**
+     * Turns without progress before a game is stalled
+     */
+    private final int window;
+
+    /**
+     * Share of a player's net worth they may lose over the window and still be stalled
+     */
+    private final double tolerance;
+
+    /**
+     * Rule a stalled game is ended by
+     */
+    private final int rule;
+
+    /**
+     * Recent board hashes, oldest overwritten first
+     */
+    private final long[] recent = new long[RECENT];
+
+    /**
+     * Number of board hashes recorded, the next goes in recent[boards % RECENT]
+     */
+    private int boards;
+
+    /**
+     * Board hash after the last turn checked
+     */
+    private long board;
+
+    /**
+     * Turn the board last reached a state it had not been in recently
+     */
+    private int progress;
+
+    /**
+     * Whether the board went back to a recent state since the window started
+     */
+    private boolean cycled;
+
+    /**
+     * Turn the window started
+     */
+    private int windowStart;
+
+    /**
+     * Net worth of each seat when the window started
+     */
+    private final int[] worth = new int[ZobristHash.SEATS];
+
+    /**
+     * Constructor for a detector, starting its first window at the game's current turn
+     * @param game game watched
+     * @param window turns without progress before a game is stalled
+     * @param tolerance share of a player's net worth they may lose over the window and still be stalled
+     * @param rule rule a stalled game is ended by (DRAW or TIEBREAK)
+     */
+    StallDetector(Game game, int window, double tolerance, int rule) {
+        if(window < 1 || tolerance < 0) {
+            throw new IllegalArgumentException("Stall window must be at least a turn, and the tolerance not negative");
+        }
+        this.game = game;
+        this.window = window;
+        this.tolerance = tolerance;
+        this.rule = rule;
+        board = game.getHash().getBoard();
+        recent[boards++] = board;
+        startWindow();
+    }
+
+    /**
+     * Gets a rule by name
+     * @param name name of the rule
+     * @return the rule
+     */
+    static int rule(String name) {
+        for(int r = 0; r < RULES.length; r++) {
+            if(RULES[r].equals(name)) return r;
+        }
+        throw new IllegalArgumentException("Unknown stall rule " + name);
+    }
+
+    /**
+     * Starts a window at the current turn
+     */
+    private void startWindow() {
+        windowStart = game.getTurnsPlayed();
+        cycled = false;
+        for(Player p : game.getPlayers()) {
+            worth[ZobristHash.seat(p)] = p.getNetWorth();
+        }
+    }
+
+    /**
+     * Checks the game after a turn, ending it if it has stalled
+     * @return true if the game was ended
+     */
+    boolean check() {
+        long now = game.getHash().getBoard();
+        if(now != board) {
+            board = now;
+            if(seen(now)) {
+                cycled = true;
+            } else {
+                progress = game.getTurnsPlayed();
+            }
+            recent[boards++ % RECENT] = now;
+        }
+
+        if(game.getTurnsPlayed() - windowStart < window) {
+            return false;
+        }
+        if(game.getTurnsPlayed() - progress >= window && !losing()) {
+            game.end(cycled ? Game.ENDED_CYCLE : Game.ENDED_STALL, rule == TIEBREAK);
+            return true;
+        }
+        startWindow();
+        return false;
+    }
+
+    /**
+     * Checks whether the board was in a state recently
+     * @param hash board hash of the state
+     * @return true if it is among the recent board hashes
+     */
+    private boolean seen(long hash) {
+        for(int i = Math.min(boards, RECENT) - 1; i >= 0; i--) {
+            if(recent[i] == hash) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether a player lost more than the tolerance of their net worth since the window started
+     * @return true if a player is on the way down
+     */
+    private boolean losing() {
+        for(Player p : game.getPlayers()) {
+            int start = worth[ZobristHash.seat(p)];
+            if(p.getNetWorth() < start - tolerance * Math.abs(start)) return true;
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return "stall after " + window + " turns without progress (" + RULES[rule] + ", tolerance " + tolerance + ")";
+    }
+}
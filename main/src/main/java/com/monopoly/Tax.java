@@ -14,12 +14,37 @@ public final class Tax extends BoardSpace {
      */
     private final int amount; 
 
+    /**
+     * Banker collecting the tax
+     */
+    private final Banker banker;
+
     /**
      * Constructor for Tax
      */
-    Tax(String name, int id, int amount) {
+    Tax(String name, int id, int amount, Banker banker) {
         super(name, id);
         this.amount = amount; 
+        this.banker = banker;
+    }
+
+    /**
+     * Copy constructor for a copied game
+     * @param other space to copy
+     * @param game the copied game
+     */
+    private Tax(Tax other, Game game) {
+        super(other);
+        amount = other.amount;
+        banker = game.getBanker();
+    }
+
+    /**
+     * Copies the space into a copied game
+     */
+    @Override
+    BoardSpace copy(Game game) {
+        return new Tax(this, game);
     }
 
     /**
@@ -35,7 +60,6 @@ public final class Tax extends BoardSpace {
      * @return true for if the charge was succesful
      */
     void charge(Player p) { 
-        p.debit(getTax()); 
-        Banker.getInstance().credit(getTax());
+        p.pay(banker, getTax(), Ledger.TAX);
     }
 }
@@ -0,0 +1,327 @@
+/**
+ * Round-robin tournament between decision strategies
+ *
+ * @author Dale Urquhart
+ * @since 2026-10-19
+ */
+
+package com.monopoly;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Plays strategies against each other in every seating: for each table size, every ordered choice of distinct
+ * strategies for the seats is a fixture, and each fixture is played a number of rounds
+ * Games are spread over a ForkJoinPool and seeded from (master seed, game index), with search strategies seeded from
+ * the game, so every game plays out the same regardless of thread count. Ratings are updated in game order once
+ * every game is played, so they are reproducible from the seed too
+ *
+ * Strategies: greedy, cautious, solver, bot:RESERVE:MAX_BID:LEAVE_JAIL (true, false or dp, see BotDecisions),
+ * mcts:ITERATIONS:HORIZON
+ *
+ * Usage (from src/main/java, like App): java com.monopoly.Tournament [--strategies S1,S2,...] [--rounds R]
+ *                                          [--min-players P] [--max-players P] [--threads T] [--seed S]
+ *                                          [--max-turns M] [--ratings FILE] [--k K]
+ */
+public final class Tournament {
+
+    /**
+     * Strategy of each entrant
+     */
+    private final String[] strategies;
+
+    /**
+     * Entrant in each seat of each fixture
+     */
+    private final int[][] fixtures;
+
+    /**
+     * Games per fixture
+     */
+    private final int rounds;
+
+    /**
+     * Master seed every game seed is derived from
+     */
+    private final long seed;
+
+    /**
+     * Turn cap for a single game
+     */
+    private final int maxTurns;
+
+    /**
+     * Place of each seat in each game, 0 for the winner
+     */
+    private final int[][] places;
+
+    /**
+     * Turns played in each game
+     */
+    private final int[] turns;
+
+    /**
+     * Constructor for a tournament
+     * @param strategies strategy of each entrant, each entered once
+     * @param rounds games per fixture
+     * @param minPlayers smallest table
+     * @param maxPlayers largest table, capped by the number of entrants
+     * @param seed master seed
+     * @param maxTurns turn cap for a single game
+     */
+    Tournament(String[] strategies, int rounds, int minPlayers, int maxPlayers, long seed, int maxTurns) {
+        if(minPlayers < 2 || maxPlayers > 4 || minPlayers > maxPlayers) {
+            throw new IllegalArgumentException("Table sizes must be between 2 and 4 players");
+        }
+        if(strategies.length < minPlayers) {
+            throw new IllegalArgumentException("At least " + minPlayers + " strategies are needed");
+        }
+        for(String spec : strategies) {
+            strategy(spec, 0);
+        }
+        this.strategies = strategies;
+        this.rounds = rounds;
+        this.seed = seed;
+        this.maxTurns = maxTurns;
+
+        List<int[]> seatings = new ArrayList<>();
+        for(int size = minPlayers; size <= Math.min(maxPlayers, strategies.length); size++) {
+            seat(new int[size], 0, new boolean[strategies.length], seatings);
+        }
+        fixtures = seatings.toArray(new int[0][]);
+        places = new int[fixtures.length * rounds][];
+        turns = new int[places.length];
+    }
+
+    /**
+     * Adds every seating of distinct entrants that completes a partial one
+     * @param seating entrants of the seats filled so far
+     * @param filled number of seats filled
+     * @param used entrants already seated
+     * @param seatings every complete seating found
+     */
+    private static void seat(int[] seating, int filled, boolean[] used, List<int[]> seatings) {
+        if(filled == seating.length) {
+            seatings.add(seating.clone());
+            return;
+        }
+        for(int entrant = 0; entrant < used.length; entrant++) {
+            if(!used[entrant]) {
+                used[entrant] = true;
+                seating[filled] = entrant;
+                seat(seating, filled + 1, used, seatings);
+                used[entrant] = false;
+            }
+        }
+    }
+
+    /**
+     * Builds a strategy from its description
+     * @param spec description of the strategy
+     * @param seed seed of strategies that search
+     * @return a new provider playing the strategy
+     */
+    static DecisionProvider strategy(String spec, long seed) {
+        String[] parts = spec.split(":");
+        try {
+            switch (parts[0]) {
+                case "greedy":   if(parts.length == 1) return BotDecisions.greedy(); break;
+                case "cautious": if(parts.length == 1) return BotDecisions.cautious(); break;
+                case "solver":   if(parts.length == 1) return BotDecisions.solver(); break;
+                case "bot":
+                    if(parts.length == 4) {
+                        return new BotDecisions(Integer.parseInt(parts[1]), Double.parseDouble(parts[2]), Boolean.parseBoolean(parts[3]),
+                                parts[3].equals("dp") ? JailSolver.DEFAULT : null);
+                    }
+                    break;
+                case "mcts":
+                    // Capped by rollouts rather than time on a single thread, so the search is reproducible
+                    if(parts.length == 3) {
+                        return new MctsDecisions(MctsDecisions.NO_DEADLINE, Integer.parseInt(parts[1]), 1,
+                                Integer.parseInt(parts[2]), seed, BotDecisions.greedy(), null);
+                    }
+                    break;
+                default:
+                    break;
+            }
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Bad number in strategy " + spec, e);
+        }
+        throw new IllegalArgumentException("Unknown strategy " + spec);
+    }
+
+    /**
+     * Gets the number of games in the tournament
+     * @return fixtures times rounds
+     */
+    int getGameCount() {
+        return places.length;
+    }
+
+    /**
+     * Plays one game and records where each seat placed
+     * Players still in at the end place ahead of everyone out, by net worth if the turn cap was hit, and players
+     * out place by how long they lasted
+     * @param index index of the game
+     */
+    void playGame(int index) {
+        int[] fixture = fixtures[index / rounds];
+        long gameSeed = Simulator.seedFor(seed, index);
+        Game game = Game.headless(new Random(gameSeed), GameRules.STANDARD, fixture.length);
+        GameController controller = new GameController(game);
+        for(int seat = 0; seat < fixture.length; seat++) {
+            game.getPlayer(seat).setDecisions(strategy(strategies[fixture[seat]], Simulator.seedFor(gameSeed, seat)));
+        }
+
+        // Turn each seat went out on, -1 while still in
+        long[] score = new long[fixture.length];
+        Arrays.fill(score, -1);
+        while(game.getPlayerCount() > 1 && game.getTurnsPlayed() < maxTurns) {
+            game.playTurn(controller);
+            for(int seat = 0; seat < fixture.length; seat++) {
+                if(score[seat] < 0 && game.getSeat(seat) == null) score[seat] = game.getTurnsPlayed();
+            }
+        }
+        for(Player p : game.getPlayers()) {
+            score[p.getID()] = (1L << 40) + p.getNetWorth();
+        }
+
+        int[] place = new int[fixture.length];
+        for(int seat = 0; seat < fixture.length; seat++) {
+            for(long other : score) {
+                if(other > score[seat]) place[seat]++;
+            }
+        }
+        places[index] = place;
+        turns[index] = game.getTurnsPlayed();
+    }
+
+    /**
+     * Plays every game across the worker threads, then rates them in order
+     * @param threads number of worker threads
+     * @param elo ratings to update
+     */
+    void run(int threads, EloRatings elo) {
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            pool.invoke(new GameRangeTask(this::playGame, 0, getGameCount()));
+        } finally {
+            pool.shutdown();
+        }
+
+        for(int index = 0; index < places.length; index++) {
+            int[] fixture = fixtures[index / rounds];
+            String[] names = new String[fixture.length];
+            for(int seat = 0; seat < fixture.length; seat++) names[seat] = strategies[fixture[seat]];
+            elo.update(names, places[index]);
+        }
+    }
+
+    /**
+     * Prints the standings of the finished tournament
+     * @param elo ratings after the tournament
+     * @param before rating of each entrant before the tournament
+     * @param seconds wall clock time of the tournament
+     */
+    void report(EloRatings elo, double[] before, double seconds) {
+        int entrants = strategies.length;
+        long[] played = new long[entrants], won = new long[entrants], placeSum = new long[entrants];
+        long[] seatGames = new long[4], seatWins = new long[4];
+        long capped = 0, turnSum = 0;
+        for(int index = 0; index < places.length; index++) {
+            int[] fixture = fixtures[index / rounds];
+            boolean finished = false;
+            for(int seat = 0; seat < fixture.length; seat++) {
+                played[fixture[seat]]++;
+                placeSum[fixture[seat]] += places[index][seat];
+                seatGames[seat]++;
+                if(turns[index] < maxTurns && places[index][seat] == 0) {
+                    won[fixture[seat]]++;
+                    seatWins[seat]++;
+                    finished = true;
+                }
+            }
+            if(!finished) capped++;
+            turnSum += turns[index];
+        }
+
+        System.out.printf("Games: %d (%d hit the turn cap) in %.2fs, %.0f games/s, mean %.1f turns%n",
+                places.length, capped, seconds, places.length / seconds, (double) turnSum / places.length);
+        System.out.printf("%-24s %8s %8s %8s %8s %10s%n", "Strategy", "Rating", "Change", "Games", "Win %", "Mean place");
+        for(int e = 0; e < entrants; e++) {
+            double rating = elo.getRating(strategies[e]);
+            System.out.printf("%-24s %8.1f %+8.1f %8d %8.2f %10.2f%n", strategies[e], rating, rating - before[e],
+                    played[e], 100.0 * won[e] / played[e], 1 + (double) placeSum[e] / played[e]);
+        }
+        System.out.print("Win rate by seat:");
+        for(int seat = 0; seat < seatGames.length && seatGames[seat] > 0; seat++) {
+            System.out.printf(" %d: %.2f%%", seat + 1, 100.0 * seatWins[seat] / seatGames[seat]);
+        }
+        System.out.println();
+    }
+
+    /**
+     * Main method for the tournament
+     * @param args cmd line inputs
+     */
+    public static void main(String[] args) {
+        String[] strategies = {"greedy", "cautious"};
+        int rounds = 1000;
+        int minPlayers = 2;
+        int maxPlayers = 4;
+        int threads = Runtime.getRuntime().availableProcessors();
+        long seed = System.nanoTime();
+        int maxTurns = 1000;
+        File ratings = null;
+        double k = 16;
+
+        for(int i = 0; i < args.length; i += 2) {
+            if(i + 1 == args.length) {
+                throw new IllegalArgumentException("Missing value for " + args[i]);
+            }
+            switch (args[i]) {
+                case "--strategies":  strategies = args[i + 1].split(","); break;
+                case "--rounds":      rounds = Integer.parseInt(args[i + 1]); break;
+                case "--min-players": minPlayers = Integer.parseInt(args[i + 1]); break;
+                case "--max-players": maxPlayers = Integer.parseInt(args[i + 1]); break;
+                case "--threads":     threads = Integer.parseInt(args[i + 1]); break;
+                case "--seed":        seed = Long.parseLong(args[i + 1]); break;
+                case "--max-turns":   maxTurns = Integer.parseInt(args[i + 1]); break;
+                case "--ratings":     ratings = new File(args[i + 1]); break;
+                case "--k":           k = Double.parseDouble(args[i + 1]); break;
+                default: throw new IllegalArgumentException("Unknown option " + args[i]);
+            }
+        }
+
+        EloRatings elo;
+        try {
+            elo = ratings == null ? new EloRatings(k) : EloRatings.read(ratings, k);
+        } catch (IOException e) {
+            System.err.println("Ratings could not be read. Full message:\n" + e);
+            return;
+        }
+        double[] before = new double[strategies.length];
+        for(int e = 0; e < strategies.length; e++) before[e] = elo.getRating(strategies[e]);
+
+        Tournament tournament = new Tournament(strategies, rounds, minPlayers, maxPlayers, seed, maxTurns);
+        System.out.println("Playing " + tournament.getGameCount() + " games between " + strategies.length
+                + " strategies on " + threads + " threads, seed " + seed);
+        long start = System.nanoTime();
+        tournament.run(threads, elo);
+        tournament.report(elo, before, (System.nanoTime() - start) / 1e9);
+
+        if(ratings != null) {
+            try {
+                elo.write(ratings);
+            } catch (IOException e) {
+                System.err.println("Ratings could not be written. Full message:\n" + e);
+            }
+        }
+    }
+}
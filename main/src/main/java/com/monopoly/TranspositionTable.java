@@ -0,0 +1,119 @@
+/**
+ * Fixed-size table of search results by position
+ *
+ * @author Dale Urquhart
+ * @since 2026-10-19
+ */
+
+package com.monopoly;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Remembers the mean reward of positions reached by searches, keyed by Zobrist hash, so a position seen again
+ * (by a later rollout, a later decision or another thread) can reuse what was learnt about it
+ * Lock-free: each entry is two longs, the data and the key XOR the data, written without locking. A reader that
+ * catches an entry half written, or one racing with another writer, sees a key that does not match and takes it as
+ * a miss, so entries are never torn, only sometimes lost. Each position has one slot, a new position replaces the old
+ */
+final class TranspositionTable {
+
+    /**
+     * Entry of a position that is not in the table
+     */
+    static final long MISS = 0;
+
+    /**
+     * Key XOR data, then data, of each entry
+     */
+    private final AtomicLongArray slots;
+
+    /**
+     * Mask from a hash to an entry
+     */
+    private final int mask;
+
+    /**
+     * Constructor for a table
+     * @param bits log2 of the number of entries, each takes 16 bytes
+     */
+    TranspositionTable(int bits) {
+        if(bits < 1 || bits > 28) {
+            throw new IllegalArgumentException("Table size must be between 2^1 and 2^28 entries, not 2^" + bits);
+        }
+        slots = new AtomicLongArray(2 << bits);
+        mask = (1 << bits) - 1;
+    }
+
+    /**
+     * Gets the number of entries
+     * @return entries in the table
+     */
+    int getCapacity() {
+        return mask + 1;
+    }
+
+    /**
+     * Looks a position up
+     * @param key hash of the position
+     * @return the position's entry, MISS if it is not in the table
+     */
+    long get(long key) {
+        int i = (int) (key ^ (key >>> 32)) & mask;
+        long data = slots.get(2 * i + 1);
+        return data != MISS && (slots.get(2 * i) ^ data) == key ? data : MISS;
+    }
+
+    /**
+     * Adds a reward to a position's mean, replacing whatever position held its slot
+     * Two threads adding to one position at once may lose one of the rewards, which only costs the search a sample
+     * @param key hash of the position
+     * @param reward reward to add, between 0 and 1
+     */
+    void add(long key, double reward) {
+        int i = (int) (key ^ (key >>> 32)) & mask;
+        long old = get(key);
+        int visits = getVisits(old);
+        double mean = (getMean(old) * visits + reward) / (visits + 1);
+        long data = pack(visits == Integer.MAX_VALUE ? visits : visits + 1, mean);
+        slots.set(2 * i + 1, data);
+        slots.set(2 * i, key ^ data);
+    }
+
+    /**
+     * Empties the table
+     */
+    void clear() {
+        for(int i = 0; i < slots.length(); i++) {
+            slots.set(i, 0);
+        }
+    }
+
+    /**
+     * Packs an entry
+     * @param visits number of rewards in the mean
+     * @param mean mean reward
+     * @return the entry
+     */
+    private static long pack(int visits, double mean) {
+        return ((long) visits << 32) | (Float.floatToIntBits((float) mean) & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Gets the number of rewards in an entry's mean
+     * @param entry the entry
+     * @return visits of the position, 0 for a miss
+     */
+    static int getVisits(long entry) {
+        return (int) (entry >>> 32);
+    }
+
+    /**
+     * Gets the mean reward of an entry
+     * @param entry the entry
+     * @return mean reward of the position, 0 for a miss
+     */
+    static double getMean(long entry) {
+        return Float.intBitsToFloat((int) entry);
+    }
+}
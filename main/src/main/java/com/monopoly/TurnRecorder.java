@@ -0,0 +1,321 @@
+/**
+ * Recorder of a game's last turns, for crash reports
+ *
+ * @author Dale Urquhart
+ * @since 2026-10-19
+ */
+
+package com.monopoly;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Keeps the last few turns of a game in a preallocated ring of ints, so when something throws there is a record of
+ * how the game got there: who played, the dice, where they moved from and to, what it did to their cash, their jail
+ * choice and what they did on the way (bought, auctioned, paid rent, drew a card, built, went to jail, went bankrupt)
+ * A turn is a handful of stores into the ring and allocates nothing; only a crash pays, by writing the ring out,
+ * oldest turn first, to a file next to the game with the game's last ledger postings and the exception that ended it
+ * Search copies of a game use OFF, which records nothing
+ */
+final class TurnRecorder {
+
+    /**
+     * Number of turns a game keeps
+     */
+    static final int DEFAULT_TURNS = 128;
+
+    /**
+     * Recorder that records nothing, shared by every search copy
+     */
+    static final TurnRecorder OFF = new TurnRecorder(0);
+
+    /**
+     * Field of a record: turn of the game
+     */
+    static final int TURN = 0;
+
+    /**
+     * Field of a record: seat of the player
+     */
+    static final int SEAT = 1;
+
+    /**
+     * Field of a record: first die of the last roll of the turn, 0 for none
+     */
+    static final int DIE1 = 2;
+
+    /**
+     * Field of a record: second die of the last roll of the turn, 0 for none
+     */
+    static final int DIE2 = 3;
+
+    /**
+     * Field of a record: space the turn started on
+     */
+    static final int FROM = 4;
+
+    /**
+     * Field of a record: space the turn ended on
+     */
+    static final int TO = 5;
+
+    /**
+     * Field of a record: change in the player's cash over the turn (the balance at its start until it ends)
+     */
+    static final int CASH = 6;
+
+    /**
+     * Field of a record: the player's balance at the end of the turn
+     */
+    static final int BALANCE = 7;
+
+    /**
+     * Field of a record: jail choice, one of Game.JAIL_PAY, JAIL_ROLL or JAIL_CARD, 0 for none
+     */
+    static final int JAIL = 8;
+
+    /**
+     * Field of a record: what happened in the turn, a bit per ACTIONS name
+     */
+    static final int ACTIONS = 9;
+
+    /**
+     * Number of ints in a record
+     */
+    static final int WIDTH = 10;
+
+    /**
+     * Names of the fields, indexed by field
+     */
+    static final String[] FIELDS = {"turn", "seat", "die1", "die2", "from", "to", "cash", "balance", "jail", "actions"};
+
+    /**
+     * Action: bought the property landed on
+     */
+    static final int BOUGHT = 1;
+
+    /**
+     * Action: a property was auctioned
+     */
+    static final int AUCTIONED = 1 << 1;
+
+    /**
+     * Action: paid rent
+     */
+    static final int RENT = 1 << 2;
+
+    /**
+     * Action: drew a card
+     */
+    static final int CARD = 1 << 3;
+
+    /**
+     * Action: built a house or hotel
+     */
+    static final int DEVELOPED = 1 << 4;
+
+    /**
+     * Action: ended the turn in jail
+     */
+    static final int JAILED = 1 << 5;
+
+    /**
+     * Action: went bankrupt
+     */
+    static final int BANKRUPT = 1 << 6;
+
+    /**
+     * Names of the actions, indexed by bit
+     */
+    static final String[] ACTION_NAMES = {"bought", "auctioned", "rent", "card", "developed", "jailed", "bankrupt"};
+
+    /**
+     * Records, WIDTH ints each, the oldest overwritten first
+     */
+    private final int[] records;
+
+    /**
+     * Number of records the ring holds
+     */
+    private final int turns;
+
+    /**
+     * Number of turns begun, the ring holds the last of them
+     */
+    private long begun;
+
+    /**
+     * Offset of the turn being recorded
+     */
+    private int at;
+
+    /**
+     * Whether a turn is being recorded, what happens between turns is not
+     */
+    private boolean open;
+
+    /**
+     * Constructor for a recorder
+     * @param turns number of turns to keep, 0 to record nothing
+     */
+    TurnRecorder(int turns) {
+        this.turns = turns;
+        records = new int[turns * WIDTH];
+    }
+
+    /**
+     * Checks whether the recorder keeps anything
+     * @return false for OFF
+     */
+    boolean isRecording() {
+        return turns > 0;
+    }
+
+    /**
+     * Starts recording a turn, over the oldest one kept
+     * @param turn turn of the game
+     * @param player player whose turn it is
+     */
+    void begin(int turn, Player player) {
+        if(turns == 0) return;
+        at = (int) (begun % turns) * WIDTH;
+        begun++;
+        open = true;
+        records[at + TURN] = turn;
+        records[at + SEAT] = player.getID();
+        records[at + DIE1] = 0;
+        records[at + DIE2] = 0;
+        records[at + FROM] = player.getLocation().getId();
+        records[at + TO] = records[at + FROM];
+        // The balance at the start until the turn ends
+        records[at + CASH] = player.getBalance();
+        records[at + BALANCE] = player.getBalance();
+        records[at + JAIL] = 0;
+        records[at + ACTIONS] = 0;
+    }
+
+    /**
+     * Records a roll of the dice in the turn, the last one is kept
+     * @param die1 first die
+     * @param die2 second die
+     */
+    void roll(int die1, int die2) {
+        if(!open) return;
+        records[at + DIE1] = die1;
+        records[at + DIE2] = die2;
+    }
+
+    /**
+     * Records the jail choice of the turn
+     * @param choice Game.JAIL_PAY, JAIL_ROLL or JAIL_CARD
+     */
+    void jail(int choice) {
+        if(!open) return;
+        records[at + JAIL] = choice;
+    }
+
+    /**
+     * Records something that happened in the turn
+     * @param action one of the action bits
+     */
+    void action(int action) {
+        if(!open) return;
+        records[at + ACTIONS] |= action;
+    }
+
+    /**
+     * Finishes recording a turn
+     * @param player player whose turn it was
+     */
+    void end(Player player) {
+        if(!open) return;
+        records[at + TO] = player.getLocation().getId();
+        records[at + CASH] = player.getBalance() - records[at + CASH];
+        records[at + BALANCE] = player.getBalance();
+        if(player.inJail()) records[at + ACTIONS] |= JAILED;
+        open = false;
+    }
+
+    /**
+     * Gets the number of turns kept
+     * @return turns recorded, at most the ring's size
+     */
+    int getSize() {
+        return (int) Math.min(begun, turns);
+    }
+
+    /**
+     * Gets a field of a kept turn
+     * @param index index of the turn, 0 for the oldest kept
+     * @param field one of the fields
+     * @return the field
+     */
+    int get(int index, int field) {
+        long sequence = begun - getSize() + index;
+        return records[(int) (sequence % turns) * WIDTH + field];
+    }
+
+    /**
+     * Writes the kept turns, oldest first, and the exception to a new file in the working directory
+     * @param cause the exception the game crashed with
+     * @param map board of the game, for space names, null if it was never built
+     * @param ledger ledger of the game, whose last postings are written after the turns, null for none
+     * @return the file written, null if nothing was recorded or it could not be written
+     */
+    File dump(Throwable cause, BoardSpace[] map, Ledger ledger) {
+        if(turns == 0) return null;
+        File file = new File("monopoly-turns-" + ProcessHandle.current().pid() + "-" + System.currentTimeMillis() + ".txt");
+        try (PrintWriter out = new PrintWriter(file, StandardCharsets.UTF_8)) {
+            out.println("# Last " + getSize() + " turns before " + cause);
+            if(open) out.println("# The last turn crashed before it ended, so it has no end space, cash or balance");
+            out.println(String.join(",", FIELDS));
+            for(int i = 0; i < getSize(); i++) {
+                for(int field = 0; field < WIDTH; field++) {
+                    if(field > 0) out.print(',');
+                    int value = get(i, field);
+                    if(open && i == getSize() - 1 && (field == TO || field == CASH || field == BALANCE)) {
+                        // The turn that crashed never ended
+                        continue;
+                    } else if(field == FROM || field == TO) {
+                        out.print(map == null || map[value] == null ? String.valueOf(value) : map[value].getName());
+                    } else if(field == ACTIONS) {
+                        out.print(actions(value));
+                    } else {
+                        out.print(value);
+                    }
+                }
+                out.println();
+            }
+            out.println();
+            if(ledger != null) {
+                ledger.write(out);
+                out.println();
+            }
+            cause.printStackTrace(out);
+        } catch (IOException e) {
+            Log.error("Last turns could not be written to %s. Full message:\n%s", file, e);
+            return null;
+        }
+        Log.error("Last %d turns written to %s", getSize(), file.getAbsolutePath());
+        return file;
+    }
+
+    /**
+     * Names the actions of a turn
+     * @param actions the action bits
+     * @return the names joined by |
+     */
+    static String actions(int actions) {
+        StringBuilder names = new StringBuilder();
+        for(int bit = 0; bit < ACTION_NAMES.length; bit++) {
+            if((actions & (1 << bit)) != 0) {
+                if(names.length() > 0) names.append('|');
+                names.append(ACTION_NAMES[bit]);
+            }
+        }
+        return names.toString();
+    }
+}
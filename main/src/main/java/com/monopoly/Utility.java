@@ -4,6 +4,8 @@
 
 package com.monopoly;
 
+import java.util.List;
+
 /**
  * Utility class
  */
@@ -12,18 +14,36 @@ public final class Utility extends Property{
     /**
      * Constructor for Utility
      */
-    Utility(String name, int id, int price, Entity owner) {
+    Utility(String name, int id, int price, Banker owner) {
         super(name, "Utility", id, price, owner); 
     } 
 
+    /**
+     * Copy constructor for a copied game
+     * @param other space to copy
+     * @param game the copied game
+     */
+    private Utility(Utility other, Game game) {
+        super(other, game);
+    }
+
+    /**
+     * Copies the space into a copied game
+     */
+    @Override
+    BoardSpace copy(Game game) {
+        return new Utility(this, game);
+    }
+
     /**
      * Gets the amount of utilities owned
      * @return amount of utilities owned
      */ 
     int getRent(Player player) {
         int count = 0;
-        for (Property p : getOwner().getProperties()) {
-            if (p instanceof Utility) {
+        List<Property> owned = getOwner().getProperties();
+        for (int i = 0; i < owned.size(); i++) {
+            if (owned.get(i) instanceof Utility) {
                 count += 1;
             }
         }
@@ -36,8 +56,7 @@ public final class Utility extends Property{
     @Override
     void chargeRent(Player player) { 
         int rent = getRent(player);
-        player.debit(rent);
-        getOwner().credit(rent);
+        collectRent(player, rent);
     }
 
     /**
@@ -45,7 +64,6 @@ public final class Utility extends Property{
      */ 
     void chargeChanceRent(Player player) {
         int rent = (player.getRoll() * 10);
-        player.debit(rent);
-        getOwner().credit(rent);
+        collectRent(player, rent);
     }
 }
\ No newline at end of file
@@ -0,0 +1,311 @@
+/**
+ * Incrementally updated hash of a game's state
+ *
+ * @author Dale Urquhart
+ * @since 2026-10-19
+ */
+
+package com.monopoly;
+
+/**
+ * 64-bit Zobrist hash over player positions, ownership, development, mortgages, jail flags, bucketed balances and
+ * whose turn it is. Every feature has a fixed random key, the hash is the XOR of the keys of the features present,
+ * so each change of state updates it in O(1) by XORing the old key out and the new one in
+ * One per game, held by the game's properties and players, which report their own changes
+ * A second hash over ownership, development and mortgages alone changes only when the board does, not as players
+ * move or money changes hands
+ */
+final class ZobristHash {
+
+    /**
+     * Seats hashed, player IDs are folded onto them
+     */
+    static final int SEATS = 8;
+
+    /**
+     * Width of a balance bucket
+     */
+    static final int BALANCE_STEP = 100;
+
+    /**
+     * Number of balance buckets, the last holds every balance above it
+     */
+    static final int BALANCE_BUCKETS = 64;
+
+    /**
+     * Number of development levels, 0 to 4 houses then a hotel
+     */
+    private static final int LEVELS = 6;
+
+    /**
+     * Seed the keys are drawn from
+     */
+    private static final long KEY_SEED = 0x5A0B215L;
+
+    /**
+     * Number of key tables drawn so far, keeping tables of the same shape apart
+     */
+    private static long tables;
+
+    /**
+     * Key of each seat on each space, indexed by seat then space
+     */
+    private static final long[][] POSITION = keys(SEATS, Game.BOARD_SIZE);
+
+    /**
+     * Key of each owner of each space, indexed by space then owner (0 for the bank, seat + 1 for a player)
+     */
+    private static final long[][] OWNER = keys(Game.BOARD_SIZE, SEATS + 1);
+
+    /**
+     * Key of each development level of each space, indexed by space then level
+     */
+    private static final long[][] DEVELOPMENT = keys(Game.BOARD_SIZE, LEVELS);
+
+    /**
+     * Key of each space being mortgaged
+     */
+    private static final long[] MORTGAGE = keys(1, Game.BOARD_SIZE)[0];
+
+    /**
+     * Key of each seat being in jail
+     */
+    private static final long[] JAIL = keys(1, SEATS)[0];
+
+    /**
+     * Key of each seat having the turn
+     */
+    private static final long[] TURN = keys(1, SEATS)[0];
+
+    /**
+     * Key of each balance bucket of each seat, indexed by seat then bucket
+     */
+    private static final long[][] BALANCE = keys(SEATS, BALANCE_BUCKETS);
+
+    /**
+     * Key of each seat's point of view, for tables shared by every seat
+     */
+    private static final long[] PERSPECTIVE = keys(1, SEATS)[0];
+
+    /**
+     * Current hash
+     */
+    private long value;
+
+    /**
+     * Current hash of the board alone
+     */
+    private long board;
+
+    /**
+     * Constructor for a hash
+     * @param value starting hash
+     */
+    ZobristHash(long value) {
+        this.value = value;
+    }
+
+    /**
+     * Draws a table of keys, the same on every run so hashes can be compared between runs
+     * @param rows number of rows
+     * @param columns number of columns
+     * @return the keys
+     */
+    private static long[][] keys(int rows, int columns) {
+        long[][] keys = new long[rows][columns];
+        for(int r = 0; r < rows; r++) {
+            for(int c = 0; c < columns; c++) {
+                keys[r][c] = Simulator.seedFor(KEY_SEED, ((long) rows << 48) ^ ((long) columns << 32) ^ ((long) r << 16) ^ c ^ tables);
+            }
+        }
+        tables += 0x1000000000000L;
+        return keys;
+    }
+
+    /**
+     * Gets the hash
+     * @return the current hash
+     */
+    long get() {
+        return value;
+    }
+
+    /**
+     * Gets the hash of the board alone: ownership, development and mortgages
+     * @return the current board hash
+     */
+    long getBoard() {
+        return board;
+    }
+
+    /**
+     * Hashes a game from scratch
+     * @param game the game
+     */
+    void reset(Game game) {
+        value = compute(game);
+        board = computeBoard(game);
+    }
+
+    /**
+     * Sets the hash, for when the game is hashed from scratch
+     * @param value the new hash
+     */
+    void set(long value) {
+        this.value = value;
+    }
+
+    /**
+     * Gets the seat a player is hashed in
+     * @param p the player
+     * @return the seat
+     */
+    static int seat(Player p) {
+        return Math.floorMod(p.getID(), SEATS);
+    }
+
+    /**
+     * Gets the bucket of a balance
+     * @param balance the balance
+     * @return the bucket, negative balances share the first
+     */
+    static int bucket(int balance) {
+        return balance <= 0 ? 0 : Math.min(balance / BALANCE_STEP, BALANCE_BUCKETS - 1);
+    }
+
+    /**
+     * Gets the owner index of an entity
+     * @param owner the owner
+     * @return 0 for the bank, seat + 1 for a player
+     */
+    private static int owner(Entity owner) {
+        return owner instanceof Player ? seat((Player) owner) + 1 : 0;
+    }
+
+    /**
+     * Gets the key of a seat's point of view
+     * @param seat the seat
+     * @return key to XOR into a hash shared by every seat
+     */
+    static long perspective(int seat) {
+        return PERSPECTIVE[Math.floorMod(seat, SEATS)];
+    }
+
+    /**
+     * A player moved
+     * @param p the player
+     * @param from space left
+     * @param to space arrived on
+     */
+    void move(Player p, BoardSpace from, BoardSpace to) {
+        value ^= POSITION[seat(p)][from.getId()] ^ POSITION[seat(p)][to.getId()];
+    }
+
+    /**
+     * A property changed hands
+     * @param p the property
+     * @param from previous owner
+     * @param to new owner
+     */
+    void own(Property p, Entity from, Entity to) {
+        long change = OWNER[p.getId()][owner(from)] ^ OWNER[p.getId()][owner(to)];
+        value ^= change;
+        board ^= change;
+    }
+
+    /**
+     * A property's development changed
+     * @param p the property
+     * @param from previous level
+     * @param to new level
+     */
+    void develop(Property p, int from, int to) {
+        long change = DEVELOPMENT[p.getId()][from] ^ DEVELOPMENT[p.getId()][to];
+        value ^= change;
+        board ^= change;
+    }
+
+    /**
+     * A property was mortgaged or unmortgaged
+     * @param p the property
+     */
+    void mortgage(Property p) {
+        value ^= MORTGAGE[p.getId()];
+        board ^= MORTGAGE[p.getId()];
+    }
+
+    /**
+     * A player went to or left jail
+     * @param p the player
+     */
+    void jail(Player p) {
+        value ^= JAIL[seat(p)];
+    }
+
+    /**
+     * A player's balance changed
+     * @param p the player
+     * @param from previous balance
+     * @param to new balance
+     */
+    void balance(Player p, int from, int to) {
+        int a = bucket(from), b = bucket(to);
+        if(a != b) {
+            value ^= BALANCE[seat(p)][a] ^ BALANCE[seat(p)][b];
+        }
+    }
+
+    /**
+     * The turn passed between players
+     * @param from player whose turn ended
+     * @param to player whose turn it is
+     */
+    void turn(Player from, Player to) {
+        value ^= TURN[seat(from)] ^ TURN[seat(to)];
+    }
+
+    /**
+     * A player left the game, their position, balance and jail flag stop counting
+     * @param p the player
+     */
+    void remove(Player p) {
+        value ^= POSITION[seat(p)][p.getLocation().getId()] ^ BALANCE[seat(p)][bucket(p.getBalance())];
+        if(p.inJail()) {
+            jail(p);
+        }
+    }
+
+    /**
+     * Hashes a game from scratch, what the incremental hash must always equal
+     * @param game the game
+     * @return hash of the game's state
+     */
+    static long compute(Game game) {
+        long hash = computeBoard(game);
+        for(Player p : game.getPlayers()) {
+            hash ^= POSITION[seat(p)][p.getLocation().getId()] ^ BALANCE[seat(p)][bucket(p.getBalance())];
+            if(p.inJail()) hash ^= JAIL[seat(p)];
+        }
+        if(game.getCurrentPlayer() != null) {
+            hash ^= TURN[seat(game.getCurrentPlayer())];
+        }
+        return hash;
+    }
+
+    /**
+     * Hashes a game's board from scratch, what the incremental board hash must always equal
+     * @param game the game
+     * @return hash of the game's ownership, development and mortgages
+     */
+    static long computeBoard(Game game) {
+        long hash = 0;
+        for(BoardSpace space : game.getMap()) {
+            if(space instanceof Property) {
+                Property p = (Property) space;
+                hash ^= OWNER[p.getId()][owner(p.getOwner())] ^ DEVELOPMENT[p.getId()][p.getDevelopmentLevel()];
+                if(p.isMortgaged()) hash ^= MORTGAGE[p.getId()];
+            }
+        }
+        return hash;
+    }
+}
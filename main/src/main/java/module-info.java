@@ -7,6 +7,8 @@
  * 
  * Dependencies:
  * - JavaFX modules for GUI elements
+ * - JDK Flight Recorder for the game's events
+ * - JDK HTTP server for the metrics endpoint
  * - Internal classes for game logic and data management
  * 
  * Exports:
@@ -19,6 +21,8 @@ module com.monopoly {
     requires javafx.controls;
     requires javafx.fxml;
     requires transitive javafx.graphics;
+    requires jdk.jfr;
+    requires jdk.httpserver;
     
     opens com.monopoly to javafx.fxml;
     exports com.monopoly;
@@ -0,0 +1,125 @@
+/**
+ * Tests of the ledger every payment of a game is posted to
+ *
+ * @author Dale Urquhart
+ * @since 2026-10-19
+ */
+
+package com.monopoly;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Postings move money between the bank and the players of a small game, and keep the last of them in a ring
+ */
+class LedgerTest {
+
+    /**
+     * Game whose entities pay
+     */
+    private Game game;
+
+    /**
+     * Ledger posted to, four postings long
+     */
+    private Ledger ledger;
+
+    /**
+     * Sets up a three player game and a short ledger over it
+     */
+    @BeforeEach
+    void setUp() {
+        game = Game.headless(new Random(1), GameRules.STANDARD, 3);
+        ledger = new Ledger(game, 4);
+    }
+
+    /**
+     * The money in the game, the bank's included, is the same after any postings
+     */
+    @Test
+    void postingsConserveMoney() {
+        long before = total();
+        Random random = new Random(7);
+        for(int i = 0; i < 1000; i++) {
+            ledger.post(entity(random.nextInt(4)), entity(random.nextInt(4)), random.nextInt(801) - 400,
+                    random.nextInt(Ledger.REASONS.length));
+        }
+        assertEquals(before, total());
+    }
+
+    /**
+     * A negative amount is posted as the positive amount paid the other way
+     */
+    @Test
+    void negativeAmountSwapsSides() {
+        Player a = game.getPlayer(0), b = game.getPlayer(1);
+        int balanceA = a.getBalance(), balanceB = b.getBalance();
+        ledger.post(a, b, -75, Ledger.CARD);
+        assertEquals(balanceA + 75, a.getBalance());
+        assertEquals(balanceB - 75, b.getBalance());
+        assertEquals(Ledger.account(b), ledger.get(0, Ledger.FROM));
+        assertEquals(Ledger.account(a), ledger.get(0, Ledger.TO));
+        assertEquals(75, ledger.get(0, Ledger.AMOUNT));
+        assertEquals(75, ledger.getTotal(Ledger.CARD));
+    }
+
+    /**
+     * Paying oneself, or paying nothing, is not posted
+     */
+    @Test
+    void selfAndZeroPaymentsAreSkipped() {
+        Player a = game.getPlayer(0);
+        int balance = a.getBalance();
+        ledger.post(a, a, 100, Ledger.RENT);
+        ledger.post(a, game.getPlayer(1), 0, Ledger.RENT);
+        assertEquals(balance, a.getBalance());
+        assertEquals(0, ledger.getPosted());
+        assertEquals(0, ledger.getSize());
+        assertEquals(0, ledger.getTotal(Ledger.RENT));
+    }
+
+    /**
+     * Once the ring is full the oldest postings are overwritten, the rest read oldest first, and the totals keep
+     * every posting
+     */
+    @Test
+    void journalWrapsAround() {
+        Player a = game.getPlayer(0), b = game.getPlayer(1);
+        for(int amount = 1; amount <= 10; amount++) {
+            ledger.post(a, b, amount, Ledger.RENT);
+        }
+        assertEquals(10, ledger.getPosted());
+        assertEquals(4, ledger.getSize());
+        for(int i = 0; i < 4; i++) {
+            assertEquals(7 + i, ledger.get(i, Ledger.AMOUNT));
+            assertEquals(Ledger.RENT, ledger.get(i, Ledger.REASON));
+        }
+        assertEquals(55, ledger.getTotal(Ledger.RENT));
+    }
+
+    /**
+     * Gets the bank or a player
+     * @param index 0 for the bank, else the seat plus one
+     * @return the entity
+     */
+    private Entity entity(int index) {
+        return index == 0 ? game.getBanker() : game.getPlayer(index - 1);
+    }
+
+    /**
+     * Sums every balance in the game
+     * @return the bank's balance plus every player's
+     */
+    private long total() {
+        long total = game.getBanker().getBalance();
+        for(Player p : game.getPlayers()) {
+            total += p.getBalance();
+        }
+        return total;
+    }
+}
@@ -0,0 +1,101 @@
+/**
+ * Tests of the logarithmic histogram
+ *
+ * @author Dale Urquhart
+ * @since 2026-10-19
+ */
+
+package com.monopoly;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Histograms merged from shards must report what one histogram of all the values would, and every quantile must be
+ * close to the exact one without ever leaving the values recorded
+ */
+class LogHistogramTest {
+
+    /**
+     * Quantiles checked
+     */
+    private static final double[] QUANTILES = {0, 0.001, 0.01, 0.1, 0.25, 0.5, 0.75, 0.9, 0.99, 0.999, 1};
+
+    /**
+     * Merging two histograms gives the same quantiles as recording both sets of values in one
+     */
+    @Test
+    void mergeEqualsConcatenation() {
+        Random random = new Random(3);
+        long[] a = values(random, 5000), b = values(random, 3000);
+        LogHistogram left = histogram(a), right = histogram(b), both = histogram(a);
+        for(long value : b) both.record(value);
+
+        left.merge(right);
+        assertEquals(both.getCount(), left.getCount());
+        for(double q : QUANTILES) {
+            assertEquals(both.getQuantile(q), left.getQuantile(q), "quantile " + q);
+        }
+    }
+
+    /**
+     * Every quantile is within the bucket width of the exact one, and within the smallest and largest values
+     */
+    @Test
+    void quantilesCloseAndClamped() {
+        long[] values = values(new Random(5), 10000);
+        LogHistogram histogram = histogram(values);
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        for(double q : QUANTILES) {
+            long exact = sorted[(int) Math.max(0, Math.ceil(q * sorted.length) - 1)];
+            long quantile = histogram.getQuantile(q);
+            assertTrue(Math.abs(quantile - exact) <= Math.abs(exact) / 16 + 1, "quantile " + q + ": " + quantile + " against " + exact);
+            assertTrue(quantile >= sorted[0] && quantile <= sorted[sorted.length - 1], "quantile " + q + " out of range");
+        }
+    }
+
+    /**
+     * A value in the middle of a wide bucket is reported as itself, not as the bucket's middle
+     */
+    @Test
+    void singleValueIsExact() {
+        for(long value : new long[] {1000, 1001, 1_000_003, -77_777, Long.MAX_VALUE, Long.MIN_VALUE}) {
+            LogHistogram histogram = histogram(new long[] {value});
+            for(double q : QUANTILES) {
+                assertEquals(value, histogram.getQuantile(q));
+            }
+        }
+    }
+
+    /**
+     * Draws values over several orders of magnitude of both signs, as turn counts and balances have
+     * @param random random source
+     * @param count number of values
+     * @return the values
+     */
+    private static long[] values(Random random, int count) {
+        long[] values = new long[count];
+        for(int i = 0; i < count; i++) {
+            long magnitude = (long) Math.exp(random.nextDouble() * 14);
+            values[i] = random.nextInt(5) == 0 ? -magnitude : magnitude;
+        }
+        return values;
+    }
+
+    /**
+     * Records values in a new histogram
+     * @param values values to record
+     * @return the histogram
+     */
+    private static LogHistogram histogram(long[] values) {
+        LogHistogram histogram = new LogHistogram();
+        for(long value : values) histogram.record(value);
+        return histogram;
+    }
+}
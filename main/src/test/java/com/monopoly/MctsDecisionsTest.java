@@ -0,0 +1,51 @@
+/**
+ * Tests of the search bot's budget
+ *
+ * @author Dale Urquhart
+ * @since 2026-10-19
+ */
+
+package com.monopoly;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * A search without a deadline plays every rollout it was asked for; a far off deadline used to overflow and stop it
+ * after the first
+ */
+class MctsDecisionsTest {
+
+    /**
+     * Rollouts asked for per decision
+     */
+    private static final int ITERATIONS = 24;
+
+    /**
+     * A decision searched without a deadline plays exactly the rollouts asked for
+     */
+    @Test
+    void noDeadlinePlaysEveryRollout() {
+        Game game = Game.headless(new Random(1), GameRules.STANDARD, 2);
+        Player player = game.getCurrentPlayer();
+        Property property = (Property) game.getMap()[1];
+        player.setLocation(property);
+
+        MctsDecisions bot = new MctsDecisions(MctsDecisions.NO_DEADLINE, ITERATIONS, 1, 4, 1, BotDecisions.greedy(), null);
+        bot.buyProperty(game, player, property, false);
+        assertEquals(ITERATIONS, bot.getRollouts());
+    }
+
+    /**
+     * A search with neither a deadline nor a number of rollouts would never end, and is refused
+     */
+    @Test
+    void needsABudgetOrRollouts() {
+        assertThrows(IllegalArgumentException.class,
+            () -> new MctsDecisions(MctsDecisions.NO_DEADLINE, 0, 1, 4, 1, BotDecisions.greedy(), null));
+    }
+}
@@ -0,0 +1,83 @@
+/**
+ * Tests of running moments
+ *
+ * @author Dale Urquhart
+ * @since 2026-10-19
+ */
+
+package com.monopoly;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Moments added one value at a time, or merged from shards, must match the mean and standard deviation worked out in
+ * two passes over the values
+ */
+class MomentsTest {
+
+    /**
+     * Relative tolerance of the comparisons
+     */
+    private static final double TOLERANCE = 1e-9;
+
+    /**
+     * Moments merged from uneven shards, an empty one included, match a two-pass mean and standard deviation
+     */
+    @Test
+    void mergeMatchesTwoPass() {
+        Random random = new Random(11);
+        double[] values = new double[10000];
+        for(int i = 0; i < values.length; i++) {
+            // Far from zero, where a single pass sum of squares would lose its digits
+            values[i] = 1e6 + random.nextGaussian() * 250;
+        }
+
+        Moments merged = new Moments();
+        int[] ends = {1, 1, 700, 6000, values.length};
+        int start = 0;
+        for(int end : ends) {
+            Moments shard = new Moments();
+            for(int i = start; i < end; i++) shard.add(values[i]);
+            merged.merge(shard);
+            start = end;
+        }
+
+        double mean = 0;
+        for(double value : values) mean += value;
+        mean /= values.length;
+        double squares = 0, min = Double.POSITIVE_INFINITY, max = Double.NEGATIVE_INFINITY;
+        for(double value : values) {
+            squares += (value - mean) * (value - mean);
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+        double sd = Math.sqrt(squares / (values.length - 1));
+
+        assertEquals(values.length, merged.getCount());
+        assertEquals(mean, merged.getMean(), Math.abs(mean) * TOLERANCE);
+        assertEquals(sd, merged.getStandardDeviation(), sd * 1e-6);
+        assertEquals(min, merged.getMin());
+        assertEquals(max, merged.getMax());
+    }
+
+    /**
+     * Merging into empty moments copies the other's, and fewer than two values have no spread
+     */
+    @Test
+    void emptyAndSingle() {
+        Moments single = new Moments();
+        single.add(42);
+        assertEquals(0, single.getStandardDeviation());
+
+        Moments empty = new Moments();
+        empty.merge(single);
+        assertEquals(1, empty.getCount());
+        assertEquals(42, empty.getMean());
+        assertEquals(42, empty.getMin());
+        assertEquals(42, empty.getMax());
+    }
+}
@@ -0,0 +1,95 @@
+/**
+ * Tests of the check of a game's balances against its ledger
+ *
+ * @author Dale Urquhart
+ * @since 2026-10-19
+ */
+
+package com.monopoly;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Every posting moves matched amounts, so the check has to catch what the postings do not account for: a balance moved
+ * around the ledger, or one that wrapped around
+ */
+class MoneyCheckTest {
+
+    /**
+     * Game being checked
+     */
+    private Game game;
+
+    /**
+     * Check of the game
+     */
+    private MoneyCheck money;
+
+    /**
+     * Sets up a checked two player game
+     */
+    @BeforeEach
+    void setUp() {
+        game = Game.headless(new Random(1), GameRules.STANDARD, 2);
+        money = game.checkMoney();
+    }
+
+    /**
+     * Turns played only by postings leave every balance matching
+     */
+    @Test
+    void playedGameMatches() {
+        GameController controller = new GameController(game);
+        while(!game.isOver() && game.getTurnsPlayed() < 200) {
+            game.playTurn(controller);
+        }
+        assertTrue(money.getPostings() > 0);
+        assertEquals(0, money.getViolations(), money.getFirstViolation());
+    }
+
+    /**
+     * A balance moved without a posting is reported once, with its account and difference
+     */
+    @Test
+    void movedAroundTheLedger() {
+        Player player = game.getPlayer(1);
+        player.adjustBalance(100);
+        assertFalse(money.check(game, GameEvents.PHASE_ROLL));
+        assertTrue(money.getFirstViolation().contains(player.getName()));
+        assertTrue(money.getFirstViolation().contains("off by 100"));
+        assertTrue(money.check(game, GameEvents.PHASE_LANDING));
+        assertEquals(1, money.getViolations());
+    }
+
+    /**
+     * A posting that wraps an int balance past Integer.MAX_VALUE is reported
+     */
+    @Test
+    void wrappedBalance() {
+        Player player = game.getPlayer(0);
+        game.getBanker().pay(player, Integer.MAX_VALUE, Ledger.CARD);
+        assertTrue(player.getBalance() < 0);
+        assertFalse(money.check(game, GameEvents.PHASE_LANDING));
+        assertTrue(money.getFirstViolation().contains(player.getName()));
+    }
+
+    /**
+     * Nothing is reported while the balances match
+     */
+    @Test
+    void postingsMatch() {
+        game.getPlayer(0).pay(game.getPlayer(1), 250, Ledger.RENT);
+        game.getPlayer(1).pay(game.getBanker(), -40, Ledger.GO);
+        assertTrue(money.check(game, GameEvents.PHASE_LANDING));
+        assertEquals(2, money.getPostings());
+        assertNull(money.getFirstViolation());
+    }
+}
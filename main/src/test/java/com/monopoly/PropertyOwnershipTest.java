@@ -0,0 +1,139 @@
+/**
+ * Tests that a property is listed once, by its owner, whichever way it changes hands
+ *
+ * @author Dale Urquhart
+ * @since 2026-10-19
+ */
+
+package com.monopoly;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * An auctioned property used to be listed twice by its winner and once more by the bank, which counted towards false
+ * monopolies; every transfer now leaves each property in exactly its owner's list
+ */
+class PropertyOwnershipTest {
+
+    /**
+     * Game being played
+     */
+    private Game game;
+
+    /**
+     * Controller running the auctions
+     */
+    private GameController controller;
+
+    /**
+     * Sets up a two player game
+     */
+    @BeforeEach
+    void setUp() {
+        game = Game.headless(new Random(1), GameRules.STANDARD, 2);
+        controller = new GameController(game);
+    }
+
+    /**
+     * A property won at auction from the bank is listed once, by its winner only
+     */
+    @Test
+    void auctionFromTheBank() {
+        Property property = (Property) game.getMap()[1];
+        controller.handleAuction(property);
+        assertTrue(property.getOwner() instanceof Player, "Nobody won the auction");
+        assertListedOnceByOwner();
+    }
+
+    /**
+     * A property sold from one player to another moves from the seller's list to the buyer's
+     */
+    @Test
+    void saleBetweenPlayers() {
+        Property property = (Property) game.getMap()[1];
+        Player seller = game.getPlayer(0), buyer = game.getPlayer(1);
+        seller.buy(property);
+        buyer.buy(property, 100, game);
+        assertSame(buyer, property.getOwner());
+        assertEquals(0, seller.getProperties().size());
+        assertListedOnceByOwner();
+    }
+
+    /**
+     * A property sold back goes back to the bank's list, and the properties of a bankrupt player to their creditor's
+     */
+    @Test
+    void saleToTheBankAndBankruptcy() {
+        Player debtor = game.getPlayer(0), creditor = game.getPlayer(1);
+        Property sold = (Property) game.getMap()[1], kept = (Property) game.getMap()[3];
+        debtor.buy(sold);
+        debtor.buy(kept);
+        debtor.sell(sold);
+        assertSame(game.getBanker(), sold.getOwner());
+        assertListedOnceByOwner();
+
+        debtor.bankrupted(creditor, game);
+        assertSame(creditor, kept.getOwner());
+        assertListedOnceByOwner();
+    }
+
+    /**
+     * The ownership invariant catches a property listed twice by its owner, or left in the bank's list
+     */
+    @Test
+    void invariantCatchesStrayListings() {
+        Player player = game.getPlayer(0);
+        Property property = (Property) game.getMap()[1];
+        player.buy(property);
+        assertNull(Invariants.ownership(game));
+
+        player.addProperty(property);
+        assertNotNull(Invariants.ownership(game));
+        player.removeProperty(property);
+        assertNull(Invariants.ownership(game));
+
+        game.getBanker().addProperty(property);
+        assertNotNull(Invariants.ownership(game));
+    }
+
+    /**
+     * Checks that every property is in its owner's list once and in no other list
+     */
+    private void assertListedOnceByOwner() {
+        for(BoardSpace space : game.getMap()) {
+            if(space instanceof Property) {
+                Property property = (Property) space;
+                int listed = count(game.getBanker(), property);
+                for(Player player : game.getPlayers()) {
+                    listed += count(player, property);
+                }
+                assertEquals(1, count(property.getOwner(), property), property.getName() + " in its owner's list");
+                assertEquals(1, listed, property.getName() + " in every list");
+            }
+        }
+        assertNull(Invariants.ownership(game));
+    }
+
+    /**
+     * Counts the times an entity lists a property
+     * @param entity the entity
+     * @param property the property
+     * @return times listed
+     */
+    private static int count(Entity entity, Property property) {
+        int listed = 0;
+        for(Property p : entity.getProperties()) {
+            if(p == property) listed++;
+        }
+        return listed;
+    }
+}
@@ -0,0 +1,131 @@
+/**
+ * Tests of writing and reading columnar result files
+ *
+ * @author Dale Urquhart
+ * @since 2026-10-19
+ */
+
+package com.monopoly;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.File;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Rows written across many mapped segments read back the same, whatever segment size the reader maps them in
+ */
+class ResultFileTest {
+
+    /**
+     * Rows per segment the file is written in, as a power of two
+     */
+    private static final int SEGMENT_BITS = 6;
+
+    /**
+     * Rows written, spanning many segments and ending part way through one
+     */
+    private static final long ROWS = 1000;
+
+    /**
+     * Master seed written to the header
+     */
+    private static final long SEED = -42;
+
+    /**
+     * Names of the columns
+     */
+    private static final String[] NAMES = {"turns", "winner", "net_worth"};
+
+    /**
+     * Widths of the columns
+     */
+    private static final int[] WIDTHS = {ResultWriter.INT, ResultWriter.INT, ResultWriter.LONG};
+
+    /**
+     * Directory for the files
+     */
+    @TempDir
+    Path dir;
+
+    /**
+     * Every column of every row and the header read back as written
+     */
+    @Test
+    void roundTrip() throws Exception {
+        File path = dir.resolve("results.bin").toFile();
+        write(path, false);
+
+        for(int bits : new int[] {SEGMENT_BITS, SEGMENT_BITS - 2, ResultWriter.SEGMENT_BITS}) {
+            try (ResultReader reader = new ResultReader(path, bits)) {
+                assertEquals(ROWS, reader.getRows());
+                assertEquals(SEED, reader.getSeed());
+                assertArrayEquals(NAMES, reader.getNames());
+                assertEquals(2, reader.getColumn("net_worth"));
+                assertEquals(-1, reader.getColumn("missing"));
+                for(long row = 0; row < ROWS; row++) {
+                    for(int c = 0; c < NAMES.length; c++) {
+                        assertEquals(value(c, row), reader.get(c, row), NAMES[c] + " of row " + row);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * A resumed run keeps the rows already written, and a new run starts from zeroed rows
+     */
+    @Test
+    void keepOnlyWhenResuming() throws Exception {
+        File path = dir.resolve("results.bin").toFile();
+        write(path, false);
+        try (ResultWriter writer = new ResultWriter(path, NAMES, WIDTHS, ROWS, SEED, true, SEGMENT_BITS)) {
+            writer.putInt(0, 0, 7);
+        }
+        try (ResultReader reader = new ResultReader(path, SEGMENT_BITS)) {
+            assertEquals(7, reader.get(0, 0));
+            assertEquals(value(0, ROWS - 1), reader.get(0, ROWS - 1));
+        }
+
+        try (ResultWriter writer = new ResultWriter(path, NAMES, WIDTHS, ROWS, SEED, false, SEGMENT_BITS)) {
+            writer.putInt(0, 0, 7);
+        }
+        try (ResultReader reader = new ResultReader(path, SEGMENT_BITS)) {
+            assertEquals(7, reader.get(0, 0));
+            assertEquals(0, reader.get(0, ROWS - 1));
+        }
+    }
+
+    /**
+     * Writes every row of the file
+     * @param path file to write
+     * @param keep whether to keep rows already in the file
+     */
+    private static void write(File path, boolean keep) throws Exception {
+        try (ResultWriter writer = new ResultWriter(path, NAMES, WIDTHS, ROWS, SEED, keep, SEGMENT_BITS)) {
+            for(long row = 0; row < ROWS; row++) {
+                writer.putInt(0, row, (int) value(0, row));
+                writer.putInt(1, row, (int) value(1, row));
+                writer.putLong(2, row, value(2, row));
+            }
+        }
+    }
+
+    /**
+     * Gets the value written to a cell, different in every row and column and using each column's full width
+     * @param column index of the column
+     * @param row index of the row
+     * @return the value
+     */
+    private static long value(int column, long row) {
+        switch(column) {
+            case 0: return row * 3 + 1;
+            case 1: return -(int) row;
+            default: return (row << 40) - row;
+        }
+    }
+}
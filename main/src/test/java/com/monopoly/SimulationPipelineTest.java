@@ -0,0 +1,87 @@
+/**
+ * Tests of the simulation pipeline when a game fails
+ *
+ * @author Dale Urquhart
+ * @since 2026-10-19
+ */
+
+package com.monopoly;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * A game that throws must end the run with its exception, not leave it waiting on a batch that never comes back
+ */
+class SimulationPipelineTest {
+
+    /**
+     * Longest a failing run may take before it counts as hung
+     */
+    private static final Duration HUNG = Duration.ofSeconds(30);
+
+    /**
+     * A run whose games all throw ends with the exception and leaves no stage thread holding the JVM
+     */
+    @Test
+    void throwingGameEndsTheRun() {
+        Simulator simulator = new Simulator(64, 4, 2, 5, 100, 8);
+        // A negative tolerance is refused by the stall detector every game builds
+        simulator.setStall(10, -1, StallDetector.DRAW);
+        assertTimeoutPreemptively(HUNG, () -> assertThrows(IllegalArgumentException.class, simulator::run));
+        assertStagesStopped();
+    }
+
+    /**
+     * A run with a stopping rule drains between waves, which only finishes if a failed shard gave its batch back
+     */
+    @Test
+    void throwingGameEndsARunWithAStop() {
+        Simulator simulator = new Simulator(64, 4, 2, 5, 100, 8);
+        simulator.setStall(10, -1, StallDetector.DRAW);
+        simulator.setStop(new SequentialStop(SequentialStop.TURNS, 1, Double.NaN, 0.05, 16));
+        assertTimeoutPreemptively(HUNG, () -> assertThrows(IllegalArgumentException.class, simulator::run));
+        assertStagesStopped();
+    }
+
+    /**
+     * A batch taken and released without being submitted is free again, so a drain does not wait for it
+     */
+    @Test
+    void releasedBatchIsFree() throws InterruptedException {
+        SimulationPipeline pipeline = new SimulationPipeline(new Simulator(8, 4, 1, 5, 100, 8), 2, 8, 4);
+        pipeline.release(pipeline.take(0));
+        assertTimeoutPreemptively(HUNG, pipeline::drain);
+        pipeline.close();
+    }
+
+    /**
+     * Once a run is over the gauges read 0 rather than the last state of its pipeline, which they no longer hold
+     */
+    @Test
+    void gaugesReadZeroAfterTheRun() {
+        new Simulator(64, 4, 2, 5, 100, 8).run();
+        for(String line : Metrics.DEFAULT.scrape().split("\n")) {
+            if(line.startsWith("monopoly_simulation_")) {
+                assertEquals(0, Double.parseDouble(line.substring(line.lastIndexOf(' ') + 1)), line);
+            }
+        }
+    }
+
+    /**
+     * Checks that no stage thread is still running
+     */
+    private static void assertStagesStopped() {
+        for(Thread thread : Thread.getAllStackTraces().keySet()) {
+            String name = thread.getName();
+            boolean stage = name.equals("simulation-writer") || name.equals("simulation-aggregator");
+            assertFalse(stage && thread.isAlive() && !thread.isDaemon(), name + " is keeping the JVM alive");
+        }
+    }
+}
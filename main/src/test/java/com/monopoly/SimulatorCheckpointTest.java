@@ -0,0 +1,122 @@
+/**
+ * Tests of resuming a simulation from its checkpoint
+ *
+ * @author Dale Urquhart
+ * @since 2026-10-19
+ */
+
+package com.monopoly;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * A run with a stopping rule that is interrupted and resumed must stop where it would have without the interruption,
+ * after the same games and the same number of looks
+ */
+class SimulatorCheckpointTest {
+
+    /**
+     * Games games are looked at after
+     */
+    private static final long LOOK = 512;
+
+    /**
+     * Directory for the checkpoint
+     */
+    @TempDir
+    Path dir;
+
+    /**
+     * A run killed part way through its sixth wave resumes from its last checkpoint to the same stop as a run left alone
+     */
+    @Test
+    void resumedRunStopsWhereItWouldHave() throws Exception {
+        Simulator alone = simulator();
+        SequentialStop aloneStop = stop();
+        alone.setStop(aloneStop);
+        SimulationStats expected = alone.run();
+
+        File checkpoint = dir.resolve("run.ckpt").toFile(), killed = dir.resolve("killed.ckpt").toFile();
+        Simulator running = simulator();
+        running.setStop(stop());
+        running.setCheckpoint(checkpoint, 0);
+        Thread thread = new Thread(running::run, "checkpointed-run");
+        thread.start();
+        while(running.getPlayed() < 5 * LOOK + LOOK / 4 && thread.isAlive()) {
+            Thread.sleep(1);
+        }
+        // The checkpoint as a kill at this point would have left it, replaced whole so never half written
+        Files.copy(checkpoint.toPath(), killed.toPath());
+        thread.interrupt();
+        thread.join();
+
+        Simulator resumed = simulator();
+        SequentialStop resumedStop = stop();
+        resumed.setStop(resumedStop);
+        resumed.setCheckpoint(killed, 0);
+        SimulationStats actual = resumed.run();
+
+        assertEquals(expected.getGames(), actual.getGames());
+        assertEquals(aloneStop.describe(), resumedStop.describe());
+    }
+
+    /**
+     * A checkpoint written with a stopping rule can not be resumed with another
+     */
+    @Test
+    void differentRuleIsRefused() throws Exception {
+        File checkpoint = dir.resolve("run.ckpt").toFile();
+        Simulator first = simulator();
+        first.setStop(stop());
+        first.setCheckpoint(checkpoint, 0);
+        first.run();
+
+        Simulator second = simulator();
+        second.setStop(new SequentialStop(SequentialStop.TURNS, 1.2, Double.NaN, 0.05, LOOK));
+        assertThrows(IOException.class, () -> second.setCheckpoint(checkpoint, 0));
+    }
+
+    /**
+     * A checkpoint can not be resumed with other game rules, or with the money check turned on or off
+     */
+    @Test
+    void differentRulesAreRefused() throws Exception {
+        File checkpoint = dir.resolve("run.ckpt").toFile();
+        Simulator first = new Simulator(256, 4, 2, 5, 200, 64);
+        first.setCheckpoint(checkpoint, 0);
+        first.run();
+
+        Simulator richer = new Simulator(256, 4, 2, 5, 200, 64);
+        richer.setRules(new GameRules(50, 400, 1500, 0.1));
+        assertThrows(IOException.class, () -> richer.setCheckpoint(checkpoint, 0));
+
+        Simulator checked = new Simulator(256, 4, 2, 5, 200, 64);
+        checked.setCheckMoney(true);
+        assertThrows(IOException.class, () -> checked.setCheckpoint(checkpoint, 0));
+    }
+
+    /**
+     * Builds the run every test plays, several looks long
+     * @return the simulator
+     */
+    private static Simulator simulator() {
+        return new Simulator(8192, 4, 2, 5, 200, 64);
+    }
+
+    /**
+     * Builds the stopping rule of the run
+     * @return the rule
+     */
+    private static SequentialStop stop() {
+        return new SequentialStop(SequentialStop.TURNS, 1.5, Double.NaN, 0.05, LOOK);
+    }
+}
@@ -0,0 +1,84 @@
+/**
+ * Tests of the incremental Zobrist hash and the table keyed on it
+ *
+ * @author Dale Urquhart
+ * @since 2026-10-19
+ */
+
+package com.monopoly;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * The hash is kept up to date by every change to the game, and must always equal the hash of the game from scratch;
+ * a change that forgets to update it would only show as a search that quietly reuses the wrong rewards
+ */
+class ZobristHashTest {
+
+    /**
+     * Games played
+     */
+    private static final int GAMES = 300;
+
+    /**
+     * Turn cap of each game
+     */
+    private static final int MAX_TURNS = 1000;
+
+    /**
+     * The incremental hashes equal the hashes from scratch after every turn of many games, half of them with random
+     * decisions so mortgages, building and auctions are all reached
+     */
+    @Test
+    void incrementalHashEqualsComputed() {
+        for(int g = 0; g < GAMES; g++) {
+            long seed = Simulator.seedFor(1, g);
+            Game game = Game.headless(new Random(seed), GameRules.STANDARD, 4);
+            if(g % 2 == 1) {
+                game.setDecisions(new FuzzDecisions(seed));
+            }
+            GameController controller = new GameController(game);
+            assertHashes(game, g);
+
+            while(!game.isOver() && game.getTurnsPlayed() < MAX_TURNS) {
+                game.playTurn(controller);
+                assertHashes(game, g);
+            }
+        }
+    }
+
+    /**
+     * A key sharing another's slot reads as a miss, as the stored key XOR data no longer matches it
+     */
+    @Test
+    void mismatchedKeyIsAMiss() {
+        TranspositionTable table = new TranspositionTable(8);
+        long key = 0x123456789ABCDEFL;
+        // Differs only in a bit the slot index masks away
+        long other = key ^ (1L << 62);
+        table.add(key, 0.75);
+        assertNotEquals(TranspositionTable.MISS, table.get(key));
+        assertEquals(1, TranspositionTable.getVisits(table.get(key)));
+        assertEquals(0.75, TranspositionTable.getMean(table.get(key)), 1e-6);
+        assertEquals(TranspositionTable.MISS, table.get(other));
+
+        table.add(other, 0.25);
+        assertEquals(TranspositionTable.MISS, table.get(key));
+        assertEquals(1, TranspositionTable.getVisits(table.get(other)));
+    }
+
+    /**
+     * Checks both hashes of a game against the hashes from scratch
+     * @param game the game
+     * @param g index of the game, for the message
+     */
+    private static void assertHashes(Game game, int g) {
+        assertEquals(ZobristHash.compute(game), game.getHash().get(), "hash of game " + g + " at turn " + game.getTurnsPlayed());
+        assertEquals(ZobristHash.computeBoard(game), game.getHash().getBoard(), "board hash of game " + g + " at turn " + game.getTurnsPlayed());
+    }
+}